@@ -0,0 +1,99 @@
+package client;
+
+import model.GamePacket;
+import model.UserData;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+// 계정 요청용 짧은 연결: JOIN(ACCOUNT) 후 요청 하나 보내고 응답 하나 받음
+public class AccountClient {
+
+    private static final String HOST = "127.0.0.1";
+    private static final int PORT = 9999;
+    private static final int TIMEOUT_MS = 5000;
+
+    private AccountClient() {
+    }
+
+    // 로그인 성공 시 프로필을 UserData 에 저장하고 null, 실패 시 오류 메시지
+    public static String login(String nickname, String password) throws IOException {
+        GamePacket req = request("LOGIN", nickname);
+        req.setPassword(password);
+        GamePacket resp = send(req);
+        if (!resp.isCorrect()) return resp.getMessage();
+
+        UserData.setCurrent(resp.getSender(), resp.getAccountToken(), resp.getLevel(), resp.getExperience());
+        return null;
+    }
+
+    // 성공 시 null, 실패 시 오류 메시지
+    public static String register(String nickname, String password) throws IOException {
+        GamePacket req = request("REGISTER", nickname);
+        req.setPassword(password);
+        GamePacket resp = send(req);
+        return resp.isCorrect() ? null : resp.getMessage();
+    }
+
+    public static String changePassword(String oldPassword, String newPassword) throws IOException {
+        UserData user = UserData.getInstance();
+        if (user == null) return "로그인이 필요합니다.";
+
+        GamePacket req = request("CHANGE_PASSWORD", user.getNickname());
+        req.setAccountToken(UserData.currentToken());
+        req.setPassword(oldPassword);
+        req.setNewPassword(newPassword);
+        GamePacket resp = send(req);
+        return resp.isCorrect() ? null : resp.getMessage();
+    }
+
+    // 시작 시 저장된 로그인 확인: 서버가 토큰을 거부하면 로그아웃, 서버에 못 붙으면 캐시 유지
+    public static void restoreLastLogin() {
+        UserData user = UserData.getInstance();
+        if (user == null) return;
+
+        GamePacket req = request("RESUME", user.getNickname());
+        req.setAccountToken(UserData.currentToken());
+        try {
+            GamePacket resp = send(req);
+            if (resp.isCorrect()) {
+                user.applyProgress(resp.getLevel(), resp.getExperience());
+            } else {
+                System.out.println("[계정] 저장된 로그인 만료: " + resp.getMessage());
+                UserData.logout();
+            }
+        } catch (IOException e) {
+            System.out.println("[계정] 서버에 연결할 수 없어 저장된 프로필을 사용합니다.");
+        }
+    }
+
+    private static GamePacket request(String op, String nickname) {
+        GamePacket p = new GamePacket(GamePacket.Type.ACCOUNT, nickname, null);
+        p.setAccountOp(op);
+        return p;
+    }
+
+    private static GamePacket send(GamePacket request) throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(HOST, PORT), TIMEOUT_MS);
+            socket.setSoTimeout(TIMEOUT_MS);
+            ObjectOutputStream out = new ObjectOutputStream(socket.getOutputStream());
+            ObjectInputStream in = new ObjectInputStream(socket.getInputStream());
+
+            out.writeObject(new GamePacket(GamePacket.Type.JOIN, request.getSender(), "ACCOUNT", true));
+            out.writeObject(request);
+            out.flush();
+
+            Object resp = in.readObject();
+            if (!(resp instanceof GamePacket) || ((GamePacket) resp).getType() != GamePacket.Type.ACCOUNT) {
+                throw new IOException("서버로부터 올바른 응답을 받지 못했습니다.");
+            }
+            return (GamePacket) resp;
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+}
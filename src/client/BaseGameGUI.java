@@ -7,22 +7,27 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.net.Socket;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 public abstract class BaseGameGUI extends JFrame {
 
-    protected Socket socket;
-    protected ObjectOutputStream out;
-    protected ObjectInputStream in;
+    protected volatile Socket socket;
+    protected volatile ObjectOutputStream out;
+    protected volatile ObjectInputStream in;
     protected String playerName;
     protected GameLauncher launcher;
+
+    // 수신 패킷을 모아서 EDT 에서 묶음으로 처리 (커서/점수는 최신 값만)
+    private final PacketDispatcher dispatcher = new PacketDispatcher(this::handlePacket, BaseGameGUI::supersedeKey);
     
     protected String gameMode = "경쟁";
 
@@ -44,11 +49,11 @@ public abstract class BaseGameGUI extends JFrame {
     protected int hintsRemaining = 3;
     protected boolean isIntentionalExit = false;
     protected boolean isGameOver = false;
-    
-    // 경험치 중복 지급 방지 플래그
-    protected boolean isExpGiven = false;
-    
-    protected final Color[] PLAYER_COLORS = { Color.BLUE, Color.RED, Color.GREEN, Color.YELLOW, Color.ORANGE };
+    // 관전 중이면 화면만 보여주고 게임 입력은 보내지 않음
+    protected final boolean spectator;
+
+    // 서버 결과를 기다리는 내 클릭 (보낸 순서대로, EDT 에서만 사용)
+    private final List<PendingClick> pendingClicks = new ArrayList<>();
     protected Map<String, Integer> playerIndexMap = new HashMap<>();
 
     // 카운트다운 변수
@@ -63,6 +68,7 @@ public abstract class BaseGameGUI extends JFrame {
         this.out = out;
         this.playerName = playerName;
         this.launcher = launcher;
+        this.spectator = launcher != null && launcher.isSpectating();
 
         setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
         
@@ -89,6 +95,7 @@ public abstract class BaseGameGUI extends JFrame {
 
         buildUI();
         initGlobalKeyBindings();
+        if (spectator) appendStatus("[관전] 관전 중입니다. 게임에는 참여하지 않습니다.\n");
         
         Thread listenerThread = new Thread(this::listenFromServer);
         listenerThread.setDaemon(true);
@@ -168,26 +175,77 @@ public abstract class BaseGameGUI extends JFrame {
     }
 
     protected void listenFromServer() {
-        try {
-            while (true) {
-                Object obj = in.readObject();
-                if (!(obj instanceof GamePacket)) continue;
-                GamePacket p = (GamePacket) obj;
-                SwingUtilities.invokeLater(() -> handlePacket(p));
-            }
-        } catch (Exception e) {
-        	if (!isIntentionalExit && !isGameOver) {
-                SwingUtilities.invokeLater(() -> {
-                    if (isVisible()) {
-                        appendStatus("[시스템] 서버 연결이 끊어졌습니다.\n");
-                        handleGameExit();
+        while (true) {
+            try {
+                while (true) {
+                    Object obj = in.readObject();
+                    // 관전 방송은 서버가 미리 직렬화한 바이트로 옴
+                    if (obj instanceof byte[]) obj = GamePacket.fromFrame((byte[]) obj);
+                    if (!(obj instanceof GamePacket)) continue;
+                    GamePacket p = (GamePacket) obj;
+                    if (p.getType() == GamePacket.Type.IMAGE_CHUNK) {
+                        // 조각 조립/저장은 EDT 밖에서
+                        ImageCache.getInstance().accept(p);
+                        continue;
                     }
-                });
+                    if (launcher != null) launcher.trackSession(p);
+                    if (p.getType() == GamePacket.Type.ROUND_START) {
+                        ImageCache.getInstance().decodeNow(p.getImageHash(), p.getMessage());
+                    }
+                    dispatcher.offer(p);
+                }
+            } catch (Exception e) {
+                if (tryResume()) continue;
+                handleConnectionLost();
+                return;
             }
         }
     }
 
+    // 같은 묶음 안에서 뒤의 패킷이 앞의 것을 대체하는 경우의 키
+    private static String supersedeKey(GamePacket p) {
+        switch (p.getType()) {
+            case MOUSE_MOVE:
+                return "MOUSE|" + p.getSender();
+            case CURSOR_SNAPSHOT:
+                return "CURSORS";
+            case SCORE:
+                String msg = p.getMessage();
+                return (msg != null && msg.startsWith("SCORE_COOP:")) ? "SCORE_COOP" : "SCORE";
+            default:
+                return null;
+        }
+    }
+
+    // 끊긴 연결을 같은 자리로 복구 (놓친 이벤트는 서버가 다시 보내줌)
+    private boolean tryResume() {
+        if (isIntentionalExit || isGameOver || launcher == null) return false;
+
+        SwingUtilities.invokeLater(() -> appendStatus("[시스템] 연결이 끊어졌습니다. 재접속 중...\n"));
+        GameLauncher.Reconnection r = launcher.resumeSession();
+        if (r == null || isIntentionalExit) return false;
+
+        this.socket = r.socket;
+        this.in = r.in;
+        this.out = r.out;
+        SwingUtilities.invokeLater(() -> appendStatus("[시스템] 재접속 완료.\n"));
+        return true;
+    }
+
+    private void handleConnectionLost() {
+        if (!isIntentionalExit && !isGameOver) {
+            SwingUtilities.invokeLater(() -> {
+                if (isVisible()) {
+                    appendStatus("[시스템] 서버 연결이 끊어졌습니다.\n");
+                    handleGameExit();
+                }
+            });
+        }
+    }
+
     protected void sendPacket(GamePacket packet) {
+        if (spectator && packet.getType() != GamePacket.Type.IMAGE_REQUEST
+                && packet.getType() != GamePacket.Type.LEAVE) return;
         try {
             if (out != null) {
                 out.writeObject(packet);
@@ -224,9 +282,16 @@ public abstract class BaseGameGUI extends JFrame {
             case RESULT:
                 handleCommonResult(p);
                 break;
+            case ROUND_PREPARE:
+                // 라운드 사이 3초 동안 다음 이미지를 받아서 백그라운드에서 디코딩/축소
+                ImageCache.getInstance().prefetch(p.getImageHash(), p.getMessage(), this::sendPacket, gameBoardPanel.getSize());
+                break;
             case SCORE:
                 handleCommonScore(p);
                 break;
+            case ACCOUNT:
+                handleAccount(p);
+                break;
             default:
                 onPacketReceived(p);
                 break;
@@ -240,6 +305,7 @@ public abstract class BaseGameGUI extends JFrame {
     }
 
     protected void onRoundStart(GamePacket p) {
+        pendingClicks.clear();
         currentRound = p.getRound();
         roundLabel.setText("라운드 " + currentRound);
         hintsRemaining = p.getRemainingHints();
@@ -257,7 +323,6 @@ public abstract class BaseGameGUI extends JFrame {
             currentTeamScore = 0;
             myFoundCount = 0;
             globalFoundCount = 0;
-            isExpGiven = false; 
         } else {
             globalFoundCount = 0; 
         }
@@ -270,7 +335,19 @@ public abstract class BaseGameGUI extends JFrame {
 
         if (imagePath != null && answers != null && dim != null) {
             totalAnswers = answers.size();
-            gameBoardPanel.setRoundData(imagePath, answers, dim);
+            String hash = p.getImageHash();
+            String cachedPath = (hash != null) ? ImageCache.getInstance().getCachedPath(hash) : imagePath;
+            if (cachedPath != null) {
+                gameBoardPanel.setRoundData(cachedPath, answers, dim);
+            } else {
+                // 처음 보는 이미지: 서버에서 받는 동안 정답 정보만 먼저 설정
+                gameBoardPanel.prepareRound(answers, dim);
+                appendStatus("[시스템] 라운드 이미지를 받는 중...\n");
+                int round = currentRound;
+                ImageCache.getInstance().request(hash, imagePath, this::sendPacket, path -> {
+                    if (currentRound == round) gameBoardPanel.loadBackground(path);
+                });
+            }
             appendStatus("=== 라운드 " + currentRound + " 준비 ===\n");
             
             isGameActive = false; 
@@ -311,10 +388,10 @@ public abstract class BaseGameGUI extends JFrame {
     protected void drawCountdown(Graphics2D g2, int w, int h) {
         if (!isCountdownActive) return;
 
-        g2.setColor(new Color(0, 0, 0, 100));
+        g2.setColor(BoardStyle.COUNTDOWN_OVERLAY);
         g2.fillRect(0, 0, w, h);
 
-        g2.setFont(new Font("Dialog", Font.BOLD, 80));
+        g2.setFont(BoardStyle.COUNTDOWN_FONT);
         FontMetrics fm = g2.getFontMetrics();
         int tw = fm.stringWidth(countdownMessage);
         int th = fm.getAscent();
@@ -348,8 +425,6 @@ public abstract class BaseGameGUI extends JFrame {
             JOptionPane.showMessageDialog(this, msg, "게임 종료", JOptionPane.PLAIN_MESSAGE);
         }
 
-        addExperience(); 
-        
         appendStatus("\n3초 뒤 메인 메뉴로 이동합니다...\n");
 
         Timer exitTimer = new Timer(3000, e -> handleGameExit());
@@ -357,23 +432,15 @@ public abstract class BaseGameGUI extends JFrame {
         exitTimer.start();
     }
     
-    protected void addExperience() {
-        if (isExpGiven) return;
-        
-    	int calcScore = 0;
-        if ("협동".equals(gameMode)) {
-            calcScore = myFoundCount * 10; 
-        } else {
-            calcScore = myScore;
-        }
+    // 경험치는 서버가 게임 종료 시 계산해서 지급하고 결과만 알려줌
+    protected void handleAccount(GamePacket p) {
+        if (!"REWARD".equals(p.getAccountOp())) return;
 
-        int exp = 50 + (calcScore / 2);
-        if (exp < 0) exp = 0;
-
-        UserData.getInstance().addExperience(exp);
-        appendStatus("[경험치 획득] " + exp + " EXP\n");
-        
-        isExpGiven = true; 
+        UserData userData = UserData.getInstance();
+        if (userData != null && p.getSender() != null && p.getSender().equals(userData.getNickname())) {
+            userData.applyProgress(p.getLevel(), p.getExperience());
+        }
+        appendStatus("[경험치 획득] " + p.getExpGained() + " EXP\n");
     }
 
     private JPanel createRankingPanel(String data) {
@@ -450,23 +517,17 @@ public abstract class BaseGameGUI extends JFrame {
     protected void handleCommonResult(GamePacket p) {
         boolean correct = p.isCorrect();
         String sender = p.getSender();
+        Color markColor = markColorOf(sender);
+        boolean predicted = reconcileResult(p, markColor);
         
         if (correct) {
             int idx = p.getAnswerIndex();
-            Point center = new Point(0,0);
+            Point center = answerCenter(idx);
             if (gameBoardPanel.originalAnswers != null && idx < gameBoardPanel.originalAnswers.size()) {
-                Rectangle r = gameBoardPanel.originalAnswers.get(idx);
-                center = new Point(r.x + r.width/2, r.y + r.height/2);
                 gameBoardPanel.foundStatus[idx] = true;
             }
-            Color markColor = Color.GREEN; 
-            if ("경쟁".equals(gameMode)) {
-                int pIdx = playerIndexMap.getOrDefault(sender, 0);
-                int colorIdx = Math.max(0, Math.min(pIdx, PLAYER_COLORS.length - 1));
-                markColor = PLAYER_COLORS[colorIdx];
-            }
             
-            gameBoardPanel.addMark(center, true, markColor);
+            if (!predicted) gameBoardPanel.addMark(center, true, markColor);
             globalFoundCount++;
             if (playerName.equals(p.getSender())) {
                 myFoundCount++;
@@ -475,7 +536,7 @@ public abstract class BaseGameGUI extends JFrame {
                 }
             }
         } else {
-            if ("협동".equals(gameMode) || playerName.equals(p.getSender())) {
+            if (!predicted && ("협동".equals(gameMode) || playerName.equals(p.getSender()))) {
                 gameBoardPanel.addMark(new Point((int)p.getX(), (int)p.getY()), false, null);
             }
         }
@@ -485,6 +546,75 @@ public abstract class BaseGameGUI extends JFrame {
         updateScoreDisplay();
     }
 
+    // 클릭을 보내기 직전에 호출: 서버 결과를 기다리지 않고 로컬 판정대로 마크를 먼저 그려둠
+    protected void predictClick(int answerIndex, double x, double y) {
+        BaseGameBoardPanel.GameMark mark;
+        if (answerIndex >= 0) {
+            mark = gameBoardPanel.addPendingMark(answerCenter(answerIndex), true, markColorOf(playerName));
+        } else {
+            mark = gameBoardPanel.addPendingMark(new Point((int)x, (int)y), false, null);
+        }
+        pendingClicks.add(new PendingClick(answerIndex, mark));
+    }
+
+    // RESULT 로 예측 마크를 확정/취소. 예측 마크가 그대로 확정되면 true (새로 그릴 필요 없음)
+    protected boolean reconcileResult(GamePacket p, Color confirmedColor) {
+        if (!playerName.equals(p.getSender())) {
+            // 다른 사람이 먼저 찾은 정답이면 서버에서 내 클릭은 '이미 찾음'이 되므로 바로 취소
+            if (p.isCorrect()) {
+                for (PendingClick pc : pendingClicks) {
+                    if (pc.answerIndex == p.getAnswerIndex() && !pc.rolledBack) {
+                        gameBoardPanel.removeMark(pc.mark);
+                        pc.rolledBack = true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        PendingClick pc = null;
+        for (int i = 0; i < pendingClicks.size(); i++) {
+            if (pendingClicks.get(i).answerIndex == p.getAnswerIndex()) {
+                pc = pendingClicks.remove(i);
+                break;
+            }
+        }
+        if (pc == null) return false;   // 예측 없이 보낸 클릭
+
+        boolean predictedCorrect = pc.answerIndex >= 0;
+        if (!pc.rolledBack && predictedCorrect == p.isCorrect()) {
+            gameBoardPanel.confirmMark(pc.mark, p.isCorrect() ? confirmedColor : null);
+            return true;
+        }
+        // 예측이 틀림: 먼저 그린 마크를 지우고 서버 결과대로 처리
+        if (!pc.rolledBack) gameBoardPanel.removeMark(pc.mark);
+        return false;
+    }
+
+    protected Point answerCenter(int idx) {
+        if (gameBoardPanel.originalAnswers != null && idx >= 0 && idx < gameBoardPanel.originalAnswers.size()) {
+            Rectangle r = gameBoardPanel.originalAnswers.get(idx);
+            return new Point(r.x + r.width/2, r.y + r.height/2);
+        }
+        return new Point(0,0);
+    }
+
+    protected Color markColorOf(String player) {
+        if (!"경쟁".equals(gameMode)) return Color.GREEN;
+        return BoardStyle.playerColor(playerIndexMap.getOrDefault(player, 0));
+    }
+
+    private static class PendingClick {
+        final int answerIndex;
+        final BaseGameBoardPanel.GameMark mark;
+        boolean rolledBack;
+
+        PendingClick(int answerIndex, BaseGameBoardPanel.GameMark mark) {
+            this.answerIndex = answerIndex;
+            this.mark = mark;
+        }
+    }
+
     protected void handleCommonScore(GamePacket p) {
         String msg = p.getMessage();
         if (msg == null) return;
@@ -497,7 +627,7 @@ public abstract class BaseGameGUI extends JFrame {
             try {
                 String[] lines = msg.split("\n");
                 for (String line : lines) {
-                    if (line.contains(playerName)) {
+                    if (line.startsWith(playerName + " : ")) {
                         String[] parts = line.split(" : ");
                         if (parts.length > 1) {
                             String scoreStr = parts[1].replaceAll("[^0-9-]", "");
@@ -516,6 +646,9 @@ public abstract class BaseGameGUI extends JFrame {
         isGameActive = false;
         if (swingTimer != null) swingTimer.stop();
 
+        if (launcher != null) launcher.endSession();
+        sendPacket(new GamePacket(GamePacket.Type.LEAVE, playerName, "LEAVE"));
+
         try { if (socket != null) socket.close(); } catch (Exception e) {}
         dispose();
 
@@ -563,6 +696,11 @@ public abstract class BaseGameGUI extends JFrame {
 
     protected class BaseGameBoardPanel extends JPanel {
         protected Image backgroundImage;
+        protected String backgroundPath;
+
+        // 현재 패널 크기로 미리 축소해 둔 배경 (크기 변경/라운드 변경 시에만 다시 만듦)
+        private BufferedImage scaledBackground;
+        private Image scaledSource;
         protected List<Rectangle> originalAnswers;
         protected boolean[] foundStatus;
         protected Dimension originalDimension;
@@ -573,10 +711,30 @@ public abstract class BaseGameGUI extends JFrame {
         protected Timer blinkTimer;
         protected boolean blinkState = true;
 
+        // 부분 다시 그리기 영역 크기 (그리는 도형 크기 + 여유)
+        protected static final int HINT_HALF_SIZE = 30;
+        protected static final int MARK_HALF_SIZE = 24;
+        protected static final int CURSOR_LABEL_WIDTH = 100;
+        protected static final int CURSOR_LABEL_HEIGHT = 20;
+
+        // 배율/오프셋 캐시 (레이아웃이 바뀔 때만 갱신)
+        private Dimension layoutDimension;
+        private int layoutWidth = -1;
+        private int layoutHeight = -1;
+        private double layoutScale = 1.0;
+        private final Point layoutOffset = new Point(0, 0);
+        private int layoutImageW;
+        private int layoutImageH;
+
         public BaseGameBoardPanel() {
             blinkTimer = new Timer(500, e -> {
                 blinkState = !blinkState;
-                repaint();
+                // 깜빡이는 힌트 영역만 다시 그림
+                Rectangle dirty = null;
+                for (HintMark hint : hints) {
+                    dirty = union(dirty, screenBounds(hint.position, HINT_HALF_SIZE));
+                }
+                if (dirty != null) repaint(dirty);
             });
             blinkTimer.start();
         }
@@ -586,7 +744,7 @@ public abstract class BaseGameGUI extends JFrame {
             this.originalDimension = dim;
             this.foundStatus = new boolean[answers.size()];
             try {
-                backgroundImage = new ImageIcon(path).getImage();
+                setBackgroundFrom(path);
                 if (backgroundImage.getWidth(null) > 0) {
                     double ratio = (double) dim.height / dim.width;
                     setPreferredSize(new Dimension(500, (int)(500 * ratio)));
@@ -597,6 +755,33 @@ public abstract class BaseGameGUI extends JFrame {
             clearMarks();
         }
 
+        // 이미지 없이 라운드 정보만 설정 (이미지는 받은 뒤 loadBackground)
+        public void prepareRound(List<Rectangle> answers, Dimension dim) {
+            this.originalAnswers = answers;
+            this.originalDimension = dim;
+            this.foundStatus = new boolean[answers.size()];
+            this.backgroundImage = null;
+            this.backgroundPath = null;
+            double ratio = (double) dim.height / dim.width;
+            setPreferredSize(new Dimension(500, (int)(500 * ratio)));
+            clearMarks();
+        }
+
+        public void loadBackground(String path) {
+            setBackgroundFrom(path);
+            if (backgroundImage.getWidth(null) <= 0) {
+                appendStatus("[에러] 이미지 로드 실패: " + path + "\n");
+            }
+            repaint();
+        }
+
+        // 미리 디코딩된 이미지가 있으면 그대로 사용 (EDT 에서 JPEG 디코딩하지 않음)
+        protected void setBackgroundFrom(String path) {
+            Image prepared = ImageCache.getInstance().getDecoded(path);
+            backgroundImage = (prepared != null) ? prepared : new ImageIcon(path).getImage();
+            backgroundPath = path;
+        }
+
         public void clearMarks() {
             marks.clear();
             hints.clear();
@@ -605,22 +790,86 @@ public abstract class BaseGameGUI extends JFrame {
         
         public void addHint(Point p) {
             hints.add(new HintMark(p));
-            repaint();
+            repaint(screenBounds(p, HINT_HALF_SIZE));
         }
 
         public void addMark(Point p, boolean correct, Color color) {
             marks.add(new GameMark(p, correct, color));
-            if (correct) {
-                hints.removeIf(h -> h.position.distance(p) < 30);
+            Rectangle dirty = screenBounds(p, MARK_HALF_SIZE);
+            if (correct) removeHintsNear(p, dirty);
+            repaint(dirty);
+        }
+
+        // 서버 확인 전까지 점선으로 그리는 예측 마크
+        public GameMark addPendingMark(Point p, boolean correct, Color color) {
+            GameMark m = new GameMark(p, correct, color);
+            m.pending = true;
+            marks.add(m);
+            repaint(screenBounds(p, MARK_HALF_SIZE));
+            return m;
+        }
+
+        public void confirmMark(GameMark m, Color color) {
+            m.pending = false;
+            if (color != null) m.color = color;
+            Rectangle dirty = screenBounds(m.p, MARK_HALF_SIZE);
+            if (m.correct) removeHintsNear(m.p, dirty);
+            repaint(dirty);
+        }
+
+        public void removeMark(GameMark m) {
+            if (marks.remove(m)) repaint(screenBounds(m.p, MARK_HALF_SIZE));
+        }
+
+        private void removeHintsNear(Point p, Rectangle dirty) {
+            Iterator<HintMark> it = hints.iterator();
+            while (it.hasNext()) {
+                HintMark h = it.next();
+                if (h.position.distance(p) < 30) {
+                    dirty.add(screenBounds(h.position, HINT_HALF_SIZE));
+                    it.remove();
+                }
             }
-            repaint();
         }
 
         public void removeExpiredMarks() {
             long now = System.currentTimeMillis();
-            if (marks.removeIf(m -> !m.correct && now > m.expiryTime)) {
-                repaint();
+            Rectangle dirty = null;
+            Iterator<GameMark> it = marks.iterator();
+            while (it.hasNext()) {
+                GameMark m = it.next();
+                if (!m.correct && now > m.expiryTime) {
+                    dirty = union(dirty, screenBounds(m.p, MARK_HALF_SIZE));
+                    it.remove();
+                }
             }
+            if (dirty != null) repaint(dirty);
+        }
+
+        // 게임 좌표의 점을 중심으로 한 화면 영역 (halfSize 는 화면 픽셀 기준, 선 두께 여유 포함)
+        protected Rectangle screenBounds(Point2D gamePoint, int halfSize) {
+            double scale = getScale();
+            Point offset = getOffset();
+            int x = (int)(offset.x + gamePoint.getX() * scale);
+            int y = (int)(offset.y + gamePoint.getY() * scale);
+            return new Rectangle(x - halfSize, y - halfSize, halfSize * 2, halfSize * 2);
+        }
+
+        // 커서 이미지와 위쪽 이름표까지 포함한 화면 영역
+        protected Rectangle cursorBounds(int x, int y, int size) {
+            return new Rectangle(x - 2, y - CURSOR_LABEL_HEIGHT, Math.max(size, CURSOR_LABEL_WIDTH) + 4, size + CURSOR_LABEL_HEIGHT + 2);
+        }
+
+        // 커서가 움직였을 때 이전/새 위치만 다시 그림
+        protected void repaintCursor(Rectangle oldBounds, Rectangle newBounds) {
+            Rectangle dirty = union(oldBounds, newBounds);
+            if (dirty != null) repaint(dirty);
+        }
+
+        protected Rectangle union(Rectangle a, Rectangle b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            return a.union(b);
         }
         
         public Point2D.Double toGameCoords(Point screenPoint) {
@@ -660,25 +909,66 @@ public abstract class BaseGameGUI extends JFrame {
         }
         
         protected double getScale() {
-            if (originalDimension == null) return 1.0;
-            return Math.min((double) getWidth() / originalDimension.width, 
-                            (double) getHeight() / originalDimension.height);
+            updateLayout();
+            return layoutScale;
         }
-        
+
+        // 캐시된 값이므로 읽기만 할 것
         protected Point getOffset() {
-            if (originalDimension == null) return new Point(0,0);
-            double scale = getScale();
-            int w = (int)(originalDimension.width * scale);
-            int h = (int)(originalDimension.height * scale);
-            return new Point((getWidth() - w)/2, (getHeight() - h)/2);
+            updateLayout();
+            return layoutOffset;
+        }
+
+        // 패널 크기나 원본 이미지 크기가 바뀐 경우에만 배율/오프셋 다시 계산
+        private void updateLayout() {
+            int panelW = getWidth();
+            int panelH = getHeight();
+            if (layoutDimension == originalDimension && layoutWidth == panelW && layoutHeight == panelH) return;
+
+            layoutDimension = originalDimension;
+            layoutWidth = panelW;
+            layoutHeight = panelH;
+            if (originalDimension == null) {
+                layoutScale = 1.0;
+                layoutOffset.setLocation(0, 0);
+                layoutImageW = 0;
+                layoutImageH = 0;
+                return;
+            }
+            layoutScale = Math.min((double) panelW / originalDimension.width,
+                                   (double) panelH / originalDimension.height);
+            layoutImageW = (int)(originalDimension.width * layoutScale);
+            layoutImageH = (int)(originalDimension.height * layoutScale);
+            layoutOffset.setLocation((panelW - layoutImageW)/2, (panelH - layoutImageH)/2);
         }
 
         protected void drawBackground(Graphics2D g2) {
-            double scale = getScale();
             Point offset = getOffset();
-            g2.drawImage(backgroundImage, offset.x, offset.y, 
-                        (int)(originalDimension.width * scale), 
-                        (int)(originalDimension.height * scale), this);
+            int w = layoutImageW;
+            int h = layoutImageH;
+
+            BufferedImage scaled = getScaledBackground(w, h);
+            if (scaled != null) {
+                g2.drawImage(scaled, offset.x, offset.y, null);
+            } else {
+                g2.drawImage(backgroundImage, offset.x, offset.y, w, h, this);
+            }
+        }
+
+        // 매 프레임 축소하지 않도록, 크기나 이미지가 바뀔 때만 화면 호환 이미지로 다시 만듦
+        private BufferedImage getScaledBackground(int w, int h) {
+            if (w <= 0 || h <= 0 || backgroundImage.getWidth(null) <= 0) return null;
+
+            if (scaledBackground == null || scaledSource != backgroundImage
+                    || scaledBackground.getWidth() != w || scaledBackground.getHeight() != h) {
+                // 다음 라운드 미리 받기에서 같은 크기로 축소해 둔 이미지가 있으면 그대로 사용
+                Image prepared = (backgroundPath != null) ? ImageCache.getInstance().getScaled(backgroundPath, w, h) : null;
+                scaledBackground = (prepared instanceof BufferedImage)
+                        ? (BufferedImage) prepared
+                        : ImageCache.toCompatible(backgroundImage, w, h);
+                scaledSource = backgroundImage;
+            }
+            return scaledBackground;
         }
 
         protected void drawHints(Graphics2D g2) {
@@ -686,13 +976,14 @@ public abstract class BaseGameGUI extends JFrame {
             double scale = getScale();
             Point offset = getOffset();
             
-            for (HintMark hint : hints) {
+            g2.setColor(BoardStyle.HINT_RING);
+            g2.setStroke(BoardStyle.HINT_STROKE);
+            g2.setFont(BoardStyle.HINT_FONT);
+            for (int i = 0; i < hints.size(); i++) {
+                HintMark hint = hints.get(i);
                 int x = (int)(offset.x + hint.position.x * scale);
                 int y = (int)(offset.y + hint.position.y * scale);
-                g2.setColor(new Color(255, 255, 0, 200));
-                g2.setStroke(new BasicStroke(4));
                 g2.drawOval(x - 25, y - 25, 50, 50);
-                g2.setFont(new Font("Dialog", Font.BOLD, 30));
                 g2.drawString("★", x - 15, y + 10);
             }
         }
@@ -701,17 +992,18 @@ public abstract class BaseGameGUI extends JFrame {
             double scale = getScale();
             Point offset = getOffset();
             
-            for (GameMark m : marks) {
+            g2.setFont(BoardStyle.MARK_FONT_ARIAL);
+            for (int i = 0; i < marks.size(); i++) {
+                GameMark m = marks.get(i);
                 int x = (int)(offset.x + m.p.x * scale);
                 int y = (int)(offset.y + m.p.y * scale);
                 
                 if (m.correct) {
                     g2.setColor(m.color != null ? m.color : Color.GREEN);
-                    g2.setStroke(new BasicStroke(3));
+                    g2.setStroke(m.pending ? BoardStyle.MARK_PENDING_STROKE : BoardStyle.MARK_STROKE);
                     g2.drawOval(x - 20, y - 20, 40, 40);
                 } else {
-                    g2.setColor(Color.RED);
-                    g2.setFont(new Font("Arial", Font.BOLD, 28));
+                    g2.setColor(BoardStyle.MARK_WRONG);
                     g2.drawString("X", x - 10, y + 10);
                 }
             }
@@ -722,6 +1014,7 @@ public abstract class BaseGameGUI extends JFrame {
             boolean correct;
             Color color;
             long expiryTime;
+            boolean pending;   // 서버 확인 전 예측 마크
             GameMark(Point p, boolean c, Color col) {
                 this.p = p; this.correct = c; this.color = col;
                 this.expiryTime = c ? -1 : System.currentTimeMillis() + 1000;
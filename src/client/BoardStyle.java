@@ -0,0 +1,58 @@
+package client;
+
+import java.awt.*;
+
+// 게임판 그리기에 쓰는 폰트/선/색을 한 번만 만들어 공유 (매 프레임 새로 만들지 않음)
+final class BoardStyle {
+
+    // 힌트
+    static final Color HINT_RING = new Color(255, 255, 0, 200);
+    static final Color HINT_STAR = Color.YELLOW;
+    static final Stroke HINT_STROKE = new BasicStroke(4);
+    static final Font HINT_FONT = new Font("Dialog", Font.BOLD, 30);
+
+    // 정답/오답 마크
+    static final Color MARK_CORRECT = new Color(0, 255, 0, 200);
+    static final Color MARK_WRONG = Color.RED;
+    static final Stroke MARK_STROKE = new BasicStroke(3);
+    static final Stroke MARK_PENDING_STROKE = new BasicStroke(3, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER,
+            10f, new float[]{6f, 4f}, 0f);
+    static final Font MARK_FONT = new Font("Dialog", Font.BOLD, 28);
+    static final Font MARK_FONT_ARIAL = new Font("Arial", Font.BOLD, 28);
+
+    // 커서 이름표
+    static final Font CURSOR_LABEL_FONT = new Font("Dialog", Font.BOLD, 10);
+    static final Font CURSOR_LABEL_FONT_LARGE = new Font("Dialog", Font.BOLD, 12);
+
+    // 플래시 모드 아이템
+    static final Color ITEM_FREEZE = new Color(100, 150, 255, 220);
+    static final Color ITEM_DEFAULT = new Color(255, 215, 0, 220);
+    static final Stroke ITEM_STROKE = new BasicStroke(2);
+    static final Font ITEM_FONT = new Font("Dialog", Font.BOLD, 16);
+
+    // 얼음 효과
+    static final Color FROZEN_OVERLAY = new Color(100, 150, 255, 100);
+    static final Font FROZEN_FONT = new Font("Dialog", Font.BOLD, 30);
+
+    // 카운트다운
+    static final Color COUNTDOWN_OVERLAY = new Color(0, 0, 0, 100);
+    static final Font COUNTDOWN_FONT = new Font("Dialog", Font.BOLD, 80);
+
+    // 플레이어 색 (앞 5명은 고정 색, 그 뒤는 색상환을 황금각으로 돌려가며 겹치지 않게)
+    private static final Color[] PLAYER_COLORS = { Color.BLUE, Color.RED, Color.GREEN, Color.YELLOW, Color.ORANGE };
+    private static final java.util.Map<Integer, Color> extraPlayerColors = new java.util.concurrent.ConcurrentHashMap<>();
+
+    static Color playerColor(int idx) {
+        if (idx < 0) idx = 0;
+        if (idx < PLAYER_COLORS.length) return PLAYER_COLORS[idx];
+        return extraPlayerColors.computeIfAbsent(idx,
+                i -> Color.getHSBColor((i * 0.618034f) % 1f, 0.75f, 0.95f));
+    }
+
+    // 프레임 통계 표시
+    static final Color STATS_BACKGROUND = new Color(0, 0, 0, 180);
+    static final Font STATS_FONT = new Font("Monospaced", Font.PLAIN, 12);
+
+    private BoardStyle() {
+    }
+}
@@ -1,11 +1,14 @@
 package client;
 
+import model.CursorPosition;
 import model.GamePacket;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.net.Socket;
@@ -26,15 +29,34 @@ public class FlashlightGame extends BaseGameGUI {
     private Point myCursorPos = new Point(250, 200); // 내 커서(손전등) 위치
     
     private final boolean[] keys = new boolean[256];
-    private Timer moveTimer;
     private long lastSendTime = 0;
+
+    // 렌더 루프: 한 틱에서 입력 처리 + 모아둔 변경 영역을 한 번에 다시 그림
+    private static final int FRAME_MS = 16;
+    private static final int STATS_REFRESH_FRAMES = 15;
+    private static final Rectangle STATS_BOUNDS = new Rectangle(4, 4, 330, 40);
+    private static final File FRAME_STATS_FILE = new File("logs", "frame-stats.csv");
+    private Timer renderTimer;
+    private Rectangle pendingDirty;
+    private final FrameStats frameStats = new FrameStats();
+    private boolean showFrameStats = false;
+    private int framesSinceStats = 0;
     
     private final Map<Integer, ItemData> items = new HashMap<>();
     private final Map<String, RemoteCursor> remoteCursors = new HashMap<>();
+    // 그리기용 목록: 패킷이 올 때만 다시 채우고, paintComponent는 배열만 돎 (반복자/박싱 없음)
+    private ItemData[] itemRender = new ItemData[8];
+    private int itemRenderCount = 0;
+    private RemoteCursor[] cursorRender = new RemoteCursor[8];
+    private int cursorRenderCount = 0;
     
     private boolean isFrozen = false;
     private Timer freezeTimer;
     
+    private static final Color DARKNESS = new Color(0, 0, 0, 250);
+    private BufferedImage darknessMask;
+    private int darknessMaskRadius;
+
     private Image myCursorImage;
     private final Map<Integer, Image> cursorImageCache = new HashMap<>();
 
@@ -60,8 +82,9 @@ public class FlashlightGame extends BaseGameGUI {
         setLocalCursorInvisible(); // 시스템 커서 숨김
         setupKeyBindings();
 
-        moveTimer = new Timer(16, e -> updatePosition());
-        moveTimer.start();
+        renderTimer = new Timer(FRAME_MS, e -> renderTick());
+        renderTimer.setCoalesce(true);
+        renderTimer.start();
 
         handlePacket(startPacket); // 첫 라운드 시작
         
@@ -88,7 +111,8 @@ public class FlashlightGame extends BaseGameGUI {
     private Image getCursorImageByIndex(int idx) {
         if (cursorImageCache.containsKey(idx)) return cursorImageCache.get(idx);
         try {
-            String path = "images/cursor" + (idx + 1) + ".png";
+            // 커서 그림은 5개, 6번째 플레이어부터는 돌려 씀
+            String path = "images/cursor" + (Math.max(0, idx) % 5 + 1) + ".png";
             Image img = new ImageIcon(path).getImage();
             if (img.getWidth(null) == -1) img = new ImageIcon("images/cursor1.png").getImage();
             cursorImageCache.put(idx, img);
@@ -188,7 +212,7 @@ public class FlashlightGame extends BaseGameGUI {
                 this.foundStatus = new boolean[answers.size()];
 
                 try {
-                    backgroundImage = new ImageIcon(path).getImage();
+                    setBackgroundFrom(path);
                     if (backgroundImage.getWidth(null) == -1) {
                     	throw new Exception("이미지 파일 로드 실패: " + path);
                     }
@@ -205,11 +229,21 @@ public class FlashlightGame extends BaseGameGUI {
                 }
                 clearMarks();
                 items.clear(); 
+                syncItemRender();
             }
         	
         	@Override
             protected void paintComponent(Graphics g) {
+                // FPS는 실제로 그린 프레임 기준 (바뀐 게 없어 건너뛴 틱은 세지 않음)
+                long paintStart = System.nanoTime();
+                frameStats.onFrame(paintStart);
                 Graphics2D g2 = (Graphics2D) g;
+                paintBoard(g2);
+                if (showFrameStats) drawFrameStats(g2);
+                frameStats.onPaint(System.nanoTime() - paintStart);
+            }
+
+            private void paintBoard(Graphics2D g2) {
                 g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                 
                 int panelW = getWidth();
@@ -233,88 +267,84 @@ public class FlashlightGame extends BaseGameGUI {
 
                 // 힌트
                 if (blinkState) {
-                    for (HintMark hint : hints) {
+                    g2.setStroke(BoardStyle.HINT_STROKE);
+                    g2.setFont(BoardStyle.HINT_FONT);
+                    for (int i = 0; i < hints.size(); i++) {
+                        HintMark hint = hints.get(i);
                         int hx = (int)(offset.x + hint.position.x * scale);
                         int hy = (int)(offset.y + hint.position.y * scale);
                         
-                        g2.setColor(new Color(255, 255, 0, 200));
-                        g2.setStroke(new BasicStroke(4));
+                        g2.setColor(BoardStyle.HINT_RING);
                         g2.drawOval(hx - 25, hy - 25, 50, 50);
                         
-                        g2.setColor(Color.YELLOW);
-                        g2.setFont(new Font("Dialog", Font.BOLD, 30));
+                        g2.setColor(BoardStyle.HINT_STAR);
                         g2.drawString("★", hx - 15, hy + 10);
                     }
                 }
 
                 // 마크
-                for (GameMark m : marks) {
+                g2.setFont(BoardStyle.MARK_FONT);
+                for (int i = 0; i < marks.size(); i++) {
+                    GameMark m = marks.get(i);
                     int mx = (int)(offset.x + m.p.x * scale);
                     int my = (int)(offset.y + m.p.y * scale);
                     
                     if (m.correct) {
-                        g2.setColor(m.color != null ? m.color : new Color(0, 255, 0, 200));
-                        g2.setStroke(new BasicStroke(3));
+                        g2.setColor(m.color != null ? m.color : BoardStyle.MARK_CORRECT);
+                        g2.setStroke(m.pending ? BoardStyle.MARK_PENDING_STROKE : BoardStyle.MARK_STROKE);
                         g2.drawOval(mx - 20, my - 20, 40, 40);
                     } else {
-                        g2.setColor(Color.RED);
-                        g2.setFont(new Font("Dialog", Font.BOLD, 28));
+                        g2.setColor(BoardStyle.MARK_WRONG);
                         g2.drawString("X", mx - 10, my + 10);
                     }
                 }
 
                 // 아이템
-                for (ItemData item : items.values()) {
+                g2.setStroke(BoardStyle.ITEM_STROKE);
+                g2.setFont(BoardStyle.ITEM_FONT);
+                for (int i = 0; i < itemRenderCount; i++) {
+                    ItemData item = itemRender[i];
                     int ix = (int)(offset.x + item.pos.x * scale);
                     int iy = (int)(offset.y + item.pos.y * scale);
                     
-                    if ("FREEZE".equals(item.type)) {
-                        g2.setColor(new Color(100, 150, 255, 220));
-                    } else {
-                        g2.setColor(new Color(255, 215, 0, 220)); // HINT or TIME
-                    }
-                    
+                    g2.setColor(item.color);
                     g2.fillOval(ix - 15, iy - 15, 30, 30);
                     g2.setColor(Color.WHITE);
-                    g2.setStroke(new BasicStroke(2));
                     g2.drawOval(ix - 15, iy - 15, ITEM_SIZE, ITEM_SIZE);
-                    
-                    g2.setFont(new Font("Dialog", Font.BOLD, 16));
-                    String icon = "FREEZE".equals(item.type) ? "❄" : "⏱"; // 시계 아이콘
-                    if ("HINT".equals(item.type)) icon = "★";
-                    g2.drawString(icon, ix - 8, iy + 5);
+                    g2.drawString(item.icon, ix - 8, iy + 5);
                 }
 
                 // 다른 플레이어 커서
-                for (Map.Entry<String, RemoteCursor> entry : remoteCursors.entrySet()) {
-                    RemoteCursor rc = entry.getValue();
+                for (int i = 0; i < cursorRenderCount; i++) {
+                    RemoteCursor rc = cursorRender[i];
                     int rx = (int)(offset.x + rc.pos.x * scale);
                     int ry = (int)(offset.y + rc.pos.y * scale);
                     
-                    Image rImg = getCursorImageByIndex(rc.cursorIndex);
-                    if (rImg != null) {
-                        g2.drawImage(rImg, rx, ry, PLAYER_SIZE, PLAYER_SIZE, FlashlightGame.this);
+                    if (rc.image != null) {
+                        g2.drawImage(rc.image, rx, ry, PLAYER_SIZE, PLAYER_SIZE, FlashlightGame.this);
                         g2.setColor(Color.YELLOW);
-                        g2.setFont(new Font("Dialog", Font.BOLD, 12));
-                        g2.drawString(entry.getKey(), rx, ry - 5);
+                        g2.setFont(BoardStyle.CURSOR_LABEL_FONT_LARGE);
+                        g2.drawString(rc.name, rx, ry - 5);
                     }
                 }
 
                 // 내 커서
-                if (myCursorImage != null && myCursorPos.x > -50) {
+                if (myCursorImage != null && myCursorPos.x > -50 && !spectator) {
                     g2.drawImage(myCursorImage, myCursorPos.x, myCursorPos.y, PLAYER_SIZE, PLAYER_SIZE, FlashlightGame.this);
                 }
 
-                // 어둠 효과
-                if (isGameActive && myCursorPos.x > -100) {
-                    Point center = new Point(myCursorPos.x + TIP_OFFSET_X, myCursorPos.y + TIP_OFFSET_Y);
-                    
-                    float[] dist = {0.0f, 1.0f};
-                    Color[] colors = {new Color(0,0,0,0), new Color(0,0,0,250)};
-                    RadialGradientPaint p = new RadialGradientPaint(center, FLASHLIGHT_RADIUS, dist, colors);
-                    
-                    g2.setPaint(p);
-                    g2.fillRect(0, 0, panelW, panelH);
+                // 어둠 효과 (미리 그려둔 마스크를 손전등 위치에 붙이고, 나머지는 단색으로 채움, 관전자는 전체를 봄)
+                if (isGameActive && myCursorPos.x > -100 && !spectator) {
+                    int mx = myCursorPos.x + TIP_OFFSET_X - FLASHLIGHT_RADIUS;
+                    int my = myCursorPos.y + TIP_OFFSET_Y - FLASHLIGHT_RADIUS;
+                    int size = FLASHLIGHT_RADIUS * 2;
+
+                    g2.drawImage(getDarknessMask(FLASHLIGHT_RADIUS), mx, my, null);
+                    g2.setColor(DARKNESS);
+                    g2.fillRect(0, 0, panelW, Math.max(0, my));
+                    g2.fillRect(0, my + size, panelW, Math.max(0, panelH - (my + size)));
+                    g2.fillRect(0, my, Math.max(0, mx), size);
+                    g2.fillRect(mx + size, my, Math.max(0, panelW - (mx + size)), size);
                 }
                 else if (!isGameActive && isCountdownActive) {
                 	g2.setColor(Color.BLACK); 
@@ -323,10 +353,10 @@ public class FlashlightGame extends BaseGameGUI {
 
                 // 얼음 효과
                 if (isFrozen) {
-                    g2.setColor(new Color(100, 150, 255, 100)); // 반투명 파랑
+                    g2.setColor(BoardStyle.FROZEN_OVERLAY); // 반투명 파랑
                     g2.fillRect(0, 0, panelW, panelH);
                     g2.setColor(Color.WHITE);
-                    g2.setFont(new Font("Dialog", Font.BOLD, 30));
+                    g2.setFont(BoardStyle.FROZEN_FONT);
                     String freezeText = "FROZEN!";
                     int textWidth = g2.getFontMetrics().stringWidth(freezeText);
                     g2.drawString(freezeText, (panelW - textWidth)/2, panelH/2);
@@ -342,6 +372,8 @@ public class FlashlightGame extends BaseGameGUI {
         
         items.clear();
         remoteCursors.clear();
+        syncItemRender();
+        syncCursorRender();
         
         // 화면 중앙 배치
         if (gameBoardPanel.getWidth() > 0) {
@@ -374,6 +406,19 @@ public class FlashlightGame extends BaseGameGUI {
             });
         }
         
+        // F3 - 프레임 통계 표시, F4 - 히스토그램 CSV 저장
+        im.put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0), "FRAME_STATS");
+        am.put("FRAME_STATS", new AbstractAction() {
+            public void actionPerformed(ActionEvent e) {
+                showFrameStats = !showFrameStats;
+                markDirty(STATS_BOUNDS);
+            }
+        });
+        im.put(KeyStroke.getKeyStroke(KeyEvent.VK_F4, 0), "FRAME_EXPORT");
+        am.put("FRAME_EXPORT", new AbstractAction() {
+            public void actionPerformed(ActionEvent e) { exportFrameStats(); }
+        });
+
         // Space - 선택
         im.put(KeyStroke.getKeyStroke(KeyEvent.VK_SPACE, 0), "SPACE");
         am.put("SPACE", new AbstractAction() {
@@ -383,9 +428,58 @@ public class FlashlightGame extends BaseGameGUI {
         });
     }
 
+    // 고정 주기 렌더 틱 (EDT): 입력 반영 -> 모인 변경 영역을 한 번만 다시 그림
+    private void renderTick() {
+        updatePosition();
+
+        if (showFrameStats && ++framesSinceStats >= STATS_REFRESH_FRAMES) {
+            framesSinceStats = 0;
+            markDirty(STATS_BOUNDS);
+        }
+        if (pendingDirty != null) {
+            gameBoardPanel.repaint(pendingDirty);
+            pendingDirty = null;
+        }
+    }
+
+    // 다음 렌더 틱에 다시 그릴 영역 추가 (패킷 처리 중에는 바로 그리지 않음)
+    private void markDirty(Rectangle r) {
+        if (r == null) return;
+        if (pendingDirty == null) pendingDirty = new Rectangle(r);
+        else pendingDirty.add(r);
+    }
+
+    private void markDirtyAll() {
+        markDirty(new Rectangle(0, 0, gameBoardPanel.getWidth(), gameBoardPanel.getHeight()));
+    }
+
+    private void drawFrameStats(Graphics2D g2) {
+        g2.setColor(BoardStyle.STATS_BACKGROUND);
+        g2.fillRect(STATS_BOUNDS.x, STATS_BOUNDS.y, STATS_BOUNDS.width, STATS_BOUNDS.height);
+        g2.setColor(Color.GREEN);
+        g2.setFont(BoardStyle.STATS_FONT);
+        g2.drawString(String.format("FPS %.1f  frame p50 %dms p99 %dms",
+                frameStats.getFps(), frameStats.framePercentile(50), frameStats.framePercentile(99)),
+                STATS_BOUNDS.x + 6, STATS_BOUNDS.y + 16);
+        g2.drawString(String.format("paint p50 %dms p99 %dms  (F3 숨김, F4 저장)",
+                frameStats.paintPercentile(50), frameStats.paintPercentile(99)),
+                STATS_BOUNDS.x + 6, STATS_BOUNDS.y + 32);
+    }
+
+    private void exportFrameStats() {
+        try {
+            frameStats.exportCsv(FRAME_STATS_FILE);
+            appendStatus("[프레임] 통계 저장: " + FRAME_STATS_FILE.getPath() + "\n");
+        } catch (IOException e) {
+            appendStatus("[프레임] 통계 저장 실패: " + e.getMessage() + "\n");
+        }
+    }
+
     private void updatePosition() {
-        if (!isGameActive || isFrozen) return;
+        if (!isGameActive || isFrozen || spectator) return;
         
+        int oldX = myCursorPos.x;
+        int oldY = myCursorPos.y;
         boolean moved = false;
         if (keys[KeyEvent.VK_UP] && myCursorPos.y > 0) { myCursorPos.y -= MOVE_SPEED; moved = true; }
         if (keys[KeyEvent.VK_DOWN] && myCursorPos.y < gameBoardPanel.getHeight() - PLAYER_SIZE) { myCursorPos.y += MOVE_SPEED; moved = true; }
@@ -393,7 +487,9 @@ public class FlashlightGame extends BaseGameGUI {
         if (keys[KeyEvent.VK_RIGHT] && myCursorPos.x < gameBoardPanel.getWidth() - PLAYER_SIZE) { myCursorPos.x += MOVE_SPEED; moved = true; }
         
         if (moved) {
-            gameBoardPanel.repaint();
+            // 이전/새 손전등 영역만 다시 그림
+            markDirty(lightBounds(oldX, oldY));
+            markDirty(lightBounds(myCursorPos.x, myCursorPos.y));
             long now = System.currentTimeMillis();
             if (now - lastSendTime > 50) {
                 sendCursorPosition();
@@ -402,6 +498,56 @@ public class FlashlightGame extends BaseGameGUI {
         }
     }
     
+    // 커서 위치 기준 손전등이 밝히는 영역 (커서 이미지 포함)
+    private Rectangle lightBounds(int cursorX, int cursorY) {
+        Rectangle r = new Rectangle(cursorX + TIP_OFFSET_X - FLASHLIGHT_RADIUS,
+                                    cursorY + TIP_OFFSET_Y - FLASHLIGHT_RADIUS,
+                                    FLASHLIGHT_RADIUS * 2, FLASHLIGHT_RADIUS * 2);
+        r.add(new Rectangle(cursorX, cursorY, PLAYER_SIZE, PLAYER_SIZE));
+        return r;
+    }
+
+    // 반지름별로 한 번만 그려두는 어둠 마스크 (가운데 투명 -> 가장자리 어둠)
+    private BufferedImage getDarknessMask(int radius) {
+        if (darknessMask != null && darknessMaskRadius == radius) return darknessMask;
+
+        int size = radius * 2;
+        BufferedImage mask;
+        if (GraphicsEnvironment.isHeadless()) {
+            mask = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        } else {
+            mask = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDefaultConfiguration().createCompatibleImage(size, size, Transparency.TRANSLUCENT);
+        }
+        Graphics2D g = mask.createGraphics();
+        g.setPaint(new RadialGradientPaint(new Point(radius, radius), radius,
+                new float[]{0.0f, 1.0f}, new Color[]{new Color(0, 0, 0, 0), DARKNESS}));
+        g.fillRect(0, 0, size, size);
+        g.dispose();
+
+        darknessMask = mask;
+        darknessMaskRadius = radius;
+        return mask;
+    }
+
+    // 다른 플레이어 커서가 차지하는 화면 영역 (게임 좌표 기준)
+    // toArray는 배열이 충분히 크면 그대로 채우므로 개수가 늘 때만 새로 만듦
+    private void syncItemRender() {
+        itemRender = items.values().toArray(itemRender);
+        itemRenderCount = items.size();
+    }
+
+    private void syncCursorRender() {
+        cursorRender = remoteCursors.values().toArray(cursorRender);
+        cursorRenderCount = remoteCursors.size();
+    }
+
+    private Rectangle remoteCursorBounds(RemoteCursor rc) {
+        if (rc == null) return null;
+        Rectangle r = gameBoardPanel.screenBounds(rc.pos, 0);
+        return gameBoardPanel.cursorBounds(r.x, r.y, PLAYER_SIZE);
+    }
+
     private void sendCursorPosition() {
         if (gameBoardPanel.originalDimension == null) return;
         
@@ -413,7 +559,7 @@ public class FlashlightGame extends BaseGameGUI {
     }
     
     private void checkClick() {
-        if (!isGameActive || isFrozen || gameBoardPanel.originalDimension == null) return;
+        if (!isGameActive || isFrozen || spectator || gameBoardPanel.originalDimension == null) return;
 
         // 손전등 끝 위치 계산
         Point tipPos = new Point(myCursorPos.x + TIP_OFFSET_X, myCursorPos.y + TIP_OFFSET_Y);
@@ -422,32 +568,29 @@ public class FlashlightGame extends BaseGameGUI {
         double originalX = gamePos.x;
         double originalY = gamePos.y;
         
-        // 아이템 획득 체크
+        // 아이템 획득 체크 (판정은 서버가 누른 위치로 다시 함, 겹친 아이템 중 어느 것인지도 서버가 정함)
         for (Map.Entry<Integer, ItemData> entry : items.entrySet()) {
             ItemData item = entry.getValue();
             double dx = originalX - item.pos.x;
             double dy = originalY - item.pos.y;
-            if (Math.sqrt(dx*dx + dy*dy) <= ITEM_SIZE) {
-                sendPacket(new GamePacket(GamePacket.Type.ITEM_PICKUP, playerName, entry.getKey(), null));
+            if (dx*dx + dy*dy <= ITEM_SIZE * ITEM_SIZE) {
+                GamePacket pickup = new GamePacket(GamePacket.Type.ITEM_PICKUP, playerName, entry.getKey(), null);
+                pickup.setX(originalX); pickup.setY(originalY);
+                sendPacket(pickup);
                 items.remove(entry.getKey());
-                gameBoardPanel.repaint();
+                syncItemRender();
+                markDirty(gameBoardPanel.screenBounds(item.pos, ITEM_SIZE));
                 return; 
             }
         }
         
         int foundIndex = gameBoardPanel.checkHit(originalX, originalY);
         
-        if (foundIndex != -1) {
-            GamePacket p = new GamePacket(GamePacket.Type.CLICK, playerName, foundIndex);
-            p.setX(originalX); p.setY(originalY);
-            sendPacket(p);
-        } else {
-            GamePacket p = new GamePacket(GamePacket.Type.CLICK, playerName, -1);
-            p.setX(originalX); p.setY(originalY);
-            sendPacket(p);
-            // 오답 마크 추가
-            gameBoardPanel.addMark(new Point((int)originalX, (int)originalY), false, null);
-        }
+        // 정답/오답 마크를 먼저 그려두고 서버 결과로 확정
+        predictClick(foundIndex, originalX, originalY);
+        GamePacket p = new GamePacket(GamePacket.Type.CLICK, playerName, foundIndex);
+        p.setX(originalX); p.setY(originalY);
+        sendPacket(p);
     }
 
     @Override
@@ -455,21 +598,47 @@ public class FlashlightGame extends BaseGameGUI {
         switch (p.getType()) {
             case MOUSE_MOVE:
                 if (!p.getSender().equals(playerName) && !"경쟁".equals(gameMode)) {
-                    remoteCursors.put(p.getSender(), new RemoteCursor(
-                        new Point((int)p.getX(), (int)p.getY()), p.getCursorIndex()));
-                    gameBoardPanel.repaint();
+                    RemoteCursor rc = remoteCursors.get(p.getSender());
+                    if (rc == null) {
+                        rc = new RemoteCursor(p.getSender(), new Point(), getCursorImageByIndex(p.getCursorIndex()));
+                        remoteCursors.put(p.getSender(), rc);
+                        syncCursorRender();
+                    } else {
+                        markDirty(remoteCursorBounds(rc));
+                    }
+                    rc.pos.setLocation((int)p.getX(), (int)p.getY());
+                    markDirty(remoteCursorBounds(rc));
                 }
                 break;
+
+            case CURSOR_SNAPSHOT:
+                // 큰 방: 내 주변 커서만 옴, 목록에 없는 커서는 지움
+                if ("경쟁".equals(gameMode)) break;
+                for (RemoteCursor old : remoteCursors.values()) {
+                    markDirty(remoteCursorBounds(old));
+                }
+                remoteCursors.clear();
+                for (CursorPosition c : p.getCursors()) {
+                    if (c.getName().equals(playerName)) continue;
+                    RemoteCursor rc = new RemoteCursor(c.getName(), new Point((int) c.getX(), (int) c.getY()),
+                            getCursorImageByIndex(c.getCursorIndex()));
+                    remoteCursors.put(c.getName(), rc);
+                    markDirty(remoteCursorBounds(rc));
+                }
+                syncCursorRender();
+                break;
                 
             case ITEM_SPAWN:
                 items.put(p.getItemId(), new ItemData(p.getItemPosition(), p.getItemType()));
+                syncItemRender();
                 appendStatus("[아이템] " + p.getItemType() + " 등장!\n");
-                gameBoardPanel.repaint();
+                markDirty(gameBoardPanel.screenBounds(p.getItemPosition(), ITEM_SIZE));
                 break;
                 
             case ITEM_REMOVED:
-                items.remove(p.getItemId());
-                gameBoardPanel.repaint();
+                ItemData removed = items.remove(p.getItemId());
+                syncItemRender();
+                if (removed != null) markDirty(gameBoardPanel.screenBounds(removed.pos, ITEM_SIZE));
                 break;
                 
             case PLAYER_FREEZE:
@@ -504,11 +673,11 @@ public class FlashlightGame extends BaseGameGUI {
         freezeTimer = new Timer(duration * 1000, e -> {
             isFrozen = false;
             appendStatus("[해제] 다시 움직일 수 있습니다!\n");
-            gameBoardPanel.repaint();
+            markDirtyAll();
         });
         freezeTimer.setRepeats(false);
         freezeTimer.start();
-        gameBoardPanel.repaint();
+        markDirtyAll();
     }
     
     private void sendChat() {
@@ -554,6 +723,7 @@ public class FlashlightGame extends BaseGameGUI {
                         + "✔ 스페이스바로 클릭 판정.\n"
                         + "✔ /1~4 : 빠른 채팅\n"
                         + "✔ /H : 도움말\n"
+                        + "✔ F3 : 프레임 통계 표시 / F4 : 통계 저장\n"
                         + "✔ ESC : 게임 종료\n\n"
                         + "🎯 아이템\n"
                         + "- 타이머 아이템: 타이머 5초 증가(협동)\n"
@@ -579,7 +749,9 @@ public class FlashlightGame extends BaseGameGUI {
     
     @Override
     public void dispose() {
-        if(moveTimer != null) moveTimer.stop();
+        if(renderTimer != null) renderTimer.stop();
+        // 통계를 켜 둔 경우에만 요약 출력
+        if (showFrameStats) System.out.println("[프레임] " + frameStats.summary());
         if(freezeTimer != null) freezeTimer.stop();
         super.dispose();
     }
@@ -587,12 +759,22 @@ public class FlashlightGame extends BaseGameGUI {
     static class ItemData {
         Point pos;
         String type;
-        ItemData(Point p, String t) { pos = p; type = t; }
+        // 그릴 때마다 정하지 않도록 생성 시 색/아이콘 결정
+        final Color color;
+        final String icon;
+        ItemData(Point p, String t) {
+            pos = p; type = t;
+            color = "FREEZE".equals(t) ? BoardStyle.ITEM_FREEZE : BoardStyle.ITEM_DEFAULT; // HINT or TIME
+            if ("HINT".equals(t)) icon = "★";
+            else icon = "FREEZE".equals(t) ? "❄" : "⏱"; // 시계 아이콘
+        }
     }
     
     static class RemoteCursor {
-        Point pos;
-        int cursorIndex;
-        RemoteCursor(Point p, int idx) { pos = p; cursorIndex = idx; }
+        final String name;
+        final Point pos;
+        // 그릴 때 캐시를 찾지 않도록 받을 때 정함
+        final Image image;
+        RemoteCursor(String n, Point p, Image img) { name = n; pos = p; image = img; }
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package client;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+// 프레임 간격/그리기 시간을 1ms 단위 히스토그램으로 모음 (EDT 에서만 사용)
+public class FrameStats {
+
+    private static final int BUCKETS = 50;   // 0~49ms, 마지막 칸은 49ms 이상 전부
+    private static final long FPS_WINDOW_NS = 1_000_000_000L;
+
+    private final long[] frameHist = new long[BUCKETS];
+    private final long[] paintHist = new long[BUCKETS];
+    private long frameCount;
+    private long paintCount;
+    private long maxFrameNs;
+    private long maxPaintNs;
+
+    private long lastFrameNs;
+    private long fpsWindowStart;
+    private int fpsFrames;
+    private double fps;
+
+    // 화면을 실제로 그릴 때마다 호출 (paintComponent)
+    public void onFrame(long nowNs) {
+        if (lastFrameNs != 0) {
+            long interval = nowNs - lastFrameNs;
+            frameHist[bucket(interval)]++;
+            frameCount++;
+            if (interval > maxFrameNs) maxFrameNs = interval;
+        }
+        lastFrameNs = nowNs;
+
+        if (fpsWindowStart == 0) fpsWindowStart = nowNs;
+        fpsFrames++;
+        long elapsed = nowNs - fpsWindowStart;
+        if (elapsed >= FPS_WINDOW_NS) {
+            fps = fpsFrames * 1e9 / elapsed;
+            fpsFrames = 0;
+            fpsWindowStart = nowNs;
+        }
+    }
+
+    public void onPaint(long durationNs) {
+        paintHist[bucket(durationNs)]++;
+        paintCount++;
+        if (durationNs > maxPaintNs) maxPaintNs = durationNs;
+    }
+
+    public double getFps() {
+        return fps;
+    }
+
+    // 히스토그램에서 p 백분위 칸 (ms), p 는 0~100
+    public int framePercentile(double p) {
+        return percentile(frameHist, frameCount, p);
+    }
+
+    public int paintPercentile(double p) {
+        return percentile(paintHist, paintCount, p);
+    }
+
+    public String summary() {
+        if (frameCount == 0) return "샘플 없음";
+        return String.format("fps=%.1f 프레임 n=%d p50=%dms p99=%dms max=%.1fms / 그리기 n=%d p50=%dms p99=%dms max=%.1fms",
+                fps, frameCount, framePercentile(50), framePercentile(99), maxFrameNs / 1e6,
+                paintCount, paintPercentile(50), paintPercentile(99), maxPaintNs / 1e6);
+    }
+
+    // ms,frames,paints 형식 CSV 로 저장
+    public void exportCsv(File file) throws IOException {
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null) dir.mkdirs();
+        try (PrintWriter pw = new PrintWriter(file, "UTF-8")) {
+            pw.println("ms,frames,paints");
+            for (int i = 0; i < BUCKETS; i++) {
+                pw.println((i == BUCKETS - 1 ? i + "+" : String.valueOf(i)) + "," + frameHist[i] + "," + paintHist[i]);
+            }
+        }
+    }
+
+    private static int bucket(long ns) {
+        int ms = (int) (ns / 1_000_000L);
+        return Math.max(0, Math.min(ms, BUCKETS - 1));
+    }
+
+    private static int percentile(long[] hist, long count, double p) {
+        if (count == 0) return 0;
+        long target = (long) Math.ceil(p / 100.0 * count);
+        long seen = 0;
+        for (int i = 0; i < hist.length; i++) {
+            seen += hist[i];
+            if (seen >= target) return i;
+        }
+        return hist.length - 1;
+    }
+}
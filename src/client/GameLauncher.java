@@ -12,15 +12,23 @@ import java.net.Socket;
 
 public class GameLauncher extends JFrame {
 
-    private Socket socket;
-    private ObjectOutputStream out;
-    private ObjectInputStream in;
+    private volatile Socket socket;
+    private volatile ObjectOutputStream out;
+    private volatile ObjectInputStream in;
     private String playerName;
     private String selectedDifficulty;
     private String roomNumber;
 
     private boolean isDisconnect = false;
 
+    // 세션 재개 (방 입장 시 서버가 발급한 토큰, 마지막으로 받은 방 이벤트 순번)
+    private static final long RESUME_WINDOW_MS = 20000;
+    private volatile String sessionToken = null;
+    private volatile long lastSeq = 0;
+
+    // 관전 중 (게임 화면이 입력을 보내지 않음)
+    private volatile boolean spectating = false;
+
     private CardLayout cardLayout;
     private JPanel mainPanel;
     private NicknameSetupPanel nicknameSetupPanel;
@@ -38,6 +46,10 @@ public class GameLauncher extends JFrame {
     private static final String CARD_MYPAGE = "MYPAGE";
 
     private String gameModeType = "NORMAL";
+
+    // 대기방 패킷을 모아서 EDT 에서 묶음으로 처리 (대기방 상태는 최신 것만)
+    private final PacketDispatcher lobbyDispatcher = new PacketDispatcher(this::handlePacket,
+            p -> p.getType() == GamePacket.Type.LOBBY_UPDATE ? "LOBBY" : null);
     private boolean isSinglePlayer = false;
 
     public GameLauncher() {
@@ -90,6 +102,7 @@ public class GameLauncher extends JFrame {
 
         add(mainPanel);
 
+        AccountClient.restoreLastLogin();
         UserData userData = UserData.getInstance();
         if (userData != null && userData.getNickname() != null) {
             cardLayout.show(mainPanel, CARD_MAIN_MENU);
@@ -150,6 +163,7 @@ public class GameLauncher extends JFrame {
     // 1인 플레이 시작 (싱글 NORMAL)
     public void startSinglePlayerGame() {
         isSinglePlayer = true;
+        endSession();
         UserData userData = UserData.getInstance();
         this.playerName = (userData != null) ? userData.getNickname() : "Guest";
 
@@ -189,6 +203,7 @@ public class GameLauncher extends JFrame {
                             "SINGLE_" + selectedDifficulty,
                             true
                     );
+                    joinPacket.setAccountToken(UserData.currentToken());
                     out.writeObject(joinPacket);
                     out.flush();
 
@@ -239,6 +254,8 @@ public class GameLauncher extends JFrame {
         this.in = in;
         this.playerName = playerName;
         this.roomNumber = roomNumber;
+        this.sessionToken = null;
+        this.lastSeq = 0;
 
         WaitingRoom currentRoom;
         String cardName;
@@ -262,6 +279,8 @@ public class GameLauncher extends JFrame {
 
         if (firstPacket != null) {
             handlePacket(firstPacket);
+            // 복원된 방에 재접속해 바로 라운드가 시작된 경우 게임 화면이 스트림을 읽으므로 대기방 리스너는 띄우지 않음
+            if (firstPacket.getType() == GamePacket.Type.ROUND_START) return;
         }
 
         Thread listenerThread = new Thread(this::listenFromServer);
@@ -273,27 +292,46 @@ public class GameLauncher extends JFrame {
     private void listenFromServer() {
         isDisconnect = false;
 
-        try {
-            while (true) {
-                Object obj = in.readObject();
-                if (!(obj instanceof GamePacket)) continue;
-                GamePacket p = (GamePacket) obj;
+        while (true) {
+            try {
+                while (true) {
+                    Object obj = in.readObject();
+                    if (!(obj instanceof GamePacket)) continue;
+                    GamePacket p = (GamePacket) obj;
+                    trackSession(p);
+                    if (p.getType() == GamePacket.Type.ROUND_START) {
+                        // 게임 화면이 뜨기 전에 첫 라운드 이미지를 이 스레드에서 디코딩
+                        ImageCache.getInstance().decodeNow(p.getImageHash(), p.getMessage());
+                    }
 
-                SwingUtilities.invokeLater(() -> handlePacket(p));
+                    lobbyDispatcher.offer(p);
 
-                if (p.getType() == GamePacket.Type.ROUND_START) {
-                    break;
+                    if (p.getType() == GamePacket.Type.ROUND_START) {
+                        return;
+                    }
                 }
-            }
-        } catch (Exception e) {
-            if (!isDisconnect) {
-                if (this.isVisible()) {
+            } catch (Exception e) {
+                if (!isDisconnect && resumeSession() != null) {
                     SwingUtilities.invokeLater(() -> {
-                        JOptionPane.showMessageDialog(this, "서버 연결이 끊어졌습니다: " + e.getMessage());
-                        switchToMainMenu();
-                        homePanel.resetUI();
+                        WaitingRoom currentRoom = "FLASH".equals(gameModeType) ? waitingRoomFlash : waitingRoomNormal;
+                        currentRoom.appendChat("[시스템] 연결이 끊겨 다시 접속했습니다.\n");
                     });
+                    continue;
                 }
+                handleLobbyDisconnect(e);
+                return;
+            }
+        }
+    }
+
+    private void handleLobbyDisconnect(Exception e) {
+        if (!isDisconnect) {
+            if (this.isVisible()) {
+                SwingUtilities.invokeLater(() -> {
+                    JOptionPane.showMessageDialog(this, "서버 연결이 끊어졌습니다: " + e.getMessage());
+                    switchToMainMenu();
+                    homePanel.resetUI();
+                });
             }
         }
     }
@@ -316,14 +354,16 @@ public class GameLauncher extends JFrame {
                             p.getHostName(),
                             p.getPlayerReadyStatus(),
                             p.getDifficulty(),
-                            p.getGameMode()
+                            p.getGameMode(),
+                            p.getMaxPlayers()
                     );
                 } else {
                     waitingRoomNormal.updateLobbyInfo(
                             p.getHostName(),
                             p.getPlayerReadyStatus(),
                             p.getDifficulty(),
-                            p.getGameMode()
+                            p.getGameMode(),
+                            p.getMaxPlayers()
                     );
                 }
                 break;
@@ -400,9 +440,148 @@ public class GameLauncher extends JFrame {
         return playerName;
     }
 
+    // 수신 스레드에서 호출: 세션 토큰 저장 / 마지막 이벤트 순번 갱신
+    public void trackSession(GamePacket p) {
+        if (p.getType() == GamePacket.Type.SESSION) {
+            sessionToken = p.getMessage();
+            return;
+        }
+        if (p.getSeq() > lastSeq) lastSeq = p.getSeq();
+    }
+
+    // 직접 나가는 경우 (재접속 시도 안 함)
+    public void endSession() {
+        sessionToken = null;
+        lastSeq = 0;
+        spectating = false;
+    }
+
+    public boolean isSpectating() {
+        return spectating;
+    }
+
+    // 관전: 방 방송만 받다가 라운드가 시작되면(진행 중이면 바로) 읽기 전용 게임 화면을 띄움
+    public void startSpectating(String roomNumber, String name) {
+        Thread spectateThread = new Thread(() -> {
+            Socket s = null;
+            try {
+                s = new Socket("127.0.0.1", 9999);
+                ObjectOutputStream o = new ObjectOutputStream(s.getOutputStream());
+                ObjectInputStream i = new ObjectInputStream(s.getInputStream());
+
+                GamePacket join = new GamePacket(GamePacket.Type.JOIN, name, "WATCH_" + roomNumber, true);
+                join.setGameType(gameModeType);
+                o.writeObject(join);
+                o.flush();
+
+                this.socket = s;
+                this.out = o;
+                this.in = i;
+                this.playerName = name;
+                this.roomNumber = roomNumber;
+                this.sessionToken = null;
+                this.lastSeq = 0;
+                this.spectating = true;
+                SwingUtilities.invokeLater(() -> setTitle("관전 대기 중 (방 " + roomNumber + ")"));
+
+                while (true) {
+                    Object obj = i.readObject();
+                    if (obj instanceof byte[]) obj = GamePacket.fromFrame((byte[]) obj);
+                    if (!(obj instanceof GamePacket)) continue;
+                    GamePacket p = (GamePacket) obj;
+
+                    if (p.getType() == GamePacket.Type.MESSAGE && p.getMessage() != null && p.getMessage().startsWith("오류")) {
+                        spectating = false;
+                        s.close();
+                        SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(this, p.getMessage()));
+                        return;
+                    }
+                    if (p.getType() == GamePacket.Type.ROUND_START) {
+                        ImageCache.getInstance().decodeNow(p.getImageHash(), p.getMessage());
+                        SwingUtilities.invokeLater(() -> handlePacket(p));
+                        return;
+                    }
+                }
+            } catch (Exception e) {
+                spectating = false;
+                try {
+                    if (s != null) s.close();
+                } catch (IOException ignored) {
+                }
+                SwingUtilities.invokeLater(() -> {
+                    setTitle("숨은 그림 찾기");
+                    JOptionPane.showMessageDialog(this, "관전 연결이 끊어졌습니다: " + e.getMessage());
+                });
+            }
+        }, "spectate");
+        spectateThread.setDaemon(true);
+        spectateThread.start();
+    }
+
+    // 연결이 끊겼을 때 같은 자리로 재접속 (서버의 재접속 대기 시간 동안 1초 간격으로 시도)
+    public Reconnection resumeSession() {
+        String token = sessionToken;
+        if (token == null) return null;
+
+        long deadline = System.currentTimeMillis() + RESUME_WINDOW_MS;
+        while (System.currentTimeMillis() < deadline && sessionToken != null) {
+            Socket s = null;
+            try {
+                s = new Socket("127.0.0.1", 9999);
+                ObjectOutputStream o = new ObjectOutputStream(s.getOutputStream());
+                ObjectInputStream i = new ObjectInputStream(s.getInputStream());
+
+                GamePacket resume = new GamePacket(GamePacket.Type.JOIN, playerName,
+                        "RESUME_" + token + "_" + lastSeq + "_" + roomNumber, true);
+                resume.setGameType(gameModeType);
+                resume.setAccountToken(UserData.currentToken());
+                o.writeObject(resume);
+                o.flush();
+
+                GamePacket ack = (GamePacket) i.readObject();
+                if (ack.getType() != GamePacket.Type.SESSION) {
+                    // 자리가 이미 정리됨
+                    s.close();
+                    sessionToken = null;
+                    return null;
+                }
+
+                this.socket = s;
+                this.out = o;
+                this.in = i;
+                return new Reconnection(s, i, o);
+            } catch (Exception e) {
+                try {
+                    if (s != null) s.close();
+                } catch (IOException ignored) {
+                }
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException ie) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    public static class Reconnection {
+        public final Socket socket;
+        public final ObjectInputStream in;
+        public final ObjectOutputStream out;
+
+        Reconnection(Socket socket, ObjectInputStream in, ObjectOutputStream out) {
+            this.socket = socket;
+            this.in = in;
+            this.out = out;
+        }
+    }
+
     // 연결 해제 & 메인 메뉴 복귀
     private void disconnectAndReturnToMenu() {
         isDisconnect = true;
+        endSession();
+        sendPacket(new GamePacket(GamePacket.Type.LEAVE, playerName, "LEAVE"));
 
         try {
             if (socket != null && !socket.isClosed()) {
@@ -1,7 +1,7 @@
 package client;
 
+import model.CursorPosition;
 import model.GamePacket;
-import model.UserData;
 
 import javax.swing.*;
 import java.awt.*;
@@ -22,7 +22,13 @@ public class HiddenObjectClientGUI extends BaseGameGUI {
     
     private Image[] cursorImages;
     private Image singleCursorImage;
-    private final Map<String, Point2D.Double> otherPlayerCursors = new HashMap<>();
+    private final Map<String, RemoteCursor> otherPlayerCursors = new HashMap<>();
+    // 그리기용 값: 패킷이 올 때만 갱신하고, paintComponent는 배열과 필드만 읽음 (반복자/박싱 없음)
+    private RemoteCursor[] cursorRender = new RemoteCursor[8];
+    private int cursorRenderCount = 0;
+    private int myCursorIndex = 0;
+    private Image myCursorImage;
+    private boolean showOtherCursors = false;
 
     public HiddenObjectClientGUI(Socket socket, ObjectInputStream in, ObjectOutputStream out,
                                  String playerName, GamePacket roundStartPacket,
@@ -150,17 +156,13 @@ public class HiddenObjectClientGUI extends BaseGameGUI {
         BaseGameBoardPanel panel = new BaseGameBoardPanel() {
             private Point myLocalMouse = new Point(-100, -100);
             
-            private final Color[] PLAYER_COLORS = { 
-                    Color.BLUE, Color.RED, Color.GREEN, Color.YELLOW, Color.ORANGE 
-                };
-            
             @Override
             public void setRoundData(String path, java.util.List<Rectangle> answers, Dimension dim) {
                 this.originalAnswers = answers;
                 this.originalDimension = dim;
                 this.foundStatus = new boolean[answers.size()];
                 try {
-                    backgroundImage = new ImageIcon(path).getImage();
+                    setBackgroundFrom(path);
                     if(backgroundImage.getWidth(null) == -1) throw new IOException("로드 실패");
                     
                     int baseWidth = 500;
@@ -179,18 +181,19 @@ public class HiddenObjectClientGUI extends BaseGameGUI {
                 double scale = getScale();
                 Point offset = getOffset();
                 
-                for (HintMark hint : hints) {
+                g2.setStroke(BoardStyle.HINT_STROKE);
+                g2.setFont(BoardStyle.HINT_FONT);
+                for (int i = 0; i < hints.size(); i++) {
+                    HintMark hint = hints.get(i);
                     int hx = (int)(offset.x + hint.position.x * scale);
                     int hy = (int)(offset.y + hint.position.y * scale);
                     
                     // 노란색 원 + 굵은 테두리
-                    g2.setColor(new Color(255, 255, 0, 200));
-                    g2.setStroke(new BasicStroke(4));
+                    g2.setColor(BoardStyle.HINT_RING);
                     g2.drawOval(hx - 25, hy - 25, 50, 50);
                     
                     // 별 텍스트
-                    g2.setColor(Color.YELLOW);
-                    g2.setFont(new Font("Dialog", Font.BOLD, 30));
+                    g2.setColor(BoardStyle.HINT_STAR);
                     g2.drawString("★", hx - 15, hy + 10);
                 }
             }
@@ -200,23 +203,25 @@ public class HiddenObjectClientGUI extends BaseGameGUI {
                 double scale = getScale();
                 Point offset = getOffset();
                 
-                for (GameMark m : marks) {
+                boolean competitive = "경쟁".equals(gameMode);
+                g2.setFont(BoardStyle.MARK_FONT);
+                for (int i = 0; i < marks.size(); i++) {
+                    GameMark m = marks.get(i);
                     int mx = (int)(offset.x + m.p.x * scale);
                     int my = (int)(offset.y + m.p.y * scale);
                     
                     if (m.correct) {
                         // 정답 원
-                        if ("경쟁".equals(gameMode)) {
+                        if (competitive) {
                             g2.setColor(m.color != null ? m.color : Color.GREEN);
                         } else {
-                            g2.setColor(new Color(0, 255, 0, 200));
+                            g2.setColor(BoardStyle.MARK_CORRECT);
                         }
-                        g2.setStroke(new BasicStroke(3));
+                        g2.setStroke(m.pending ? BoardStyle.MARK_PENDING_STROKE : BoardStyle.MARK_STROKE);
                         g2.drawOval(mx - 20, my - 20, 40, 40); // 반지름 20, 지름 40
                     } else {
                         // 오답 빨간색 X
-                        g2.setColor(Color.RED);
-                        g2.setFont(new Font("Dialog", Font.BOLD, 28));
+                        g2.setColor(BoardStyle.MARK_WRONG);
                         g2.drawString("X", mx - 10, my + 10);
                     }
                 }
@@ -232,33 +237,24 @@ public class HiddenObjectClientGUI extends BaseGameGUI {
                 Point offset = getOffset();
 
                 // 다른 플레이어 커서 그리기
-                if ("협동".equals(gameMode) && playerIndexMap.size() > 1) {
-                    for (Map.Entry<String, Point2D.Double> entry : otherPlayerCursors.entrySet()) {
-                        String name = entry.getKey();
-                        Point2D.Double p = entry.getValue();
-
-                        int drawX = (int) (offset.x + p.x * scale);
-                        int drawY = (int) (offset.y + p.y * scale);
-
-                        int idx = playerIndexMap.getOrDefault(name, 0);
-                        if (idx >= 0 && idx < 5 && cursorImages[idx] != null) {
-                            g2.drawImage(cursorImages[idx], drawX, drawY, 30, 30, HiddenObjectClientGUI.this);
-                            g2.setColor(Color.WHITE);
-                            g2.setFont(new Font("Dialog", Font.BOLD, 10));
-                            g2.drawString(name, drawX, drawY);
-                        }
+                if (showOtherCursors) {
+                    for (int i = 0; i < cursorRenderCount; i++) {
+                        RemoteCursor rc = cursorRender[i];
+                        if (rc.image == null) continue;
+
+                        int drawX = (int) (offset.x + rc.pos.x * scale);
+                        int drawY = (int) (offset.y + rc.pos.y * scale);
+
+                        g2.drawImage(rc.image, drawX, drawY, 30, 30, HiddenObjectClientGUI.this);
+                        g2.setColor(rc.labelColor);
+                        g2.setFont(BoardStyle.CURSOR_LABEL_FONT);
+                        g2.drawString(rc.name, drawX, drawY);
                     }
                 }
 
                 // 내 커서 그리기
-                if (isGameActive && myLocalMouse.x > -50) {
-                    int myIdx = playerIndexMap.getOrDefault(playerName, 0);
-                    Image myImg = (playerIndexMap.size() <= 1) ? singleCursorImage : 
-                                  cursorImages[Math.max(0, Math.min(myIdx, 4))];
-                    
-                    if (myImg != null) {
-                        g2.drawImage(myImg, myLocalMouse.x, myLocalMouse.y, 30, 30, HiddenObjectClientGUI.this);
-                    }
+                if (isGameActive && myLocalMouse.x > -50 && myCursorImage != null) {
+                    g2.drawImage(myCursorImage, myLocalMouse.x, myLocalMouse.y, 30, 30, HiddenObjectClientGUI.this);
                 }
                 drawCountdown(g2, getWidth(), getHeight());
             }
@@ -267,32 +263,30 @@ public class HiddenObjectClientGUI extends BaseGameGUI {
                 addMouseMotionListener(new MouseMotionAdapter() {
                     @Override
                     public void mouseMoved(MouseEvent e) {
+                        Rectangle oldBounds = cursorBounds(myLocalMouse.x, myLocalMouse.y, 30);
                         myLocalMouse = e.getPoint();
-                        repaint();
+                        repaintCursor(oldBounds, cursorBounds(myLocalMouse.x, myLocalMouse.y, 30));
                         if (!isGameActive) return;
 
                         Point2D.Double gamePos = toGameCoords(e.getPoint());
-                        int myIdx = playerIndexMap != null ? playerIndexMap.getOrDefault(playerName, 0) : 0;
-                        sendPacket(new GamePacket(GamePacket.Type.MOUSE_MOVE, playerName, myIdx, gamePos.x, gamePos.y));
+                        sendPacket(new GamePacket(GamePacket.Type.MOUSE_MOVE, playerName, myCursorIndex, gamePos.x, gamePos.y));
                     }
                 });
 
                 addMouseListener(new MouseAdapter() {
                     @Override
                     public void mouseClicked(MouseEvent e) {
-                        if (!isGameActive) return;
+                        if (!isGameActive || spectator) return;
 
                         Point2D.Double gamePos = toGameCoords(e.getPoint());
                         int foundIndex = checkHit(gamePos.x, gamePos.y);
 
-                        if (foundIndex != -1) {
-                            sendPacket(new GamePacket(GamePacket.Type.CLICK, playerName, foundIndex));
-                        } else {
-                            GamePacket miss = new GamePacket(GamePacket.Type.CLICK, playerName, -1);
-                            miss.setX(gamePos.x);
-                            miss.setY(gamePos.y);
-                            sendPacket(miss);
-                        }
+                        // 정답/오답 마크를 먼저 그려두고 서버 결과로 확정 (이미 찾은 그림이면 클릭 위치에 X)
+                        predictClick(foundIndex, gamePos.x, gamePos.y);
+                        GamePacket click = new GamePacket(GamePacket.Type.CLICK, playerName, foundIndex);
+                        click.setX(gamePos.x);
+                        click.setY(gamePos.y);
+                        sendPacket(click);
                     }
                 });
             }
@@ -301,10 +295,39 @@ public class HiddenObjectClientGUI extends BaseGameGUI {
         return panel;
     }
 
+    // 다른 플레이어 커서가 차지하는 화면 영역 (게임 좌표 기준)
+    private Rectangle remoteCursorBounds(RemoteCursor rc) {
+        Rectangle r = gameBoardPanel.screenBounds(rc.pos, 0);
+        return gameBoardPanel.cursorBounds(r.x, r.y, 30);
+    }
+
     @Override
     protected void onRoundStart(GamePacket p) {
         otherPlayerCursors.clear();
+        syncCursorRender();
         super.onRoundStart(p);
+
+        // 플레이어 번호는 라운드 시작 때만 바뀌므로 내 커서도 여기서 정함
+        boolean multi = playerIndexMap != null && playerIndexMap.size() > 1;
+        showOtherCursors = multi && "협동".equals(gameMode);
+        myCursorIndex = playerIndexMap != null ? playerIndexMap.getOrDefault(playerName, 0) : 0;
+        myCursorImage = multi ? cursorImages[Math.max(0, myCursorIndex) % cursorImages.length] : singleCursorImage;
+    }
+
+    // 처음 보는 커서일 때만 부름 (커서 그림과 이름표 색은 이때 정함)
+    private RemoteCursor addRemoteCursor(String name, double x, double y) {
+        // 커서 그림은 5개를 돌려 쓰고 이름표 색으로 구분
+        int idx = playerIndexMap != null ? Math.max(0, playerIndexMap.getOrDefault(name, 0)) : 0;
+        RemoteCursor rc = new RemoteCursor(name, new Point2D.Double(x, y), cursorImages[idx % cursorImages.length],
+                idx < cursorImages.length ? Color.WHITE : BoardStyle.playerColor(idx));
+        otherPlayerCursors.put(name, rc);
+        return rc;
+    }
+
+    // toArray는 배열이 충분히 크면 그대로 채우므로 개수가 늘 때만 새로 만듦
+    private void syncCursorRender() {
+        cursorRender = otherPlayerCursors.values().toArray(cursorRender);
+        cursorRenderCount = otherPlayerCursors.size();
     }
 
     @Override
@@ -312,9 +335,27 @@ public class HiddenObjectClientGUI extends BaseGameGUI {
         switch (p.getType()) {
             case MOUSE_MOVE:
                 if (!p.getSender().equals(playerName)) {
-                    otherPlayerCursors.put(p.getSender(), new Point2D.Double(p.getX(), p.getY()));
-                    gameBoardPanel.repaint();
+                    RemoteCursor rc = otherPlayerCursors.get(p.getSender());
+                    Rectangle oldBounds = null;
+                    if (rc == null) {
+                        rc = addRemoteCursor(p.getSender(), p.getX(), p.getY());
+                        syncCursorRender();
+                    } else {
+                        oldBounds = remoteCursorBounds(rc);
+                        rc.pos.setLocation(p.getX(), p.getY());
+                    }
+                    gameBoardPanel.repaintCursor(oldBounds, remoteCursorBounds(rc));
+                }
+                break;
+
+            case CURSOR_SNAPSHOT:
+                // 큰 방: 내 주변 커서만 옴, 목록에 없는 커서는 지움
+                otherPlayerCursors.clear();
+                for (CursorPosition c : p.getCursors()) {
+                    if (!c.getName().equals(playerName)) addRemoteCursor(c.getName(), c.getX(), c.getY());
                 }
+                syncCursorRender();
+                gameBoardPanel.repaint();
                 break;
 
             case HINT_RESPONSE:
@@ -398,8 +439,8 @@ public class HiddenObjectClientGUI extends BaseGameGUI {
             try {
                 String[] lines = msg.split("\n");
                 for (String line : lines) {
-                    if (line.contains(playerName)) {
-                        String scoreStr = line.replaceAll("[^0-9-]", ""); 
+                    if (line.startsWith(playerName + " : ")) {
+                        String scoreStr = line.substring(playerName.length() + 3).replaceAll("[^0-9-]", ""); 
                         if (!scoreStr.isEmpty()) {
                             myScore = Integer.parseInt(scoreStr);
                         }
@@ -487,24 +528,12 @@ public class HiddenObjectClientGUI extends BaseGameGUI {
             "남은 시간: " + timeLeft + "초"
         );
     }
-    
-    @Override
-    protected void addExperience() {
-        // 게임 종료 후 경험치 정산 로직
-        UserData userData = UserData.getInstance();
-        if (userData != null) {
-            int calcScore;
-            if ("협동".equals(gameMode)) {
-                calcScore = myFoundCount * 10;  // 협동 - 기여도 기반
-            } else {
-                calcScore = myScore;  // 경쟁 - 내 점수
-            }
-            
-            int expGain = 50 + (calcScore / 2);
-            if (expGain < 0) expGain = 0;
 
-            userData.addExperience(expGain);
-            appendStatus("[경험치 획득: " + expGain + " EXP]\n");
-        }
+    static class RemoteCursor {
+        final String name;
+        final Point2D.Double pos;
+        final Image image;
+        final Color labelColor;
+        RemoteCursor(String n, Point2D.Double p, Image img, Color c) { name = n; pos = p; image = img; labelColor = c; }
     }
-}
\ No newline at end of file
+}
@@ -15,7 +15,10 @@ public class HomePanel extends JPanel {
     private JButton connectButton;
     private JLabel statusLabel;
     private JButton backButton;
+    private JButton browseButton;
+    private JButton quickMatchButton;
     private JLabel userLabel; 
+    private volatile Socket matchSocket; // 빠른 매칭 대기 중인 연결 (취소용)
     
     public HomePanel(GameLauncher launcher) {
         this.launcher = launcher;
@@ -64,6 +67,10 @@ public class HomePanel extends JPanel {
         roomNumberField.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
         roomNumberPanel.add(roomNumberLabel, BorderLayout.NORTH);
         roomNumberPanel.add(roomNumberField, BorderLayout.CENTER);
+        browseButton = new JButton("방 목록");
+        browseButton.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        browseButton.setFocusPainted(false);
+        roomNumberPanel.add(browseButton, BorderLayout.EAST);
         centerPanel.add(roomNumberPanel);
         centerPanel.add(Box.createRigidArea(new Dimension(0, 15)));
         
@@ -89,11 +96,24 @@ public class HomePanel extends JPanel {
         connectButton.setForeground(Color.WHITE);
         connectButton.setFocusPainted(false);
         bottomPanel.add(connectButton);
+        bottomPanel.add(Box.createRigidArea(new Dimension(0, 8)));
+        
+        quickMatchButton = new JButton("빠른 매칭");
+        quickMatchButton.setFont(new Font("맑은 고딕", Font.BOLD, 14));
+        quickMatchButton.setPreferredSize(new Dimension(200, 34));
+        quickMatchButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+        quickMatchButton.setFocusPainted(false);
+        bottomPanel.add(quickMatchButton);
         
         add(bottomPanel, BorderLayout.SOUTH);
         
         connectButton.addActionListener(e -> connectToServer());
         roomNumberField.addActionListener(e -> connectToServer());
+        browseButton.addActionListener(e -> openRoomBrowser());
+        quickMatchButton.addActionListener(e -> {
+            if (matchSocket != null) cancelQuickMatch();
+            else startQuickMatch();
+        });
     }
     
     private static class ConnectionContext {
@@ -101,6 +121,7 @@ public class HomePanel extends JPanel {
         ObjectOutputStream out;
         ObjectInputStream in;
         GamePacket firstPacket; 
+        String roomNumber;
 
         public ConnectionContext(Socket socket, ObjectOutputStream out, ObjectInputStream in, GamePacket firstPacket) {
             this.socket = socket;
@@ -123,10 +144,141 @@ public class HomePanel extends JPanel {
     public void resetUI() {
         connectButton.setEnabled(true);
         connectButton.setText("접속하기");
+        quickMatchButton.setEnabled(true);
+        quickMatchButton.setText("빠른 매칭");
         statusLabel.setText("방 번호를 입력하고 접속하세요.");
         statusLabel.setForeground(Color.BLACK);
     }
     
+    private void openRoomBrowser() {
+        UserData userData = UserData.getInstance();
+        String name = (userData != null && userData.getNickname() != null) ? userData.getNickname() : "Guest";
+
+        RoomBrowserDialog dialog = new RoomBrowserDialog(
+            SwingUtilities.getWindowAncestor(this),
+            launcher.getGameModeType(),
+            name,
+            roomNumber -> {
+                roomNumberField.setText(roomNumber);
+                connectToServer();
+            },
+            roomNumber -> launcher.startSpectating(roomNumber, name)
+        );
+        dialog.open();
+    }
+    
+    private void startQuickMatch() {
+        UserData userData = UserData.getInstance();
+        if (userData == null || userData.getNickname() == null) {
+            statusLabel.setText("오류: 로그인이 필요합니다.");
+            statusLabel.setForeground(Color.RED);
+            return;
+        }
+        String name = userData.getNickname();
+
+        JComboBox<String> difficultyCombo = new JComboBox<>(new String[]{"쉬움", "보통", "어려움"});
+        JComboBox<String> modeCombo = new JComboBox<>(new String[]{"협동", "경쟁"});
+        JPanel optionPanel = new JPanel(new GridLayout(2, 2, 5, 5));
+        optionPanel.add(new JLabel("난이도:"));
+        optionPanel.add(difficultyCombo);
+        optionPanel.add(new JLabel("게임 모드:"));
+        optionPanel.add(modeCombo);
+
+        int result = JOptionPane.showConfirmDialog(this, optionPanel, "빠른 매칭",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        if (result != JOptionPane.OK_OPTION) return;
+
+        String difficulty = (String) difficultyCombo.getSelectedItem();
+        String mode = (String) modeCombo.getSelectedItem();
+
+        connectButton.setEnabled(false);
+        quickMatchButton.setText("매칭 취소");
+        statusLabel.setText("매칭 대기열에 등록 중...");
+        statusLabel.setForeground(Color.BLACK);
+
+        SwingWorker<ConnectionContext, String> worker = new SwingWorker<ConnectionContext, String>() {
+            @Override
+            protected ConnectionContext doInBackground() throws Exception {
+                Socket socket = new Socket("127.0.0.1", 9999);
+                matchSocket = socket;
+
+                ObjectOutputStream out = new ObjectOutputStream(socket.getOutputStream());
+                ObjectInputStream in = new ObjectInputStream(socket.getInputStream());
+
+                GamePacket joinPacket = new GamePacket(GamePacket.Type.JOIN, name,
+                        "MATCH_" + difficulty + "_" + mode, true);
+                joinPacket.setGameType(launcher.getGameModeType());
+                joinPacket.setAccountToken(UserData.currentToken());
+                out.writeObject(joinPacket);
+                out.flush();
+
+                // MATCH_FOUND 를 받을 때까지 대기
+                // 서버는 방에 넣은 뒤 MATCH_FOUND 를 보내므로, 그 전에 온 대기방 정보를 대기방 화면에 넘김
+                GamePacket lobbyUpdate = null;
+                while (true) {
+                    GamePacket packet = (GamePacket) in.readObject();
+                    if (packet.getType() == GamePacket.Type.MATCH_FOUND) {
+                        ConnectionContext context = new ConnectionContext(socket, out, in, lobbyUpdate);
+                        context.roomNumber = packet.getMessage();
+                        return context;
+                    }
+                    if (packet.getType() == GamePacket.Type.LOBBY_UPDATE) {
+                        lobbyUpdate = packet;
+                        continue;
+                    }
+                    if (packet.getType() == GamePacket.Type.MESSAGE && packet.getMessage() != null) {
+                        if (packet.getMessage().startsWith("오류")) {
+                            socket.close();
+                            throw new Exception(packet.getMessage());
+                        }
+                        publish(packet.getMessage());
+                    }
+                }
+            }
+
+            @Override
+            protected void process(java.util.List<String> messages) {
+                statusLabel.setText(messages.get(messages.size() - 1));
+            }
+
+            @Override
+            protected void done() {
+                matchSocket = null;
+                try {
+                    ConnectionContext context = get();
+                    launcher.switchToLobby(
+                        context.socket,
+                        context.out,
+                        context.in,
+                        name,
+                        context.roomNumber,
+                        context.firstPacket
+                    );
+                    resetUI();
+                } catch (Exception ex) {
+                    resetUI();
+                    if (!isCancelled() && !(ex.getCause() instanceof java.net.SocketException)) {
+                        String msg = (ex.getCause() != null) ? ex.getCause().getMessage() : ex.getMessage();
+                        statusLabel.setText("매칭 실패: " + msg);
+                        statusLabel.setForeground(Color.RED);
+                    }
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    private void cancelQuickMatch() {
+        try {
+            if (matchSocket != null) matchSocket.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        matchSocket = null;
+        resetUI();
+        statusLabel.setText("매칭을 취소했습니다.");
+    }
+    
     private void connectToServer() {
         String roomNumber = roomNumberField.getText().trim();
         UserData userData = UserData.getInstance();
@@ -163,6 +315,7 @@ public class HomePanel extends JPanel {
 
                 GamePacket joinPacket = new GamePacket(GamePacket.Type.JOIN, name, roomNumber, true);
                 joinPacket.setGameType(launcher.getGameModeType()); // NORMAL 또는 FLASHLIGHT
+                joinPacket.setAccountToken(UserData.currentToken());   // 경험치 지급용 계정 인증
                 out.writeObject(joinPacket);
                 out.flush();
                 
@@ -0,0 +1,271 @@
+package client;
+
+import model.GamePacket;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+// 서버에서 받은 라운드 이미지를 내용 해시 이름으로 디스크에 보관 (한 번 받은 이미지는 다시 받지 않음)
+public class ImageCache {
+
+    private static final File CACHE_DIR = new File("cache", "images");
+
+    private static ImageCache instance;
+
+    // 해시 -> 받는 중인 이미지
+    private final Map<String, Download> downloads = new HashMap<>();
+
+    // 경로 -> 미리 디코딩해 둔 이미지 (현재/다음 라운드 정도만 유지)
+    private static final int MAX_DECODED = 3;
+    private final Map<String, Prepared> decoded = new LinkedHashMap<String, Prepared>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Prepared> eldest) {
+            return size() > MAX_DECODED;
+        }
+    };
+
+    private final ExecutorService decoder = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "image-decoder");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private ImageCache() {
+        CACHE_DIR.mkdirs();
+    }
+
+    public static synchronized ImageCache getInstance() {
+        if (instance == null) instance = new ImageCache();
+        return instance;
+    }
+
+    // 캐시에 있으면 파일 경로, 없으면 null
+    public String getCachedPath(String hash) {
+        File f = fileFor(hash);
+        return f.isFile() ? f.getPath() : null;
+    }
+
+    // 서버에 이미지를 요청하고, 다 받으면 EDT 에서 onReady(경로) 호출 (실패 시 fallbackPath)
+    public void request(String hash, String fallbackPath, Consumer<GamePacket> sender, Consumer<String> onReady) {
+        String cached = getCachedPath(hash);
+        if (cached != null) {
+            SwingUtilities.invokeLater(() -> onReady.accept(cached));
+            return;
+        }
+
+        boolean first;
+        synchronized (this) {
+            Download d = downloads.get(hash);
+            first = (d == null);
+            if (first) {
+                d = new Download(fallbackPath);
+                downloads.put(hash, d);
+            }
+            d.callbacks.add(onReady);
+        }
+        if (first) {
+            sender.accept(new GamePacket(GamePacket.Type.IMAGE_REQUEST, "CLIENT", hash));
+        }
+    }
+
+    // 수신 스레드에서 호출: 조각을 모으고, 다 모이면 해시 확인 후 저장
+    public void accept(GamePacket chunk) {
+        String hash = chunk.getImageHash();
+        Download d;
+        boolean complete;
+        synchronized (this) {
+            d = downloads.get(hash);
+            if (d == null) return;
+            if (d.parts == null) d.parts = new byte[chunk.getChunkCount()][];
+            if (d.parts[chunk.getChunkIndex()] == null) {
+                d.parts[chunk.getChunkIndex()] = chunk.getChunkData();
+                d.received++;
+            }
+            complete = d.received == d.parts.length;
+            if (complete) downloads.remove(hash);
+        }
+        if (!complete) return;
+
+        String path;
+        try {
+            path = store(hash, d.parts);
+        } catch (IOException e) {
+            System.out.println("[이미지 캐시] 저장 실패: " + e.getMessage());
+            path = d.fallbackPath;
+        }
+
+        String readyPath = path;
+        for (Consumer<String> callback : d.callbacks) {
+            SwingUtilities.invokeLater(() -> callback.accept(readyPath));
+        }
+    }
+
+    // 다음 라운드 이미지를 미리 받아서 백그라운드에서 디코딩/축소 (EDT 에서 호출)
+    public void prefetch(String hash, String fallbackPath, Consumer<GamePacket> sender, Dimension boardSize) {
+        if (hash == null) {
+            decodeAsync(fallbackPath, boardSize);
+            return;
+        }
+        request(hash, fallbackPath, sender, path -> decodeAsync(path, boardSize));
+    }
+
+    // 수신 스레드에서 호출: ROUND_START 를 EDT 로 넘기기 전에 캐시된 이미지를 디코딩해 둠
+    public void decodeNow(String hash, String fallbackPath) {
+        String path = (hash != null) ? getCachedPath(hash) : fallbackPath;
+        if (path == null) return;
+        synchronized (decoded) {
+            if (decoded.containsKey(path)) return;
+        }
+        Prepared prepared = decode(path, null);
+        if (prepared == null) return;
+        synchronized (decoded) {
+            decoded.putIfAbsent(path, prepared);
+        }
+    }
+
+    public void decodeAsync(String path, Dimension boardSize) {
+        synchronized (decoded) {
+            if (decoded.containsKey(path)) return;
+        }
+        decoder.execute(() -> {
+            Prepared prepared = decode(path, boardSize);
+            if (prepared == null) return;
+            synchronized (decoded) {
+                decoded.put(path, prepared);
+            }
+        });
+    }
+
+    // 미리 디코딩된 원본 크기 이미지, 없으면 null
+    public Image getDecoded(String path) {
+        synchronized (decoded) {
+            Prepared prepared = decoded.get(path);
+            return (prepared != null) ? prepared.full : null;
+        }
+    }
+
+    // 미리 축소해 둔 이미지가 요청 크기와 같으면 반환
+    public Image getScaled(String path, int width, int height) {
+        synchronized (decoded) {
+            Prepared prepared = decoded.get(path);
+            if (prepared == null || prepared.scaled == null) return null;
+            if (prepared.scaled.getWidth() != width || prepared.scaled.getHeight() != height) return null;
+            return prepared.scaled;
+        }
+    }
+
+    private Prepared decode(String path, Dimension boardSize) {
+        try {
+            BufferedImage src = ImageIO.read(new File(path));
+            if (src == null) return null;
+
+            BufferedImage full = toCompatible(src, src.getWidth(), src.getHeight());
+            BufferedImage scaled = null;
+            if (boardSize != null && boardSize.width > 0 && boardSize.height > 0) {
+                double scale = Math.min((double) boardSize.width / src.getWidth(),
+                                        (double) boardSize.height / src.getHeight());
+                int w = (int) (src.getWidth() * scale);
+                int h = (int) (src.getHeight() * scale);
+                if (w > 0 && h > 0) scaled = toCompatible(src, w, h);
+            }
+            return new Prepared(full, scaled);
+        } catch (IOException e) {
+            System.out.println("[이미지 캐시] 디코딩 실패: " + path + " (" + e.getMessage() + ")");
+            return null;
+        }
+    }
+
+    // 화면 형식에 맞춘 이미지로 변환 (그릴 때 변환 비용 없음)
+    static BufferedImage toCompatible(Image src, int width, int height) {
+        BufferedImage dst;
+        if (GraphicsEnvironment.isHeadless()) {
+            dst = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        } else {
+            dst = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.OPAQUE);
+        }
+        Graphics2D g = dst.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(src, 0, 0, width, height, null);
+        g.dispose();
+        return dst;
+    }
+
+    private String store(String hash, byte[][] parts) throws IOException {
+        int total = 0;
+        for (byte[] part : parts) total += part.length;
+        byte[] data = new byte[total];
+        int pos = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, data, pos, part.length);
+            pos += part.length;
+        }
+
+        if (!hash.equals(sha256(data))) {
+            throw new IOException("해시 불일치 " + hash);
+        }
+
+        CACHE_DIR.mkdirs();
+        File target = fileFor(hash);
+        File tmp = new File(CACHE_DIR, hash + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(tmp)) {
+            fos.write(data);
+        }
+        Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return target.getPath();
+    }
+
+    private static File fileFor(String hash) {
+        return new File(CACHE_DIR, hash + ".img");
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (Exception e) {
+            throw new RuntimeException("해시 계산 실패", e);
+        }
+    }
+
+    private static class Prepared {
+        final BufferedImage full;
+        final BufferedImage scaled;
+
+        Prepared(BufferedImage full, BufferedImage scaled) {
+            this.full = full;
+            this.scaled = scaled;
+        }
+    }
+
+    private static class Download {
+        final String fallbackPath;
+        final List<Consumer<String>> callbacks = new ArrayList<>();
+        byte[][] parts;
+        int received;
+
+        Download(String fallbackPath) {
+            this.fallbackPath = fallbackPath;
+        }
+    }
+}
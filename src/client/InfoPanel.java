@@ -17,6 +17,7 @@ public class InfoPanel extends JPanel {
     private JComboBox<String> difficultyCombo;
     private JRadioButton coopRadio;
     private JRadioButton pvpRadio;
+    private JComboBox<Integer> capacityCombo;
     private JButton startButton;
     private JButton readyButton;
     private JTextArea playerListArea;
@@ -65,6 +66,14 @@ public class InfoPanel extends JPanel {
 
         settingsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
 
+        // 이벤트용 큰 방 (서버 최대 50명)
+        settingsPanel.add(new JLabel("최대 인원:"));
+        capacityCombo = new JComboBox<>(new Integer[]{5, 10, 20, 30, 50});
+        capacityCombo.setMaximumSize(new Dimension(Integer.MAX_VALUE, 25));
+        settingsPanel.add(capacityCombo);
+
+        settingsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+
         readyButton = new JButton("게임 준비");
         startButton = new JButton("게임 시작");
 
@@ -77,6 +86,7 @@ public class InfoPanel extends JPanel {
         difficultyCombo.setEnabled(false);
         coopRadio.setEnabled(false);
         pvpRadio.setEnabled(false);
+        capacityCombo.setEnabled(false);
 
         settingsPanel.add(readyButton);
         settingsPanel.add(startButton);
@@ -99,6 +109,7 @@ public class InfoPanel extends JPanel {
         difficultyCombo.addActionListener(settingsListener);
         coopRadio.addActionListener(settingsListener);
         pvpRadio.addActionListener(settingsListener);
+        capacityCombo.addActionListener(settingsListener);
     }
 
     public void setPlayerName(String playerName) {
@@ -119,12 +130,14 @@ public class InfoPanel extends JPanel {
         String difficulty = (String) difficultyCombo.getSelectedItem();
         String mode = coopRadio.isSelected() ? "협동" : "경쟁";
 
-        launcher.sendPacket(new GamePacket(
+        GamePacket update = new GamePacket(
                 GamePacket.Type.SETTINGS_UPDATE,
                 playerName,
                 difficulty,
                 mode
-        ));
+        );
+        update.setMaxPlayers((Integer) capacityCombo.getSelectedItem());
+        launcher.sendPacket(update);
     }
 
     public void resetUI() {
@@ -141,6 +154,7 @@ public class InfoPanel extends JPanel {
         difficultyCombo.setEnabled(false);
         coopRadio.setEnabled(false);
         pvpRadio.setEnabled(false);
+        capacityCombo.setEnabled(false);
 
         playerListArea.setText("플레이어:\n");
     }
@@ -148,14 +162,17 @@ public class InfoPanel extends JPanel {
     public void updateUI(String hostName,
                          Map<String, Boolean> playerStatus,
                          String difficulty,
-                         String gameMode) {
+                         String gameMode,
+                         int maxPlayers) {
 
         
         // 방장 판단
         isHost = hostName != null && hostName.equals(playerName);
 
         // 플레이어 목록 갱신
-        StringBuilder sb = new StringBuilder("플레이어 목록\n");
+        StringBuilder sb = new StringBuilder("플레이어 목록");
+        if (maxPlayers > 0) sb.append(" (").append(playerStatus.size()).append("/").append(maxPlayers).append(")");
+        sb.append("\n");
         for (Map.Entry<String, Boolean> entry : playerStatus.entrySet()) {
             String name = entry.getKey();
             boolean ready = entry.getValue();
@@ -178,6 +195,7 @@ public class InfoPanel extends JPanel {
             difficultyCombo.setEnabled(true);
             coopRadio.setEnabled(true);
             pvpRadio.setEnabled(true);
+            capacityCombo.setEnabled(true);
 
             boolean allReady = true;
             for (Map.Entry<String, Boolean> entry : playerStatus.entrySet()) {
@@ -195,20 +213,24 @@ public class InfoPanel extends JPanel {
             difficultyCombo.setEnabled(false);
             coopRadio.setEnabled(false);
             pvpRadio.setEnabled(false);
+            capacityCombo.setEnabled(false);
         }
 
         difficultyCombo.removeActionListener(settingsListener);
         coopRadio.removeActionListener(settingsListener);
         pvpRadio.removeActionListener(settingsListener);
+        capacityCombo.removeActionListener(settingsListener);
 
         difficultyCombo.setSelectedItem(difficulty);
         if ("협동".equals(gameMode)) coopRadio.setSelected(true);
         else pvpRadio.setSelected(true);
+        if (maxPlayers > 0) capacityCombo.setSelectedItem(maxPlayers);
 
         if (isHost) {
             difficultyCombo.addActionListener(settingsListener);
             coopRadio.addActionListener(settingsListener);
             pvpRadio.addActionListener(settingsListener);
+            capacityCombo.addActionListener(settingsListener);
         }
     }
 }
@@ -0,0 +1,117 @@
+package client;
+
+import model.GamePacket;
+import model.LeaderboardEntry;
+import model.UserData;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+
+// 난이도/모드별 전체 랭킹 (상위 100명 + 내 순위)
+public class LeaderboardDialog extends JDialog {
+
+    private static final int TIMEOUT_MS = 5000;
+
+    private final JComboBox<String> difficultyBox = new JComboBox<>(new String[]{"쉬움", "보통", "어려움"});
+    private final JComboBox<String> modeBox = new JComboBox<>(new String[]{"경쟁", "협동", "1인"});
+    private final DefaultListModel<LeaderboardEntry> listModel = new DefaultListModel<>();
+    private final JList<LeaderboardEntry> rankList = new JList<>(listModel);
+    private final JLabel myRankLabel = new JLabel(" ");
+
+    public LeaderboardDialog(Window owner) {
+        super(owner, "랭킹", ModalityType.MODELESS);
+
+        setLayout(new BorderLayout(5, 5));
+        ((JComponent) getContentPane()).setBorder(new EmptyBorder(10, 10, 10, 10));
+
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        filterPanel.add(difficultyBox);
+        filterPanel.add(modeBox);
+        add(filterPanel, BorderLayout.NORTH);
+
+        rankList.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
+        add(new JScrollPane(rankList), BorderLayout.CENTER);
+
+        myRankLabel.setFont(new Font("맑은 고딕", Font.BOLD, 13));
+        add(myRankLabel, BorderLayout.SOUTH);
+
+        difficultyBox.addActionListener(e -> refresh());
+        modeBox.addActionListener(e -> refresh());
+
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setSize(320, 450);
+        setLocationRelativeTo(owner);
+    }
+
+    public void open() {
+        setVisible(true);
+        refresh();
+    }
+
+    private void refresh() {
+        String difficulty = (String) difficultyBox.getSelectedItem();
+        String mode = (String) modeBox.getSelectedItem();
+        UserData user = UserData.getInstance();
+        String nickname = (user != null) ? user.getNickname() : "Guest";
+
+        myRankLabel.setText("불러오는 중...");
+        SwingWorker<GamePacket, Void> worker = new SwingWorker<GamePacket, Void>() {
+            @Override
+            protected GamePacket doInBackground() throws Exception {
+                return fetch(nickname, difficulty, mode);
+            }
+
+            @Override
+            protected void done() {
+                // 조회하는 동안 선택을 바꿨으면 이전 결과는 버림
+                if (!difficulty.equals(difficultyBox.getSelectedItem()) || !mode.equals(modeBox.getSelectedItem())) return;
+                try {
+                    showResult(get());
+                } catch (Exception e) {
+                    listModel.clear();
+                    myRankLabel.setText("서버에 연결할 수 없습니다.");
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    private void showResult(GamePacket p) {
+        listModel.clear();
+        List<LeaderboardEntry> entries = p.getLeaderboard();
+        if (entries != null) {
+            for (LeaderboardEntry entry : entries) {
+                listModel.addElement(entry);
+            }
+        }
+        if (p.getMyRank() > 0) {
+            myRankLabel.setText("내 순위: " + p.getMyRank() + "위 (최고 " + p.getMyBestScore() + "점)");
+        } else {
+            myRankLabel.setText("내 기록이 없습니다.");
+        }
+    }
+
+    private static GamePacket fetch(String nickname, String difficulty, String mode) throws Exception {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("127.0.0.1", 9999), TIMEOUT_MS);
+            socket.setSoTimeout(TIMEOUT_MS);
+            ObjectOutputStream out = new ObjectOutputStream(socket.getOutputStream());
+            ObjectInputStream in = new ObjectInputStream(socket.getInputStream());
+
+            GamePacket request = new GamePacket(GamePacket.Type.LEADERBOARD, nickname, (String) null);
+            request.setDifficulty(difficulty);
+            request.setGameMode(mode);
+            out.writeObject(new GamePacket(GamePacket.Type.JOIN, nickname, "LEADERBOARD", true));
+            out.writeObject(request);
+            out.flush();
+
+            return (GamePacket) in.readObject();
+        }
+    }
+}
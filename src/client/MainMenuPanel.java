@@ -23,19 +23,21 @@ public class MainMenuPanel extends JPanel {
         add(titlePanel, BorderLayout.NORTH);
         
         JPanel buttonPanel = new JPanel();
-        buttonPanel.setLayout(new GridLayout(5, 1, 0, 15));
+        buttonPanel.setLayout(new GridLayout(6, 1, 0, 15));
         buttonPanel.setOpaque(false);
-        buttonPanel.setBorder(new EmptyBorder(50, 100, 50, 100));
+        buttonPanel.setBorder(new EmptyBorder(30, 100, 30, 100));
         
         JButton singlePlayButton = createMenuButton("1인 플레이");
         JButton multiPlayButton = createMenuButton("멀티 플레이");
         JButton dynamicGameButton = createMenuButton("플래시 플레이");
+        JButton rankingButton = createMenuButton("랭킹");
         JButton myPageButton = createMenuButton("마이페이지");
         JButton exitButton = createMenuButton("종료");
         
         buttonPanel.add(singlePlayButton);
         buttonPanel.add(multiPlayButton);
         buttonPanel.add(dynamicGameButton);
+        buttonPanel.add(rankingButton);
         buttonPanel.add(myPageButton);
         buttonPanel.add(exitButton);
         
@@ -68,6 +70,9 @@ public class MainMenuPanel extends JPanel {
             launcher.switchToServerInputForFlashlight(); 
         });
 
+        rankingButton.addActionListener(e -> {
+            new LeaderboardDialog(SwingUtilities.getWindowAncestor(this)).open();
+        });
         
         myPageButton.addActionListener(e -> {
             launcher.switchToMyPage();
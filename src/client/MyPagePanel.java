@@ -4,6 +4,7 @@ import model.UserData;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.io.IOException;
 
 public class MyPagePanel extends JPanel {
     private GameLauncher launcher;
@@ -206,14 +207,21 @@ public class MyPagePanel extends JPanel {
             }
             
             try {
-                userData.changePassword(oldPassword, newPassword);
+                String error = AccountClient.changePassword(oldPassword, newPassword);
+                if (error != null) {
+                    JOptionPane.showMessageDialog(this,
+                        error,
+                        "오류",
+                        JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
                 JOptionPane.showMessageDialog(this,
                     "비밀번호가 변경되었습니다!",
                     "성공",
                     JOptionPane.INFORMATION_MESSAGE);
-            } catch (Exception e) {
+            } catch (IOException e) {
                 JOptionPane.showMessageDialog(this,
-                    e.getMessage(),
+                    "서버에 연결할 수 없습니다.",
                     "오류",
                     JOptionPane.ERROR_MESSAGE);
             }
@@ -1,9 +1,9 @@
 package client;
 
-import model.UserData;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.io.IOException;
 
 // 로그인/회원가입 패널
 public class NicknameSetupPanel extends JPanel {
@@ -127,13 +127,14 @@ public class NicknameSetupPanel extends JPanel {
         }
 
         try {
-            if (UserData.login(nickname, password)) {
+            String error = AccountClient.login(nickname, password);
+            if (error == null) {
                 statusLabel.setText("로그인 성공!");
                 statusLabel.setForeground(new Color(34, 139, 34));
                 launcher.switchToMainMenu();
             } else {
                 JOptionPane.showMessageDialog(this,
-                    "아이디 또는 비밀번호가 일치하지 않습니다.",
+                    error,
                     "로그인 실패",
                     JOptionPane.ERROR_MESSAGE);
                 passwordField.setText("");
@@ -178,13 +179,21 @@ public class NicknameSetupPanel extends JPanel {
             return;
         }
         
-        // 중복 검사 및 회원가입
-        if (UserData.register(nickname, password)) {
+        // 중복 검사 및 회원가입 (서버에서)
+        String error;
+        try {
+            error = AccountClient.register(nickname, password);
+        } catch (IOException e) {
+            statusLabel.setText("서버에 연결할 수 없습니다");
+            statusLabel.setForeground(Color.RED);
+            return;
+        }
+        if (error == null) {
             statusLabel.setText("회원가입 성공! 로그인 해주세요");
             statusLabel.setForeground(new Color(34, 139, 34));
             passwordField.setText("");
         } else {
-            statusLabel.setText("이미 사용 중인 아이디입니다");
+            statusLabel.setText(error);
             statusLabel.setForeground(Color.RED);
             nicknameField.selectAll();
         }
@@ -0,0 +1,90 @@
+package client;
+
+import model.GamePacket;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// 수신 스레드가 받은 패킷을 큐에 모아 두고, EDT 에서 한 번에 꺼내 처리
+// 같은 키를 가진 패킷(커서 위치, 점수판 등 최신 값만 의미 있는 것)은 묶음 안에서 마지막 것만 처리
+public class PacketDispatcher {
+
+    private static final int MAX_BATCH = 512;   // 한 번에 너무 오래 EDT 를 잡지 않도록
+
+    private final ConcurrentLinkedQueue<GamePacket> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private final Consumer<GamePacket> handler;
+    private final Function<GamePacket, String> supersedeKey;
+
+    // EDT 에서만 사용
+    private final List<GamePacket> batch = new ArrayList<>();
+    private final Set<String> seenKeys = new HashSet<>();
+    private long dispatched;
+    private long collapsed;
+
+    // supersedeKey: 뒤에 온 패킷이 앞의 것을 대체하면 키, 아니면 null
+    public PacketDispatcher(Consumer<GamePacket> handler, Function<GamePacket, String> supersedeKey) {
+        this.handler = handler;
+        this.supersedeKey = supersedeKey;
+    }
+
+    // 수신 스레드에서 호출
+    public void offer(GamePacket p) {
+        queue.add(p);
+        if (scheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::drain);
+        }
+    }
+
+    private void drain() {
+        scheduled.set(false);
+
+        GamePacket p;
+        while (batch.size() < MAX_BATCH && (p = queue.poll()) != null) {
+            batch.add(p);
+        }
+
+        // 뒤에서부터 보면서 이미 더 새 값이 있는 패킷은 버림
+        seenKeys.clear();
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            String key = supersedeKey.apply(batch.get(i));
+            if (key != null && !seenKeys.add(key)) {
+                batch.set(i, null);
+                collapsed++;
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            GamePacket packet = batch.get(i);
+            if (packet == null) continue;
+            dispatched++;
+            try {
+                handler.accept(packet);
+            } catch (Exception e) {
+                // 패킷 하나의 처리 오류로 같은 묶음의 나머지를 잃지 않도록
+                e.printStackTrace();
+            }
+        }
+        batch.clear();
+
+        if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::drain);
+        }
+    }
+
+    public long getDispatchedCount() {
+        return dispatched;
+    }
+
+    public long getCollapsedCount() {
+        return collapsed;
+    }
+}
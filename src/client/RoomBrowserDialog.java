@@ -0,0 +1,207 @@
+package client;
+
+import model.GamePacket;
+import model.RoomInfo;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.Socket;
+import java.util.function.Consumer;
+
+// 열린 방 목록을 보여주고 서버의 변경 알림을 실시간으로 반영하는 창
+public class RoomBrowserDialog extends JDialog {
+
+    private final String gameType;
+    private final String playerName;
+    private final Consumer<String> onRoomSelected;
+    private final Consumer<String> onSpectate;
+
+    private final DefaultListModel<RoomInfo> listModel = new DefaultListModel<>();
+    private final JList<RoomInfo> roomList = new JList<>(listModel);
+    private final JButton moreButton = new JButton("더 보기");
+    private final JLabel statusLabel = new JLabel("방 목록을 불러오는 중...");
+
+    private Socket socket;
+    private ObjectOutputStream out;
+    private String nextCursor = null;
+
+    public RoomBrowserDialog(Window owner, String gameType, String playerName,
+                             Consumer<String> onRoomSelected, Consumer<String> onSpectate) {
+        super(owner, "방 목록", ModalityType.MODELESS);
+        this.gameType = gameType;
+        this.playerName = playerName;
+        this.onRoomSelected = onRoomSelected;
+        this.onSpectate = onSpectate;
+
+        setLayout(new BorderLayout(5, 5));
+        ((JComponent) getContentPane()).setBorder(new EmptyBorder(10, 10, 10, 10));
+
+        statusLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        add(statusLabel, BorderLayout.NORTH);
+
+        roomList.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
+        roomList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        add(new JScrollPane(roomList), BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JButton joinButton = new JButton("입장");
+        JButton watchButton = new JButton("관전");
+        moreButton.setEnabled(false);
+        buttonPanel.add(moreButton);
+        buttonPanel.add(watchButton);
+        buttonPanel.add(joinButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        moreButton.addActionListener(e -> requestPage(nextCursor));
+        joinButton.addActionListener(e -> joinSelected());
+        watchButton.addActionListener(e -> spectateSelected());
+        roomList.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) joinSelected();
+            }
+        });
+
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                closeConnection();
+            }
+        });
+
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setSize(320, 400);
+        setLocationRelativeTo(owner);
+    }
+
+    public void open() {
+        setVisible(true);
+
+        Thread connectThread = new Thread(() -> {
+            try {
+                socket = new Socket("127.0.0.1", 9999);
+                out = new ObjectOutputStream(socket.getOutputStream());
+                ObjectInputStream in = new ObjectInputStream(socket.getInputStream());
+
+                GamePacket joinPacket = new GamePacket(GamePacket.Type.JOIN, playerName, "BROWSE_" + gameType, true);
+                joinPacket.setGameType(gameType);
+                synchronized (this) {
+                    out.writeObject(joinPacket);
+                    out.flush();
+                }
+
+                while (true) {
+                    Object obj = in.readObject();
+                    if (!(obj instanceof GamePacket)) continue;
+                    GamePacket p = (GamePacket) obj;
+                    SwingUtilities.invokeLater(() -> handlePacket(p));
+                }
+            } catch (Exception e) {
+                if (isDisplayable()) {
+                    SwingUtilities.invokeLater(() -> {
+                        statusLabel.setText("서버 연결 실패: " + e.getMessage());
+                        statusLabel.setForeground(Color.RED);
+                    });
+                }
+            }
+        });
+        connectThread.setDaemon(true);
+        connectThread.start();
+    }
+
+    private void handlePacket(GamePacket p) {
+        switch (p.getType()) {
+            case ROOM_LIST:
+                if (p.getRoomList() != null) {
+                    for (RoomInfo info : p.getRoomList()) {
+                        applyUpdate(info);
+                    }
+                }
+                nextCursor = p.getMessage();
+                moreButton.setEnabled(nextCursor != null);
+                updateStatus();
+                break;
+
+            case ROOM_UPDATE:
+                if (p.getRoomInfo() != null) {
+                    applyUpdate(p.getRoomInfo());
+                    updateStatus();
+                }
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    // 같은 방 키가 있으면 교체, 닫힌 방이면 제거, 없으면 추가
+    private void applyUpdate(RoomInfo info) {
+        for (int i = 0; i < listModel.size(); i++) {
+            if (listModel.get(i).getRoomKey().equals(info.getRoomKey())) {
+                if (info.isClosed()) {
+                    listModel.remove(i);
+                } else {
+                    listModel.set(i, info);
+                }
+                return;
+            }
+        }
+        if (!info.isClosed()) {
+            listModel.addElement(info);
+        }
+    }
+
+    private void updateStatus() {
+        statusLabel.setForeground(Color.BLACK);
+        statusLabel.setText(listModel.isEmpty() ? "열린 방이 없습니다." : "방을 선택하고 입장하세요.");
+    }
+
+    private void requestPage(String afterKey) {
+        if (out == null) return;
+        try {
+            synchronized (this) {
+                out.writeObject(new GamePacket(GamePacket.Type.ROOM_LIST_REQUEST, playerName, afterKey));
+                out.flush();
+            }
+        } catch (IOException e) {
+            statusLabel.setText("요청 실패: " + e.getMessage());
+            statusLabel.setForeground(Color.RED);
+        }
+    }
+
+    private void joinSelected() {
+        RoomInfo selected = roomList.getSelectedValue();
+        if (selected == null) return;
+        if (!"LOBBY".equals(selected.getState()) || selected.getFreeSlots() == 0) {
+            statusLabel.setText("입장할 수 없는 방입니다.");
+            statusLabel.setForeground(Color.RED);
+            return;
+        }
+        dispose();
+        onRoomSelected.accept(selected.getRoomNumber());
+    }
+
+    // 진행 중인 방도 관전 가능 (인원 제한 없음)
+    private void spectateSelected() {
+        RoomInfo selected = roomList.getSelectedValue();
+        if (selected == null) return;
+        dispose();
+        onSpectate.accept(selected.getRoomNumber());
+    }
+
+    private void closeConnection() {
+        try {
+            if (socket != null && !socket.isClosed()) socket.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
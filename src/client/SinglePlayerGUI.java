@@ -142,6 +142,7 @@ public class SinglePlayerGUI extends BaseGameGUI {
                 int foundIndex = panel.checkHit(gamePos.x, gamePos.y);
 
                 if (foundIndex != -1) {
+                    predictClick(foundIndex, gamePos.x, gamePos.y);
                     sendPacket(new GamePacket(GamePacket.Type.CLICK, playerName, foundIndex));
                 } else {
                     panel.addMark(new Point((int)gamePos.x, (int)gamePos.y), false, null); 
@@ -172,17 +173,16 @@ public class SinglePlayerGUI extends BaseGameGUI {
     @Override
     protected void handleCommonResult(GamePacket p) {
         boolean correct = p.isCorrect();
+        boolean predicted = reconcileResult(p, Color.GREEN);
         
         if (correct) {
             // 마크 표시
             int idx = p.getAnswerIndex();
-            Point center = new Point(0,0);
+            Point center = answerCenter(idx);
             if (gameBoardPanel.originalAnswers != null && idx < gameBoardPanel.originalAnswers.size()) {
-                Rectangle r = gameBoardPanel.originalAnswers.get(idx);
-                center = new Point(r.x + r.width/2, r.y + r.height/2);
                 gameBoardPanel.foundStatus[idx] = true;
             }
-            gameBoardPanel.addMark(center, true, Color.GREEN);
+            if (!predicted) gameBoardPanel.addMark(center, true, Color.GREEN);
             
             // 점수 및 개수 증가
             myScore += 10;
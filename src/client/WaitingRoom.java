@@ -105,8 +105,8 @@ public class WaitingRoom extends JPanel {
     }
 
     public void updateLobbyInfo(String hostName, Map<String, Boolean> playerStatus,
-                                String difficulty, String gameMode) {
-        infoPanel.updateUI(hostName, playerStatus, difficulty, gameMode);
+                                String difficulty, String gameMode, int maxPlayers) {
+        infoPanel.updateUI(hostName, playerStatus, difficulty, gameMode, maxPlayers);
     }
 
     public void appendChat(String msg) {
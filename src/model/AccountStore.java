@@ -0,0 +1,342 @@
+package model;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 계정 저장소: 고정 크기 레코드를 메모리 맵 파일에 두고, 레코드 배열 자체를 오픈 어드레싱 해시 테이블로 사용
+// 시작 시 파일을 매핑만 하므로 계정 수와 상관없이 바로 열리고, 조회/경험치 갱신은 보통 페이지 하나만 건드림
+// 용량을 늘릴 때는 같은 파일 끝에 두 배 크기 테이블을 새로 만들고 헤더의 테이블 위치만 바꿈
+// (매핑된 파일을 이름 바꾸기로 덮어쓰지 않음, 옛 테이블 자리는 비워 둔 채 남음)
+public class AccountStore {
+
+    private static final int MAGIC = 0x41434958;   // "ACIX"
+    private static final int VERSION = 2;
+
+    // 헤더: magic, version, capacity, count, 테이블 위치(long, 버전 1 은 항상 HEADER_SIZE) (한 페이지 차지)
+    private static final int HEADER_SIZE = 4096;
+    private static final int OFF_VERSION = 4;
+    private static final int OFF_CAPACITY = 8;
+    private static final int OFF_COUNT = 12;
+    private static final int OFF_TABLE = 16;
+
+    // 슬롯 (256바이트, 한 페이지에 16개)
+    private static final int SLOT_SIZE = 256;
+    private static final int S_STATE = 0;          // 0 = 빈 칸, 1 = 사용 중
+    private static final int S_HASH = 4;
+    private static final int S_NICK = 8;           // 길이(short) + UTF-8
+    private static final int NICK_MAX = 62;
+    private static final int S_PASSWORD = 72;      // 길이(short) + UTF-8
+    private static final int PASSWORD_MAX = 126;
+    private static final int S_LEVEL = 200;
+    private static final int S_EXP = 204;
+
+    private static final int INITIAL_CAPACITY = 1024;   // 2의 거듭제곱 유지
+    private static final double MAX_LOAD = 0.5;
+
+    private final File file;
+    private final File dir;
+    private final String name;
+    private final boolean created;
+
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer map;     // 현재 테이블 (슬롯 0 이 위치 0)
+    private int capacity;
+    private int count;
+
+    // dir/<name>.idx 사용
+    public AccountStore(File dir, String name) throws IOException {
+        dir.mkdirs();
+        this.dir = dir;
+        this.name = name;
+        this.file = new File(dir, name + ".idx");
+        this.created = !file.isFile() || file.length() == 0;
+
+        if (created) {
+            createFile(file, INITIAL_CAPACITY);
+        }
+        open();
+        if (created) {
+            importLogFormat();
+        }
+    }
+
+    // 새로 만든 파일이면 true (이전 데이터를 옮겨올지 판단용)
+    public synchronized boolean isNew() {
+        return created && count == 0;
+    }
+
+    public synchronized Record get(String nickname) {
+        int slot = find(nickname, hash(nickname));
+        return slot < 0 ? null : readSlot(slot);
+    }
+
+    public synchronized boolean contains(String nickname) {
+        return find(nickname, hash(nickname)) >= 0;
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    // 전체 스캔 (관리/통계용)
+    public synchronized Collection<Record> all() {
+        List<Record> list = new ArrayList<>(count);
+        for (int i = 0; i < capacity; i++) {
+            if (map.get(slotOffset(i) + S_STATE) == 1) list.add(readSlot(i));
+        }
+        return list;
+    }
+
+    // 저장 가능한 닉네임인지 (고정 칸 크기 제한)
+    public static boolean fits(String nickname) {
+        return nickname.getBytes(StandardCharsets.UTF_8).length <= NICK_MAX;
+    }
+
+    // 새 계정 또는 변경된 계정 기록 (기존 계정이면 그 슬롯만 덮어씀)
+    public synchronized void put(Record record) throws IOException {
+        byte[] nick = record.nickname.getBytes(StandardCharsets.UTF_8);
+        byte[] password = (record.passwordHash != null ? record.passwordHash : "").getBytes(StandardCharsets.UTF_8);
+        if (nick.length > NICK_MAX) throw new IllegalArgumentException("닉네임이 너무 깁니다: " + record.nickname);
+        if (password.length > PASSWORD_MAX) throw new IllegalArgumentException("비밀번호 해시가 너무 깁니다");
+
+        int h = hash(record.nickname);
+        int slot = find(record.nickname, h);
+        if (slot < 0) {
+            if (count + 1 > capacity * MAX_LOAD) {
+                grow();
+            }
+            slot = freeSlot(h);
+            writeSlot(slot, h, nick, password, record.level, record.experience);
+            count++;
+            header.putInt(OFF_COUNT, count);
+            header.force(OFF_COUNT, 4);
+        } else {
+            writeSlot(slot, h, nick, password, record.level, record.experience);
+        }
+        // 바뀐 슬롯이 있는 페이지만 디스크로
+        map.force(slotOffset(slot), SLOT_SIZE);
+    }
+
+    public synchronized void putAll(Collection<Record> records) throws IOException {
+        for (Record r : records) {
+            put(r);
+        }
+    }
+
+    // 디스크에 확실히 기록 (종료/이전 데이터 옮긴 뒤)
+    public synchronized void force() {
+        if (map != null) map.force();
+        if (header != null) header.force();
+    }
+
+    public synchronized void close() {
+        try {
+            force();
+            if (channel != null) channel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        map = null;
+        header = null;
+        channel = null;
+    }
+
+    // 닉네임이 있는 슬롯 번호, 없으면 -1 (선형 탐사)
+    private int find(String nickname, int h) {
+        byte[] nick = null;
+        int mask = capacity - 1;
+        for (int i = h & mask; ; i = (i + 1) & mask) {
+            int off = slotOffset(i);
+            if (map.get(off + S_STATE) == 0) return -1;
+            if (map.getInt(off + S_HASH) != h) continue;
+            if (nick == null) nick = nickname.getBytes(StandardCharsets.UTF_8);
+            if (nickEquals(off, nick)) return i;
+        }
+    }
+
+    private int freeSlot(int h) {
+        int mask = capacity - 1;
+        int i = h & mask;
+        while (map.get(slotOffset(i) + S_STATE) != 0) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private boolean nickEquals(int off, byte[] nick) {
+        if (map.getShort(off + S_NICK) != nick.length) return false;
+        for (int k = 0; k < nick.length; k++) {
+            if (map.get(off + S_NICK + 2 + k) != nick[k]) return false;
+        }
+        return true;
+    }
+
+    // 상태 바이트는 마지막에 써서, 쓰다 만 새 슬롯은 빈 칸으로 남음
+    private void writeSlot(int slot, int h, byte[] nick, byte[] password, int level, int experience) {
+        int off = slotOffset(slot);
+        map.putInt(off + S_HASH, h);
+        map.putShort(off + S_NICK, (short) nick.length);
+        map.put(off + S_NICK + 2, nick);
+        map.putShort(off + S_PASSWORD, (short) password.length);
+        map.put(off + S_PASSWORD + 2, password);
+        map.putInt(off + S_LEVEL, level);
+        map.putInt(off + S_EXP, experience);
+        map.put(off + S_STATE, (byte) 1);
+    }
+
+    private Record readSlot(int slot) {
+        int off = slotOffset(slot);
+        String nickname = readString(off + S_NICK);
+        String password = readString(off + S_PASSWORD);
+        return new Record(nickname, password, map.getInt(off + S_LEVEL), map.getInt(off + S_EXP));
+    }
+
+    private String readString(int off) {
+        byte[] b = new byte[map.getShort(off)];
+        map.get(off + 2, b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    // 파일 끝(새 영역)에 두 배 크기 테이블을 만들어 다시 넣고, 디스크에 쓴 뒤 헤더가 새 테이블을 가리키게 함
+    // 헤더를 바꾸기 전에 죽으면 옛 테이블이 그대로 유효함
+    private void grow() throws IOException {
+        int newCapacity = capacity * 2;
+        long newOffset = channel.size();
+        // 새 영역을 매핑하면 파일이 그만큼 늘어나고 0 으로 채워짐 (빈 칸)
+        MappedByteBuffer dst = channel.map(FileChannel.MapMode.READ_WRITE, newOffset, tableSize(newCapacity));
+
+        int mask = newCapacity - 1;
+        byte[] slotBytes = new byte[SLOT_SIZE];
+        for (int i = 0; i < capacity; i++) {
+            int off = slotOffset(i);
+            if (map.get(off + S_STATE) != 1) continue;
+            int j = map.getInt(off + S_HASH) & mask;
+            while (dst.get(slotOffset(j) + S_STATE) != 0) {
+                j = (j + 1) & mask;
+            }
+            map.get(off, slotBytes);
+            dst.put(slotOffset(j), slotBytes);
+        }
+        dst.force();
+
+        header.putInt(OFF_VERSION, VERSION);
+        header.putInt(OFF_CAPACITY, newCapacity);
+        header.putLong(OFF_TABLE, newOffset);
+        header.force();
+
+        map = dst;
+        capacity = newCapacity;
+        System.out.println("[계정 저장소] 용량 확장: " + newCapacity + " 슬롯 (계정 " + count + "개)");
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() < HEADER_SIZE) throw new IOException("계정 파일 손상: " + file);
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        if (header.getInt(0) != MAGIC) throw new IOException("계정 파일 형식 아님: " + file);
+        int version = header.getInt(OFF_VERSION);
+        if (version != 1 && version != VERSION) throw new IOException("지원하지 않는 계정 파일 버전: " + version);
+        capacity = header.getInt(OFF_CAPACITY);
+        count = header.getInt(OFF_COUNT);
+        long tableOffset = version == 1 ? HEADER_SIZE : header.getLong(OFF_TABLE);
+        if (Integer.bitCount(capacity) != 1 || tableOffset < HEADER_SIZE
+                || channel.size() < tableOffset + tableSize(capacity)) {
+            throw new IOException("계정 파일 손상: " + file);
+        }
+        map = channel.map(FileChannel.MapMode.READ_WRITE, tableOffset, tableSize(capacity));
+    }
+
+    private static void createFile(File target, int capacity) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(target, "rw")) {
+            raf.setLength(0);
+            raf.setLength(HEADER_SIZE + tableSize(capacity));   // 빈 슬롯은 0 으로 채워짐
+            raf.writeInt(MAGIC);
+            raf.writeInt(VERSION);
+            raf.writeInt(capacity);
+            raf.writeInt(0);
+            raf.writeLong(HEADER_SIZE);
+            raf.getFD().sync();
+        }
+    }
+
+    private static long tableSize(int capacity) {
+        return (long) capacity * SLOT_SIZE;
+    }
+
+    private static int slotOffset(int slot) {
+        return slot * SLOT_SIZE;
+    }
+
+    // 파일에 저장되므로 String.hashCode (명세로 고정된 값) 를 섞어서 사용
+    private static int hash(String nickname) {
+        int h = nickname.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // 이전 형식 (<name>.snap 스냅샷 + <name>.log 변경 로그) 이 있으면 한 번 옮기고 보관용으로 이름 변경
+    private void importLogFormat() throws IOException {
+        File snap = new File(dir, name + ".snap");
+        File log = new File(dir, name + ".log");
+        if (!snap.isFile() && !log.isFile()) return;
+
+        Map<String, Record> latest = new LinkedHashMap<>();
+        if (snap.isFile()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(snap)))) {
+                in.readInt();   // magic
+                in.readInt();   // version
+                int n = in.readInt();
+                for (int i = 0; i < n; i++) {
+                    Record r = readLogFields(in);
+                    latest.put(r.nickname, r);
+                }
+            }
+        }
+        if (log.isFile()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(log)))) {
+                while (in.read() == 1) {
+                    Record r = readLogFields(in);
+                    latest.put(r.nickname, r);
+                }
+            } catch (EOFException | UTFDataFormatException e) {
+                // 쓰다 만 마지막 레코드는 버림
+            }
+        }
+        putAll(latest.values());
+        force();
+        snap.renameTo(new File(dir, name + ".snap.old"));
+        log.renameTo(new File(dir, name + ".log.old"));
+        System.out.println("[계정 저장소] 이전 로그 형식에서 " + latest.size() + "개 계정을 옮겼습니다.");
+    }
+
+    private static Record readLogFields(DataInputStream in) throws IOException {
+        String nickname = in.readUTF();
+        String passwordHash = in.readUTF();
+        int level = in.readInt();
+        int experience = in.readInt();
+        return new Record(nickname, passwordHash, level, experience);
+    }
+
+    // 계정 한 건의 저장 값 (변경 시 새 레코드를 만들어 put)
+    public static class Record {
+        public final String nickname;
+        public final String passwordHash;
+        public final int level;
+        public final int experience;
+
+        public Record(String nickname, String passwordHash, int level, int experience) {
+            this.nickname = nickname;
+            this.passwordHash = passwordHash;
+            this.level = level;
+            this.experience = experience;
+        }
+    }
+}
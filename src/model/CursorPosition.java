@@ -0,0 +1,26 @@
+package model;
+
+import java.io.Serializable;
+
+// 커서 묶음 전송의 한 항목 (플레이어, 커서 번호, 게임 좌표)
+public class CursorPosition implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final int cursorIndex;
+    private final double x;
+    private final double y;
+
+    public CursorPosition(String name, int cursorIndex, double x, double y) {
+        this.name = name;
+        this.cursorIndex = cursorIndex;
+        this.x = x;
+        this.y = y;
+    }
+
+    public String getName() { return name; }
+    public int getCursorIndex() { return cursorIndex; }
+    public double getX() { return x; }
+    public double getY() { return y; }
+}
@@ -1,5 +1,10 @@
 package model;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.awt.Rectangle;
 import java.awt.Dimension;
@@ -32,7 +37,19 @@ public class GamePacket implements Serializable {
         PLAYER_FREEZE,
         TIME_BONUS,
         HINT_REQUEST,    
-        HINT_RESPONSE    
+        HINT_RESPONSE,
+        ROOM_LIST_REQUEST,
+        ROOM_LIST,
+        ROOM_UPDATE,
+        MATCH_FOUND,
+        SESSION,
+        LEAVE,
+        IMAGE_REQUEST,
+        IMAGE_CHUNK,
+        ROUND_PREPARE,
+        ACCOUNT,
+        LEADERBOARD,
+        CURSOR_SNAPSHOT
     }
 
     private final Type type;
@@ -83,6 +100,38 @@ public class GamePacket implements Serializable {
     private Point hintPosition;
     private int remainingHints;
 
+    // 11. 방 목록 관련
+    private List<RoomInfo> roomList;
+    private RoomInfo roomInfo;
+
+    // 12. 세션 재개용 방 이벤트 순번 (0 이면 순번 없는 패킷)
+    private long seq;
+
+    // 13. 이미지 전송 (내용 해시 기준)
+    private String imageHash;
+    private int chunkIndex;
+    private int chunkCount;
+    private byte[] chunkData;
+
+    // 14. 계정 (요청 종류, 인증 토큰, 진행도)
+    private String accountOp;
+    private String password;
+    private String newPassword;
+    private String accountToken;
+    private int level;
+    private int experience;
+    private int expGained;
+
+    // 15. 랭킹 (요청: difficulty/gameMode, 응답: 상위 목록 + 내 순위)
+    private List<LeaderboardEntry> leaderboard;
+    private int myRank;
+    private int myBestScore;
+
+    // 16. 방 최대 인원 (설정 변경/대기실 정보, 0 이면 변경 없음)
+    private int maxPlayers;
+
+    // 17. 큰 방의 커서 묶음 (받는 사람 주변 커서만, 이 목록에 없는 커서는 지움)
+    private List<CursorPosition> cursors;
     
 
     // JOIN
@@ -244,6 +293,31 @@ public class GamePacket implements Serializable {
         this.remainingHints = remainingHints;
         this.message = message;
     }
+
+    // ROOM_LIST (페이지 단위 방 목록, message = 다음 페이지 시작 키)
+    public GamePacket(Type type, List<RoomInfo> roomList, String nextCursor) {
+        this.type = type;
+        this.sender = "SERVER";
+        this.roomList = roomList;
+        this.message = nextCursor;
+    }
+
+    // IMAGE_CHUNK (이미지 한 조각)
+    public GamePacket(Type type, String imageHash, int chunkIndex, int chunkCount, byte[] chunkData) {
+        this.type = type;
+        this.sender = "SERVER";
+        this.imageHash = imageHash;
+        this.chunkIndex = chunkIndex;
+        this.chunkCount = chunkCount;
+        this.chunkData = chunkData;
+    }
+
+    // ROOM_UPDATE (방 하나의 변경분)
+    public GamePacket(Type type, RoomInfo roomInfo) {
+        this.type = type;
+        this.sender = "SERVER";
+        this.roomInfo = roomInfo;
+    }
     
  // setRemainingHints() 메서드 추가
     public void setRemainingHints(int hints) {
@@ -262,7 +336,9 @@ public class GamePacket implements Serializable {
 
     public boolean isReady() { return isReady; }
     public String getDifficulty() { return difficulty; }
+    public void setDifficulty(String difficulty) { this.difficulty = difficulty; }
     public String getGameMode() { return gameMode; }
+    public void setGameMode(String gameMode) { this.gameMode = gameMode; }
     public String getHostName() { return hostName; }
     public Map<String, Boolean> getPlayerReadyStatus() { return playerReadyStatus; }
     public String getRoomNumber() {
@@ -299,4 +375,59 @@ public class GamePacket implements Serializable {
 
     public Point getHintPosition() { return hintPosition; }
     public int getRemainingHints() { return remainingHints; }
-}
\ No newline at end of file
+
+    public List<RoomInfo> getRoomList() { return roomList; }
+    public RoomInfo getRoomInfo() { return roomInfo; }
+
+    public long getSeq() { return seq; }
+    public void setSeq(long seq) { this.seq = seq; }
+
+    public String getImageHash() { return imageHash; }
+    public void setImageHash(String imageHash) { this.imageHash = imageHash; }
+    public int getChunkIndex() { return chunkIndex; }
+    public int getChunkCount() { return chunkCount; }
+    public byte[] getChunkData() { return chunkData; }
+
+    public String getAccountOp() { return accountOp; }
+    public void setAccountOp(String accountOp) { this.accountOp = accountOp; }
+    public String getPassword() { return password; }
+    public void setPassword(String password) { this.password = password; }
+    public String getNewPassword() { return newPassword; }
+    public void setNewPassword(String newPassword) { this.newPassword = newPassword; }
+    public String getAccountToken() { return accountToken; }
+    public void setAccountToken(String accountToken) { this.accountToken = accountToken; }
+    public int getLevel() { return level; }
+    public void setLevel(int level) { this.level = level; }
+    public int getExperience() { return experience; }
+    public void setExperience(int experience) { this.experience = experience; }
+    public int getExpGained() { return expGained; }
+    public void setExpGained(int expGained) { this.expGained = expGained; }
+
+    public List<LeaderboardEntry> getLeaderboard() { return leaderboard; }
+    public void setLeaderboard(List<LeaderboardEntry> leaderboard) { this.leaderboard = leaderboard; }
+    public int getMyRank() { return myRank; }
+    public void setMyRank(int myRank) { this.myRank = myRank; }
+    public int getMyBestScore() { return myBestScore; }
+    public void setMyBestScore(int myBestScore) { this.myBestScore = myBestScore; }
+
+    public int getMaxPlayers() { return maxPlayers; }
+    public void setMaxPlayers(int maxPlayers) { this.maxPlayers = maxPlayers; }
+
+    public List<CursorPosition> getCursors() { return cursors; }
+    public void setCursors(List<CursorPosition> cursors) { this.cursors = cursors; }
+
+    // 관전 방송: 한 번 직렬화한 바이트를 여러 관전자에게 그대로 보내고, 받는 쪽에서 다시 패킷으로
+    public byte[] toFrame() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(this);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static GamePacket fromFrame(byte[] frame) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(frame))) {
+            return (GamePacket) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package model;
+
+import java.io.Serializable;
+
+// 랭킹 한 줄 (순위, 닉네임, 최고 점수)
+public class LeaderboardEntry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int rank;
+    private final String nickname;
+    private final int score;
+
+    public LeaderboardEntry(int rank, String nickname, int score) {
+        this.rank = rank;
+        this.nickname = nickname;
+        this.score = score;
+    }
+
+    public int getRank() { return rank; }
+    public String getNickname() { return nickname; }
+    public int getScore() { return score; }
+
+    @Override
+    public String toString() {
+        return rank + "위  " + nickname + "  " + score + "점";
+    }
+}
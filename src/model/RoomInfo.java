@@ -0,0 +1,47 @@
+package model;
+
+import java.io.Serializable;
+
+// 방 목록 조회/갱신에 사용되는 방 요약 정보
+public class RoomInfo implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String roomKey;
+    private final String gameType;
+    private final String roomNumber;
+    private final String state;
+    private final int playerCount;
+    private final int maxPlayers;
+
+    public RoomInfo(String roomKey, String gameType, String roomNumber,
+                    String state, int playerCount, int maxPlayers) {
+        this.roomKey = roomKey;
+        this.gameType = gameType;
+        this.roomNumber = roomNumber;
+        this.state = state;
+        this.playerCount = playerCount;
+        this.maxPlayers = maxPlayers;
+    }
+
+    public String getRoomKey() { return roomKey; }
+    public String getGameType() { return gameType; }
+    public String getRoomNumber() { return roomNumber; }
+    public String getState() { return state; }
+    public int getPlayerCount() { return playerCount; }
+    public int getMaxPlayers() { return maxPlayers; }
+
+    public int getFreeSlots() {
+        return Math.max(0, maxPlayers - playerCount);
+    }
+
+    public boolean isClosed() {
+        return "CLOSED".equals(state);
+    }
+
+    @Override
+    public String toString() {
+        String stateText = "LOBBY".equals(state) ? "대기중" : "게임중";
+        return roomNumber + "번 방  (" + playerCount + "/" + maxPlayers + ")  " + stateText;
+    }
+}
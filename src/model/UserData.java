@@ -1,141 +1,104 @@
 package model;
 
 import java.io.*;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.security.MessageDigest;
-import java.nio.charset.StandardCharsets;
 
 
 public class UserData implements Serializable {
     private static final long serialVersionUID = 1L;
-    private static final String ACCOUNTS_FILE = "accounts.dat";
     private static final String LAST_LOGIN_FILE = "lastlogin.dat";
     
+    // 계정의 원본은 서버(AccountService)에 있고, 여기는 로그인한 사용자의 프로필 캐시
+    // (필드 구성은 이전 accounts.dat 직렬화 형식과 호환되도록 유지)
     private String nickname;
     private String passwordHash;
     private int level;
     private int experience;
-    
-   
-    private static Map<String, UserData> allAccounts = new HashMap<>();
+    private transient String accountToken;
     
     // 현재 로그인한 사용자
     private static UserData instance = null;
     
-    private UserData(String nickname, String password) {
+    private UserData(String nickname, String accountToken, int level, int experience) {
         this.nickname = nickname;
-        this.passwordHash = hashPassword(password);
-        this.level = 1;
-        this.experience = 0;
+        this.accountToken = accountToken;
+        this.level = level;
+        this.experience = experience;
     }
 
     
 
     public static UserData getInstance() {
         if (instance == null) {
-            loadAllAccounts();
-            
-            String lastLoginNickname = loadLastLogin();
-            if (lastLoginNickname != null && allAccounts.containsKey(lastLoginNickname)) {
-                instance = allAccounts.get(lastLoginNickname);
-                System.out.println("[UserData] 자동 로그인: " + lastLoginNickname);
+            instance = loadLastLogin();
+            if (instance != null) {
+                System.out.println("[UserData] 자동 로그인: " + instance.nickname);
             }
         }
         return instance;
     }
     
-    // 회원가입 
-    public static boolean register(String nickname, String password) {
-        loadAllAccounts();
-        
-        if (allAccounts.containsKey(nickname)) {
-            return false; 
-        }
-        
-        UserData newUser = new UserData(nickname, password);
-        allAccounts.put(nickname, newUser);
-        saveAllAccounts();
-        return true;
-    }
-    
-    // 로그인
-    public static boolean login(String nickname, String password) {
-        loadAllAccounts();
-        
-        UserData user = allAccounts.get(nickname);
-        if (user != null && user.passwordHash.equals(hashPassword(password))) { // 변경
-            instance = user;
-            saveLastLogin(nickname);
-            return true;
-        }
-        return false;
+    // 서버 로그인 성공 시 프로필 저장
+    public static void setCurrent(String nickname, String accountToken, int level, int experience) {
+        instance = new UserData(nickname, accountToken, level, experience);
+        saveLastLogin(instance);
     }
     
-    // 닉네임 존재 여부 확인
-    public static boolean nicknameExists(String nickname) {
-        loadAllAccounts();
-        return allAccounts.containsKey(nickname);
+    // 서버가 알려준 레벨/경험치 반영 (경험치 계산은 서버에서만)
+    public void applyProgress(int level, int experience) {
+        this.level = level;
+        this.experience = experience;
+        if (this == instance) saveLastLogin(this);
     }
     
-    //비밀번호 해싱
-    private static String hashPassword(String password) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] hash = md.digest(password.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (Exception e) {
-            throw new RuntimeException("비밀번호 암호화 실패", e);
-        }
+    // 로그인 토큰 (로그인 안 했으면 null)
+    public static String currentToken() {
+        UserData user = getInstance();
+        return user != null ? user.accountToken : null;
     }
 
-    
-    // 모든 계정 정보 로드
-    private static void loadAllAccounts() {
-        if (!allAccounts.isEmpty()) return;
-        
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(ACCOUNTS_FILE))) {
-            allAccounts = (Map<String, UserData>) ois.readObject();
-        } catch (FileNotFoundException e) {
-            allAccounts = new HashMap<>();
-        } catch (Exception e) {
-            e.printStackTrace();
-            allAccounts = new HashMap<>();
-        }
-    }
-    
-    // 모든 계정 정보 저장
-    private static void saveAllAccounts() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(ACCOUNTS_FILE))) {
-            oos.writeObject(allAccounts);
-        } catch (IOException e) {
+    // 이전 accounts.dat (전체 맵 직렬화 형식) 을 읽어 서버 저장소 레코드로 변환
+    public static List<AccountStore.Record> readLegacyAccounts(File file) throws IOException {
+        List<AccountStore.Record> records = new ArrayList<>();
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
+            Map<String, UserData> legacy = (Map<String, UserData>) ois.readObject();
+            for (UserData u : legacy.values()) {
+                records.add(new AccountStore.Record(u.nickname, u.passwordHash, u.level, u.experience));
+            }
+        } catch (ClassNotFoundException e) {
             e.printStackTrace();
         }
+        return records;
     }
     
     // 마지막 로그인 정보 저장
-    private static void saveLastLogin(String nickname) {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(LAST_LOGIN_FILE))) {
-            oos.writeObject(nickname);
+    private static void saveLastLogin(UserData user) {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(LAST_LOGIN_FILE))) {
+            out.writeUTF(user.nickname);
+            out.writeUTF(user.accountToken != null ? user.accountToken : "");
+            out.writeInt(user.level);
+            out.writeInt(user.experience);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
     
-    // 마지막 로그인 정보 로드
-    private static String loadLastLogin() {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(LAST_LOGIN_FILE))) {
-            return (String) ois.readObject();
+    // 마지막 로그인 정보 로드 (이전 형식이면 다시 로그인)
+    private static UserData loadLastLogin() {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(LAST_LOGIN_FILE))) {
+            String nickname = in.readUTF();
+            String token = in.readUTF();
+            int level = in.readInt();
+            int experience = in.readInt();
+            if (token.isEmpty()) return null;
+            return new UserData(nickname, token, level, experience);
         } catch (FileNotFoundException e) {
             return null;
-        } catch (Exception e) {
-            e.printStackTrace();
+        } catch (IOException e) {
+            System.out.println("[UserData] 저장된 로그인 정보를 읽을 수 없어 다시 로그인합니다.");
+            clearLastLogin();
             return null;
         }
     }
@@ -148,17 +111,6 @@ public class UserData implements Serializable {
         }
     }
     
-    // 경험치 추가 (레벨업 자동 계산!)
-    public void addExperience(int exp) {
-        this.experience += exp;
-        
-        while (this.experience >= getExpForNextLevel()) {
-            this.experience -= getExpForNextLevel();
-            this.level++;
-        }
-        saveAllAccounts();
-    }
-    
  
     public int getExpForNextLevel() {
         return 100 * level;
@@ -169,21 +121,11 @@ public class UserData implements Serializable {
     public int getLevel() { return level; }
     public int getExperience() { return experience; }
     
-   
-    public void changePassword(String oldPassword, String newPassword) throws Exception {
-        if (!this.passwordHash.equals((oldPassword))) { 
-            throw new Exception("현재 비밀번호가 일치하지 않습니다.");
-        }
-        this.passwordHash = hashPassword(newPassword);
-        saveAllAccounts();
-    }
-    
     // 로그아웃 
     public static void logout() {
         if (instance != null) {
-            saveAllAccounts();
             instance = null;
             clearLastLogin(); 
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package server;
+
+import model.GamePacket;
+import server.LobbyServer.ClientHandler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게이트웨이 뒤에서 계정 노드가 아닌 노드가 쓰는 계정 기능
+//   로그인 토큰 확인: 계정 노드와 같은 키 파일로 이 노드에서 바로 확인
+//   경험치 지급:     계정 노드로 보냄 (노드 토큰으로 인증한 연결 하나)
+//   랭킹 반영:       계정 노드의 전체 랭킹으로 보냄 (응답 없음)
+// 방 잠금 안에서 불려도 기다리지 않도록 전용 스레드 하나가 순서대로 보냄
+class AccountLink {
+
+    private final String host;
+    private final int port;
+    private final TokenSigner signer;
+    private final TokenSigner nodeSigner;
+    private final String nodeName;
+    private final AtomicLong requestSeq = new AtomicLong();
+
+    static final String SUBMIT = "SUBMIT";
+
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "account-link");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 보내는 스레드에서만 사용
+    private Socket socket;
+    private ObjectOutputStream out;
+    private ObjectInputStream in;
+
+    // accountNode: host:port
+    AccountLink(String accountNode, TokenSigner signer, String nodeName) {
+        String[] parts = accountNode.trim().split(":");
+        this.host = parts[0];
+        this.port = Integer.parseInt(parts[1]);
+        this.signer = signer;
+        this.nodeSigner = AccountService.nodeSigner(signer);
+        this.nodeName = nodeName;
+    }
+
+    // 계정이 실제로 있는지는 확인하지 않음 (토큰은 계정 노드에서 로그인해야만 받으므로)
+    boolean verifyToken(String nickname, String token) {
+        return signer.verify(nickname, token);
+    }
+
+    void grantReward(ClientHandler handler, String accountName, int exp) {
+        sender.execute(() -> {
+            GamePacket request = new GamePacket(GamePacket.Type.ACCOUNT, accountName, 0, true, nextRequestId());
+            request.setAccountOp(AccountService.OP_REWARD);
+            request.setExpGained(exp);
+
+            GamePacket reply = call(request);
+            if (reply != null && reply.isCorrect()) {
+                handler.sendPacket(reply);
+            } else {
+                System.out.println("[계정 연결] 경험치 지급 실패 (" + accountName + ", " + exp + ")"
+                        + (reply != null ? ": " + reply.getMessage() : ""));
+            }
+        });
+    }
+
+    // 최고 점수만 남으므로 다시 보내도 결과가 같음
+    void submitScore(String difficulty, String gameMode, String accountName, int score) {
+        sender.execute(() -> {
+            GamePacket request = new GamePacket(GamePacket.Type.LEADERBOARD, accountName, SUBMIT);
+            request.setDifficulty(difficulty);
+            request.setGameMode(gameMode);
+            request.setMyBestScore(score);
+            if (!send(request)) {
+                System.out.println("[계정 연결] 랭킹 반영 실패 (" + accountName + ", " + score + ")");
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return host + ":" + port;
+    }
+
+    // 요청 번호: 응답을 못 받아 다시 보내도 계정 노드에서 한 번만 반영
+    private String nextRequestId() {
+        return nodeName + "-" + System.currentTimeMillis() + "-" + requestSeq.incrementAndGet();
+    }
+
+    private boolean send(GamePacket request) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                write(request);
+                return true;
+            } catch (IOException e) {
+                System.out.println("[계정 연결] " + this + " 전송 실패: " + e.getMessage());
+                disconnect();
+            }
+        }
+        return false;
+    }
+
+    // 연결이 끊겨 있었으면 다시 연결해서 한 번 더 보냄
+    private GamePacket call(GamePacket request) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                write(request);
+                return (GamePacket) in.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                System.out.println("[계정 연결] " + this + " 요청 실패: " + e.getMessage());
+                disconnect();
+            }
+        }
+        return null;
+    }
+
+    private void write(GamePacket request) throws IOException {
+        if (socket == null) connect();
+        out.writeObject(request);
+        out.flush();
+        out.reset();
+    }
+
+    private void connect() throws IOException {
+        socket = new Socket(host, port);
+        out = new ObjectOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        GamePacket join = new GamePacket(GamePacket.Type.JOIN, nodeName, "NODE", true);
+        join.setAccountToken(AccountService.issueNodeToken(nodeSigner, nodeName));
+        out.writeObject(join);
+        out.flush();
+        in = new ObjectInputStream(new BufferedInputStream(socket.getInputStream()));
+    }
+
+    private void disconnect() {
+        try {
+            if (socket != null) socket.close();
+        } catch (IOException ignored) {
+        }
+        socket = null;
+        out = null;
+        in = null;
+    }
+}
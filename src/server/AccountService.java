@@ -0,0 +1,250 @@
+package server;
+
+import model.AccountStore;
+import model.GamePacket;
+import model.UserData;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+// 서버 쪽 계정/진행도 서비스: 회원가입, 로그인(토큰 발급), 비밀번호 변경,
+// 게임 종료 시 서버 점수 기준 경험치 지급. 조회는 저장소의 메모리 인덱스에서 바로 응답
+public class AccountService {
+
+    public static final String OP_REGISTER = "REGISTER";
+    public static final String OP_LOGIN = "LOGIN";
+    public static final String OP_RESUME = "RESUME";
+    public static final String OP_PROFILE = "PROFILE";
+    public static final String OP_CHANGE_PASSWORD = "CHANGE_PASSWORD";
+    public static final String OP_REWARD = "REWARD";
+
+    private static final long TOKEN_TTL_MS = 30L * 24 * 60 * 60 * 1000;   // 30일
+    private static final long NODE_TOKEN_TTL_MS = 60000;
+    private static final File LEGACY_ACCOUNTS = new File("accounts.dat");
+
+    // 해시 비용/작업 스레드 설정 (-Daccount.hash.iterations=... 등으로 조정)
+    private static final int HASH_ITERATIONS = Integer.getInteger("account.hash.iterations", 120000);
+    private static final int HASH_THREADS = Integer.getInteger("account.hash.threads",
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    private static final int HASH_QUEUE = Integer.getInteger("account.hash.queue", 64);
+
+    private final AccountStore store;
+    private final TokenSigner signer;
+    private final TokenSigner nodeSigner;
+    // 다른 노드가 응답을 못 받아 다시 보낸 경험치 요청은 한 번만 반영 (최근 요청 번호 -> 응답)
+    private static final int RECENT_REWARDS = 4096;
+    private final Map<String, GamePacket> recentRewards = new LinkedHashMap<String, GamePacket>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, GamePacket> eldest) {
+            return size() > RECENT_REWARDS;
+        }
+    };
+    private final PasswordHasher hasher = new PasswordHasher(HASH_ITERATIONS, HASH_THREADS, HASH_QUEUE);
+
+    // keyFile: 토큰 키 (게이트웨이 뒤에서는 모든 노드가 같은 파일)
+    public AccountService(File dir, File keyFile) throws IOException {
+        this.store = new AccountStore(dir, "accounts");
+        this.signer = TokenSigner.loadOrCreate(keyFile);
+        this.nodeSigner = nodeSigner(signer);
+
+        if (store.isNew() && LEGACY_ACCOUNTS.isFile()) {
+            List<AccountStore.Record> legacy = UserData.readLegacyAccounts(LEGACY_ACCOUNTS);
+            store.putAll(legacy);
+            store.force();
+            System.out.println("[계정] 이전 계정 파일에서 " + legacy.size() + "개 계정을 옮겼습니다.");
+        }
+        System.out.println("[계정] 계정 " + store.size() + "개 로드 완료.");
+    }
+
+    // 계정 연결에서 받은 요청 하나를 처리하고 응답 패킷 반환
+    public GamePacket handle(GamePacket request) {
+        String op = request.getAccountOp();
+        String nickname = request.getSender();
+        try {
+            if (OP_REGISTER.equals(op)) return register(nickname, request.getPassword());
+            if (OP_LOGIN.equals(op)) return login(nickname, request.getPassword());
+            if (OP_RESUME.equals(op) || OP_PROFILE.equals(op)) {
+                if (!verifyToken(nickname, request.getAccountToken())) {
+                    return fail(op, nickname, "로그인이 만료되었습니다.");
+                }
+                return profile(op, store.get(nickname), request.getAccountToken());
+            }
+            if (OP_CHANGE_PASSWORD.equals(op)) {
+                if (!verifyToken(nickname, request.getAccountToken())) {
+                    return fail(op, nickname, "로그인이 만료되었습니다.");
+                }
+                return changePassword(nickname, request.getPassword(), request.getNewPassword());
+            }
+            return fail(op, nickname, "알 수 없는 요청입니다.");
+        } catch (IOException e) {
+            System.out.println("[계정] 저장 실패: " + e.getMessage());
+            return fail(op, nickname, "서버 저장 오류");
+        } catch (RejectedExecutionException e) {
+            return fail(op, nickname, "로그인 요청이 많습니다. 잠시 후 다시 시도하세요.");
+        } catch (IllegalStateException e) {
+            System.out.println("[계정] " + e.getMessage());
+            return fail(op, nickname, "서버 오류");
+        }
+    }
+
+    public String stats() {
+        return "계정 " + store.size() + "개, " + hasher.stats();
+    }
+
+    private GamePacket register(String nickname, String password) throws IOException {
+        if (nickname == null || password == null || nickname.isEmpty()) {
+            return fail(OP_REGISTER, nickname, "아이디와 비밀번호를 입력하세요");
+        }
+        if (!AccountStore.fits(nickname)) {
+            return fail(OP_REGISTER, nickname, "아이디가 너무 깁니다");
+        }
+        if (store.contains(nickname)) {
+            return fail(OP_REGISTER, nickname, "이미 사용 중인 아이디입니다");
+        }
+        // 해시는 락 밖에서 (동시에 같은 아이디로 가입하면 아래에서 한 번 더 확인)
+        String hash = hasher.hash(password);
+        synchronized (store) {
+            if (store.contains(nickname)) {
+                return fail(OP_REGISTER, nickname, "이미 사용 중인 아이디입니다");
+            }
+            store.put(new AccountStore.Record(nickname, hash, 1, 0));
+        }
+        System.out.println("[계정] 회원가입: " + nickname);
+        return ok(OP_REGISTER, nickname, null);
+    }
+
+    private GamePacket login(String nickname, String password) throws IOException {
+        AccountStore.Record r = store.get(nickname);
+        if (r == null || password == null || !hasher.verify(password, r.passwordHash)) {
+            return fail(OP_LOGIN, nickname, "아이디 또는 비밀번호가 일치하지 않습니다.");
+        }
+        if (hasher.needsRehash(r.passwordHash)) {
+            // 이전 형식(솔트 없는 SHA-256) 이면 로그인 성공한 김에 새 형식으로 교체
+            setPasswordHash(nickname, r.passwordHash, hasher.hash(password));
+            r = store.get(nickname);
+        }
+        return profile(OP_LOGIN, r, issueToken(nickname));
+    }
+
+    private GamePacket changePassword(String nickname, String oldPassword, String newPassword) throws IOException {
+        if (oldPassword == null || newPassword == null) {
+            return fail(OP_CHANGE_PASSWORD, nickname, "비밀번호를 입력하세요.");
+        }
+        AccountStore.Record r = store.get(nickname);
+        if (r == null || !hasher.verify(oldPassword, r.passwordHash)) {
+            return fail(OP_CHANGE_PASSWORD, nickname, "현재 비밀번호가 일치하지 않습니다.");
+        }
+        if (!setPasswordHash(nickname, r.passwordHash, hasher.hash(newPassword))) {
+            return fail(OP_CHANGE_PASSWORD, nickname, "비밀번호가 이미 변경되었습니다. 다시 시도하세요.");
+        }
+        return ok(OP_CHANGE_PASSWORD, nickname, null);
+    }
+
+    // 확인한 뒤 다른 요청이 먼저 바꾸지 않았을 때만 교체 (진행도는 최신 값 유지)
+    private boolean setPasswordHash(String nickname, String expectedHash, String newHash) throws IOException {
+        synchronized (store) {
+            AccountStore.Record r = store.get(nickname);
+            if (r == null || !r.passwordHash.equals(expectedHash)) return false;
+            store.put(new AccountStore.Record(nickname, newHash, r.level, r.experience));
+            return true;
+        }
+    }
+
+    // 경험치 지급 (레벨업 자동 계산), 계정이 없으면 null
+    public AccountStore.Record grantExperience(String nickname, int exp) throws IOException {
+        synchronized (store) {
+            AccountStore.Record r = store.get(nickname);
+            if (r == null) return null;
+
+            int level = r.level;
+            int experience = r.experience + exp;
+            while (experience >= 100 * level) {
+                experience -= 100 * level;
+                level++;
+            }
+            AccountStore.Record updated = new AccountStore.Record(nickname, r.passwordHash, level, experience);
+            store.put(updated);
+            return updated;
+        }
+    }
+
+    // 게임 점수 -> 경험치 (기본 50 + 점수의 절반)
+    public static int expForScore(int score) {
+        return Math.max(0, 50 + score / 2);
+    }
+
+    // 경험치 지급 결과를 담은 알림 패킷
+    public static GamePacket rewardPacket(AccountStore.Record r, int expGained) {
+        GamePacket p = profile(OP_REWARD, r, null);
+        p.setExpGained(expGained);
+        return p;
+    }
+
+    // 토큰: <만료 시각>.<HMAC(닉네임|만료 시각)>  (서버 재시작 후에도 유효)
+    public String issueToken(String nickname) {
+        return signer.issue(nickname, TOKEN_TTL_MS);
+    }
+
+    public boolean verifyToken(String nickname, String token) {
+        return signer.verify(nickname, token) && store.contains(nickname);
+    }
+
+    // 다른 노드가 계정 노드에 붙을 때 쓰는 짧은 토큰 (같은 키 파일을 가진 노드만 만들 수 있음)
+    // 로그인 토큰과 다른 키로 서명해서 어떤 닉네임의 로그인 토큰도 노드 토큰으로 쓸 수 없음
+    static TokenSigner nodeSigner(TokenSigner signer) {
+        return signer.derive("node");
+    }
+
+    static String issueNodeToken(TokenSigner nodeSigner, String nodeName) {
+        return nodeSigner.issue(nodeName, NODE_TOKEN_TTL_MS);
+    }
+
+    public boolean verifyNodeToken(String nodeName, String token) {
+        return nodeSigner.verify(nodeName, token);
+    }
+
+    // 다른 노드에서 끝난 게임의 경험치 지급 요청 (노드 연결에서만 받음)
+    public GamePacket handleReward(GamePacket request) {
+        String requestId = request.getMessage();
+        try {
+            synchronized (recentRewards) {
+                GamePacket done = requestId != null ? recentRewards.get(requestId) : null;
+                if (done != null) return done;
+
+                AccountStore.Record r = grantExperience(request.getSender(), request.getExpGained());
+                if (r == null) return fail(OP_REWARD, request.getSender(), "계정을 찾을 수 없습니다.");
+                GamePacket reply = rewardPacket(r, request.getExpGained());
+                if (requestId != null) recentRewards.put(requestId, reply);
+                return reply;
+            }
+        } catch (IOException e) {
+            System.out.println("[계정] 경험치 저장 실패 (" + request.getSender() + "): " + e.getMessage());
+            return fail(OP_REWARD, request.getSender(), "서버 저장 오류");
+        }
+    }
+
+    private static GamePacket profile(String op, AccountStore.Record r, String token) {
+        if (r == null) return fail(op, null, "계정을 찾을 수 없습니다.");
+        GamePacket p = ok(op, r.nickname, null);
+        p.setLevel(r.level);
+        p.setExperience(r.experience);
+        p.setAccountToken(token);
+        return p;
+    }
+
+    private static GamePacket ok(String op, String nickname, String message) {
+        GamePacket p = new GamePacket(GamePacket.Type.ACCOUNT, nickname, 0, true, message);
+        p.setAccountOp(op);
+        return p;
+    }
+
+    private static GamePacket fail(String op, String nickname, String message) {
+        GamePacket p = new GamePacket(GamePacket.Type.ACCOUNT, nickname, 0, false, message);
+        p.setAccountOp(op);
+        return p;
+    }
+}
@@ -0,0 +1,67 @@
+package server;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+// 가상 노드를 사용하는 일관된 해싱 링 (노드 추가/제거 시 일부 키만 이동)
+public class ConsistentHashRing<T> {
+
+    private static final int DEFAULT_VIRTUAL_NODES = 100;
+
+    private final TreeMap<Long, T> ring = new TreeMap<>();
+    private final int virtualNodes;
+
+    public ConsistentHashRing() {
+        this(DEFAULT_VIRTUAL_NODES);
+    }
+
+    public ConsistentHashRing(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    public synchronized void add(String nodeName, T node) {
+        for (int i = 0; i < virtualNodes; i++) {
+            ring.put(hash(nodeName + "#" + i), node);
+        }
+    }
+
+    public synchronized void remove(String nodeName) {
+        for (int i = 0; i < virtualNodes; i++) {
+            ring.remove(hash(nodeName + "#" + i));
+        }
+    }
+
+    public synchronized T get(String key) {
+        if (ring.isEmpty()) return null;
+        SortedMap<Long, T> tail = ring.tailMap(hash(key));
+        Long nodeHash = tail.isEmpty() ? ring.firstKey() : tail.firstKey();
+        return ring.get(nodeHash);
+    }
+
+    public synchronized Collection<T> nodes() {
+        return new LinkedHashSet<>(ring.values());
+    }
+
+    public synchronized boolean isEmpty() {
+        return ring.isEmpty();
+    }
+
+    // MD5 앞 8바이트를 링 위치로 사용
+    static long hash(String key) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            byte[] digest = md.digest(key.getBytes(StandardCharsets.UTF_8));
+            long h = 0;
+            for (int i = 0; i < 8; i++) {
+                h = (h << 8) | (digest[i] & 0xff);
+            }
+            return h;
+        } catch (Exception e) {
+            throw new RuntimeException("해시 계산 실패", e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package server;
+
+import model.CursorPosition;
+import model.GamePacket;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.Socket;
+
+// 잘못된 커서 좌표 시험: 손전등 방에서 무한대/아주 큰 좌표로 MOUSE_MOVE 를 보낸 뒤에도
+// 방 주기(커서 스냅샷)가 계속 돌고 서버가 새 접속에 답하는지 확인
+// 사용법: java server.CursorBoundsTest [서버=127.0.0.1] [포트=9999]
+public class CursorBoundsTest {
+
+    private static final long WAIT_MS = 5000;
+
+    public static void main(String[] args) throws Exception {
+        String host = args.length > 0 ? args[0] : "127.0.0.1";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 9999;
+        String roomNumber = "BOUNDS" + (System.currentTimeMillis() % 100000);
+
+        Bot a = new Bot("bounds-a", host, port, roomNumber);
+        Thread.sleep(300);
+        Bot b = new Bot("bounds-b", host, port, roomNumber);
+        Thread.sleep(300);
+        b.send(new GamePacket(GamePacket.Type.READY_STATUS, b.name, true));
+        Thread.sleep(300);
+        a.send(new GamePacket(GamePacket.Type.START_GAME_REQUEST, a.name, "쉬움", "협동"));
+
+        if (!a.awaitStarted() || !b.awaitStarted()) {
+            fail("게임 시작을 받지 못했습니다.", a, b);
+            return;
+        }
+
+        b.send(new GamePacket(GamePacket.Type.MOUSE_MOVE, b.name, 0, 100, 100));
+        a.send(new GamePacket(GamePacket.Type.MOUSE_MOVE, a.name, 0, Double.POSITIVE_INFINITY, 0));
+        a.send(new GamePacket(GamePacket.Type.MOUSE_MOVE, a.name, 0, 1e300, 1e300));
+        Thread.sleep(300);
+
+        // 잘못된 좌표 다음 주기들이 끝나야 b 가 자기 옆으로 온 a 를 받음
+        b.seenOther = false;
+        a.send(new GamePacket(GamePacket.Type.MOUSE_MOVE, a.name, 0, 110, 110));
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        while (!b.seenOther && System.currentTimeMillis() < deadline) Thread.sleep(20);
+        if (!b.seenOther) {
+            fail("잘못된 좌표 뒤 커서 스냅샷이 오지 않습니다 (방 주기 멈춤).", a, b);
+            return;
+        }
+
+        // 서버 전체가 멈추지 않았는지: 새 연결이 답을 받는지
+        Bot c = new Bot("bounds-c", host, port, roomNumber + "X");
+        deadline = System.currentTimeMillis() + WAIT_MS;
+        while (c.packets == 0 && System.currentTimeMillis() < deadline) Thread.sleep(20);
+        if (c.packets == 0) {
+            fail("새 연결이 답을 받지 못합니다.", a, b, c);
+            return;
+        }
+
+        System.out.println("[좌표 시험] 통과: 무한대/1e300 좌표 뒤에도 방 주기와 서버가 정상 동작");
+        close(a, b, c);
+    }
+
+    private static void fail(String reason, Bot... bots) {
+        System.out.println("[좌표 시험] 실패: " + reason);
+        close(bots);
+        System.exit(1);
+    }
+
+    private static void close(Bot... bots) {
+        for (Bot bot : bots) {
+            bot.send(new GamePacket(GamePacket.Type.LEAVE, bot.name, "LEAVE"));
+            try {
+                bot.socket.close();
+            } catch (IOException e) {
+            }
+        }
+    }
+
+    private static class Bot implements Runnable {
+        final String name;
+        final Socket socket;
+        final ObjectOutputStream out;
+        final ObjectInputStream in;
+
+        volatile boolean started = false;
+        volatile boolean seenOther = false;
+        volatile int packets = 0;
+
+        Bot(String name, String host, int port, String roomNumber) throws IOException {
+            this.name = name;
+            this.socket = new Socket(host, port);
+            this.out = new ObjectOutputStream(socket.getOutputStream());
+            this.in = new ObjectInputStream(new BufferedInputStream(socket.getInputStream()));
+
+            GamePacket join = new GamePacket(GamePacket.Type.JOIN, name, roomNumber, true);
+            join.setGameType("FLASH");
+            send(join);
+
+            Thread reader = new Thread(this, "bounds-" + name);
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        void send(GamePacket p) {
+            try {
+                synchronized (out) {
+                    out.writeObject(p);
+                    out.flush();
+                    out.reset();
+                }
+            } catch (IOException e) {
+                System.out.println("[좌표 시험] " + name + " 전송 실패: " + e.getMessage());
+            }
+        }
+
+        boolean awaitStarted() throws InterruptedException {
+            long deadline = System.currentTimeMillis() + WAIT_MS;
+            while (!started && System.currentTimeMillis() < deadline) Thread.sleep(20);
+            return started;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    GamePacket p = (GamePacket) in.readObject();
+                    packets++;
+                    if (p.getType() == GamePacket.Type.ROUND_START) started = true;
+                    if (p.getType() == GamePacket.Type.CURSOR_SNAPSHOT && p.getCursors() != null) {
+                        for (CursorPosition c : p.getCursors()) {
+                            if (!c.getName().equals(name)) seenOther = true;
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                // 연결 종료
+            }
+        }
+    }
+}
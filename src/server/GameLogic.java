@@ -16,6 +16,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.TreeSet;
 
 public class GameLogic {
     private Map<String, List<Rectangle>> roundAnswers = new HashMap<>();
@@ -313,6 +314,11 @@ public class GameLogic {
         System.out.println("[GameLogic] " + key + " 정답 " + answers.size() + "개 (파일) 로드 완료.");
     }
     
+    // 서버 시작 때 이미지 해시를 미리 계산하는 데 씀
+    public List<String> getAllImagePaths() {
+        return new ArrayList<>(new TreeSet<>(roundImagePaths.values()));
+    }
+
     public String getImagePath(String difficulty, int round) {
         String key = difficulty + "_" + round;
         return roundImagePaths.getOrDefault(key, "images/easy1.jpg");
@@ -0,0 +1,364 @@
+package server;
+
+import model.GamePacket;
+import model.RoomInfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 클라이언트 접속을 받아 방 키 기준 일관된 해싱으로 여러 LobbyServer 노드에 분산하는 게이트웨이
+// 계정/랭킹 연결은 첫 번째 노드(계정 노드)로 보냄. 다른 노드는 -Daccount.node=<계정 노드> 와
+// 같은 토큰 키 파일(-Daccount.key=...)로 띄워야 로그인 확인, 경험치 지급, 랭킹 반영이 됨 (--local 은 자동)
+public class GatewayServer {
+
+    private static final int DEFAULT_PORT = 9999;
+    private static final int LOCAL_BASE_PORT = 10001;
+    private static final File CLUSTER_KEY = new File("data", "cluster.key");
+
+    // 중계할 때 이만큼 보낼 때마다 스트림 참조 테이블을 비움 (매번 비우면 클래스 정보를 패킷마다 다시 보냄)
+    private static final int RELAY_RESET_PACKETS = Integer.getInteger("stream.reset.packets", 64);
+    private static final long BROWSE_TIMEOUT_MS = 3000;
+
+    // 매칭 방 번호 형식: M<노드 포트>-<번호>
+    private static final Pattern MATCH_ROOM = Pattern.compile("M(\\d+)-\\d+");
+
+    private final int port;
+    private final List<Backend> backends = new ArrayList<>();
+    private final ConsistentHashRing<Backend> ring = new ConsistentHashRing<>();
+
+    public GatewayServer(int port, List<Backend> backends) {
+        this.port = port;
+        for (Backend b : backends) {
+            this.backends.add(b);
+            ring.add(b.toString(), b);
+        }
+    }
+
+    public void run() {
+        try (ServerSocket listener = new ServerSocket(port)) {
+            System.out.println("[게이트웨이] " + port + " 포트에서 대기 중 (노드: " + backends + ")");
+            while (true) {
+                Socket client = listener.accept();
+                Thread t = new Thread(() -> handleClient(client));
+                t.setDaemon(true);
+                t.start();
+            }
+        } catch (IOException e) {
+            System.out.println("[게이트웨이] 오류: " + e.getMessage());
+        }
+    }
+
+    private void handleClient(Socket client) {
+        Socket backendSocket = null;
+        try {
+            ObjectInputStream cin = new ObjectInputStream(client.getInputStream());
+            ObjectOutputStream cout = new ObjectOutputStream(client.getOutputStream());
+            cout.flush();
+
+            GamePacket join = (GamePacket) cin.readObject();
+            if (join.getType() != GamePacket.Type.JOIN || join.getMessage() == null) {
+                client.close();
+                return;
+            }
+
+            if (join.getMessage().startsWith("BROWSE_")) {
+                handleBrowse(client, cin, cout, join);
+                return;
+            }
+
+            Backend target = route(join);
+            System.out.println("[게이트웨이] " + join.getSender() + " (" + join.getMessage() + ") -> " + target);
+
+            backendSocket = new Socket(target.host, target.port);
+            ObjectOutputStream bout = new ObjectOutputStream(backendSocket.getOutputStream());
+            bout.writeObject(join);
+            bout.flush();
+
+            Socket backend = backendSocket;
+            Thread downstream = new Thread(() -> {
+                try {
+                    ObjectInputStream bin = new ObjectInputStream(backend.getInputStream());
+                    pump(bin, cout);
+                } catch (Exception e) {
+                    // 노드 쪽 연결 종료
+                } finally {
+                    closeQuietly(client);
+                    closeQuietly(backend);
+                }
+            });
+            downstream.setDaemon(true);
+            downstream.start();
+
+            pump(cin, bout);
+
+        } catch (Exception e) {
+            // 클라이언트 쪽 연결 종료
+        } finally {
+            closeQuietly(client);
+            closeQuietly(backendSocket);
+        }
+    }
+
+    // 한쪽 스트림의 패킷을 다른 쪽으로 그대로 전달
+    // 참조 테이블은 노드와 같은 기준으로 비움: 이미지 조각 뒤, 그리고 RELAY_RESET_PACKETS 개마다
+    // 관전 방송 프레임(byte[])은 노드처럼 writeUnshared 로 (참조 테이블에 남기지 않음)
+    private void pump(ObjectInputStream from, ObjectOutputStream to) throws IOException, ClassNotFoundException {
+        int sinceReset = 0;
+        while (true) {
+            Object packet = from.readObject();
+            synchronized (to) {
+                if (packet instanceof byte[]) {
+                    to.writeUnshared(packet);
+                } else {
+                    to.writeObject(packet);
+                }
+                to.flush();
+                boolean chunk = packet instanceof GamePacket
+                        && ((GamePacket) packet).getType() == GamePacket.Type.IMAGE_CHUNK;
+                if (chunk || ++sinceReset >= RELAY_RESET_PACKETS) {
+                    to.reset();
+                    sinceReset = 0;
+                }
+            }
+        }
+    }
+
+    Backend route(GamePacket join) {
+        String message = join.getMessage();
+        String gameType = join.getGameType() != null ? join.getGameType() : "NORMAL";
+
+        if (message.equals("ACCOUNT") || message.equals("LEADERBOARD")) {
+            return backends.get(0);
+        }
+        if (message.startsWith("SINGLE_")) {
+            return ring.get("SINGLE|" + join.getSender());
+        }
+        if (message.startsWith("MATCH_")) {
+            // 같은 대기열은 같은 노드에서 모이도록
+            return ring.get("MATCH|" + gameType + "|" + message);
+        }
+
+        if (message.startsWith("RESUME_")) {
+            // 재접속: RESUME_<토큰>_<순번>_<방 번호> -> 원래 방이 있는 노드로
+            String[] parts = message.split("_", 4);
+            if (parts.length == 4) message = parts[3];
+        } else if (message.startsWith("WATCH_")) {
+            // 관전: WATCH_<방 번호> -> 그 방이 있는 노드로
+            message = message.substring("WATCH_".length());
+        }
+
+        Matcher m = MATCH_ROOM.matcher(message);
+        if (m.matches()) {
+            int nodePort = Integer.parseInt(m.group(1));
+            for (Backend b : backends) {
+                if (b.port == nodePort) return b;
+            }
+        }
+        return ring.get(gameType + "_" + message);
+    }
+
+    // 방 목록은 모든 노드에 요청해 병합 (각 노드 페이지가 정렬되어 있으므로 앞에서부터 합치면 됨)
+    private void handleBrowse(Socket client, ObjectInputStream cin, ObjectOutputStream cout, GamePacket join) {
+        List<Socket> nodeSockets = new ArrayList<>();
+        List<ObjectOutputStream> nodeOuts = new ArrayList<>();
+        List<NodePages> pages = new ArrayList<>();
+
+        try {
+            for (Backend b : backends) {
+                Socket s = new Socket(b.host, b.port);
+                ObjectOutputStream out = new ObjectOutputStream(s.getOutputStream());
+                out.writeObject(join);
+                out.flush();
+
+                NodePages nodePages = new NodePages();
+                nodeSockets.add(s);
+                nodeOuts.add(out);
+                pages.add(nodePages);
+
+                Thread reader = new Thread(() -> {
+                    try {
+                        ObjectInputStream in = new ObjectInputStream(s.getInputStream());
+                        while (true) {
+                            GamePacket p = (GamePacket) in.readObject();
+                            if (p.getType() == GamePacket.Type.ROOM_LIST) {
+                                nodePages.queue.offer(p);
+                            } else {
+                                synchronized (cout) {
+                                    cout.writeObject(p);
+                                    cout.flush();
+                                    cout.reset();
+                                }
+                            }
+                        }
+                    } catch (Exception e) {
+                        closeQuietly(client);
+                    }
+                });
+                reader.setDaemon(true);
+                reader.start();
+            }
+
+            // 요청 순번: 0 은 JOIN 에 대한 첫 페이지, 이후 ROOM_LIST_REQUEST 마다 1씩
+            long requestSeq = 0;
+            sendMergedPage(cout, pages, requestSeq);
+
+            while (true) {
+                GamePacket request = (GamePacket) cin.readObject();
+                if (request.getType() != GamePacket.Type.ROOM_LIST_REQUEST) continue;
+                for (ObjectOutputStream out : nodeOuts) {
+                    out.writeObject(request);
+                    out.flush();
+                    out.reset();
+                }
+                sendMergedPage(cout, pages, ++requestSeq);
+            }
+        } catch (Exception e) {
+            // 조회 연결 종료
+        } finally {
+            closeQuietly(client);
+            for (Socket s : nodeSockets) closeQuietly(s);
+        }
+    }
+
+    private void sendMergedPage(ObjectOutputStream cout, List<NodePages> pages, long requestSeq)
+            throws IOException, InterruptedException {
+        List<RoomInfo> merged = new ArrayList<>();
+        boolean anyMore = false;
+
+        long deadline = System.currentTimeMillis() + BROWSE_TIMEOUT_MS;
+        for (NodePages nodePages : pages) {
+            GamePacket page = nodePages.await(requestSeq, deadline);
+            if (page == null) continue;
+            if (page.getRoomList() != null) merged.addAll(page.getRoomList());
+            if (page.getMessage() != null) anyMore = true;
+        }
+
+        merged.sort(Comparator.comparing(RoomInfo::getRoomKey));
+        boolean hasMore = anyMore || merged.size() > RoomDirectory.PAGE_SIZE;
+        List<RoomInfo> page = new ArrayList<>(merged.subList(0, Math.min(merged.size(), RoomDirectory.PAGE_SIZE)));
+        String nextCursor = (hasMore && !page.isEmpty()) ? page.get(page.size() - 1).getRoomKey() : null;
+
+        synchronized (cout) {
+            cout.writeObject(new GamePacket(GamePacket.Type.ROOM_LIST, page, nextCursor));
+            cout.flush();
+            cout.reset();
+        }
+    }
+
+    // 노드 하나에서 온 방 목록 페이지
+    // 노드는 요청마다 순서대로 한 페이지씩 답하므로, 꺼낸 개수로 어느 요청의 답인지 알 수 있음
+    private static class NodePages {
+        final BlockingQueue<GamePacket> queue = new LinkedBlockingQueue<>();
+        private long taken = 0;
+
+        // requestSeq 번 요청의 답 (시간 초과로 놓친 이전 요청의 답이 늦게 오면 버림), 시간 안에 안 오면 null
+        GamePacket await(long requestSeq, long deadline) throws InterruptedException {
+            while (taken <= requestSeq) {
+                long wait = deadline - System.currentTimeMillis();
+                GamePacket page = queue.poll(Math.max(0, wait), TimeUnit.MILLISECONDS);
+                if (page == null) return null;
+                if (taken++ == requestSeq) return page;
+            }
+            return null;
+        }
+    }
+
+    private static void closeQuietly(Socket s) {
+        try {
+            if (s != null && !s.isClosed()) s.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    static class Backend {
+        final String host;
+        final int port;
+
+        Backend(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        static Backend parse(String hostPort) {
+            String[] parts = hostPort.trim().split(":");
+            return new Backend(parts[0], Integer.parseInt(parts[1]));
+        }
+
+        @Override
+        public String toString() {
+            return host + ":" + port;
+        }
+    }
+
+    // 같은 머신에 노드 프로세스를 띄움 (로그는 logs/node-<포트>.log)
+    private static List<Process> startLocalNodes(int count) throws IOException {
+        new File("logs").mkdirs();
+        String javaBin = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String classPath = System.getProperty("java.class.path");
+
+        // 모든 노드가 같은 토큰 키를 쓰고, 첫 노드가 계정 노드
+        TokenSigner.loadOrCreate(CLUSTER_KEY);
+        String accountNode = "127.0.0.1:" + LOCAL_BASE_PORT;
+
+        List<Process> processes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int nodePort = LOCAL_BASE_PORT + i;
+            List<String> command = new ArrayList<>();
+            command.add(javaBin);
+            command.add("-Daccount.key=" + CLUSTER_KEY.getPath());
+            if (i > 0) command.add("-Daccount.node=" + accountNode);
+            command.add("-cp");
+            command.add(classPath);
+            command.add("server.LobbyServer");
+            command.add(String.valueOf(nodePort));
+            ProcessBuilder pb = new ProcessBuilder(command);
+            pb.redirectErrorStream(true);
+            pb.redirectOutput(new File("logs", "node-" + nodePort + ".log"));
+            processes.add(pb.start());
+            System.out.println("[게이트웨이] 로컬 노드 시작: 127.0.0.1:" + nodePort);
+        }
+        return processes;
+    }
+
+    // 사용법:
+    //   GatewayServer [포트] host:port,host:port,...   이미 떠 있는 노드들로 라우팅
+    //   GatewayServer --local N [포트]                  노드 N개를 로컬 프로세스로 띄우고 라우팅
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        List<Backend> backends = new ArrayList<>();
+
+        if (args.length >= 2 && "--local".equals(args[0])) {
+            int count = Integer.parseInt(args[1]);
+            if (args.length >= 3) port = Integer.parseInt(args[2]);
+
+            List<Process> nodes = startLocalNodes(count);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> nodes.forEach(Process::destroy)));
+            for (int i = 0; i < count; i++) {
+                backends.add(new Backend("127.0.0.1", LOCAL_BASE_PORT + i));
+            }
+        } else if (args.length >= 1) {
+            String nodeList = args[args.length - 1];
+            if (args.length >= 2) port = Integer.parseInt(args[0]);
+            for (String hostPort : nodeList.split(",")) {
+                backends.add(Backend.parse(hostPort));
+            }
+        } else {
+            System.out.println("사용법: GatewayServer [포트] host:port,host:port,...  |  GatewayServer --local N [포트]");
+            return;
+        }
+
+        new GatewayServer(port, backends).run();
+    }
+}
@@ -0,0 +1,99 @@
+package server;
+
+import model.GamePacket;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 라운드 이미지를 내용 해시(SHA-256)로 식별하고 클라이언트에 조각 단위로 보내는 저장소
+public class ImageStore {
+
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    private final Map<String, Entry> byPath = new ConcurrentHashMap<>();
+    private final Map<String, Entry> byHash = new ConcurrentHashMap<>();
+
+    // 서버 시작 때 라운드 이미지를 모두 읽어 해시 계산 (라운드 전환 중 방 잠금 안에서 디스크를 읽지 않도록)
+    public void preload(List<String> paths) {
+        for (String path : paths) {
+            hashOf(path);
+        }
+    }
+
+    // 미리 읽지 않은 이미지는 처음 요청될 때 한 번만 읽어서 해시 계산, 파일이 없으면 null
+    public String hashOf(String path) {
+        Entry entry = byPath.computeIfAbsent(path, this::load);
+        return (entry != null) ? entry.hash : null;
+    }
+
+    // 다음 라운드 이미지 미리 알림 (라운드 사이 대기 시간 동안 클라이언트가 받아서 디코딩)
+    public GamePacket roundPrepare(String imagePath) {
+        GamePacket prepare = new GamePacket(GamePacket.Type.ROUND_PREPARE, imagePath);
+        prepare.setImageHash(hashOf(imagePath));
+        return prepare;
+    }
+
+    public boolean contains(String hash) {
+        return hash != null && byHash.containsKey(hash);
+    }
+
+    public List<GamePacket> chunksOf(String hash) {
+        List<GamePacket> chunks = new ArrayList<>();
+        Entry entry = byHash.get(hash);
+        if (entry == null) return chunks;
+
+        int count = Math.max(1, (entry.data.length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        for (int i = 0; i < count; i++) {
+            int from = i * CHUNK_SIZE;
+            int to = Math.min(entry.data.length, from + CHUNK_SIZE);
+            chunks.add(new GamePacket(GamePacket.Type.IMAGE_CHUNK, hash, i, count,
+                    Arrays.copyOfRange(entry.data, from, to)));
+        }
+        return chunks;
+    }
+
+    private Entry load(String path) {
+        try {
+            byte[] data = Files.readAllBytes(Paths.get(path));
+            String hash = sha256(data);
+            Entry entry = new Entry(hash, data);
+            byHash.putIfAbsent(hash, entry);
+            System.out.println("[이미지] " + path + " -> " + hash.substring(0, 12) + " (" + data.length + " bytes)");
+            return entry;
+        } catch (IOException e) {
+            System.out.println("[이미지] 읽기 실패: " + path + " (" + e.getMessage() + ")");
+            return null;
+        }
+    }
+
+    public static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("해시 계산 실패", e);
+        }
+    }
+
+    private static class Entry {
+        final String hash;
+        final byte[] data;
+
+        Entry(String hash, byte[] data) {
+            this.hash = hash;
+            this.data = data;
+        }
+    }
+}
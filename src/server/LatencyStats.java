@@ -0,0 +1,53 @@
+package server;
+
+import java.util.Arrays;
+
+// 최근 N개 샘플로 백분위(p50/p90/p99)를 계산하는 간단한 지연 통계
+public class LatencyStats {
+
+    private final long[] samples;
+    private int next = 0;
+    private int size = 0;
+    private long totalCount = 0;
+    private long max = 0;
+
+    public LatencyStats(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    public synchronized void record(long value) {
+        samples[next] = value;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) size++;
+        totalCount++;
+        if (value > max) max = value;
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    // p 는 0~100
+    public synchronized long percentile(double p) {
+        if (size == 0) return 0;
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return pick(sorted, p);
+    }
+
+    public synchronized String summary(String unit) {
+        if (size == 0) return "샘플 없음";
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return "n=" + totalCount
+                + " p50=" + pick(sorted, 50) + unit
+                + " p90=" + pick(sorted, 90) + unit
+                + " p99=" + pick(sorted, 99) + unit
+                + " max=" + max + unit;
+    }
+
+    private long pick(long[] sorted, double p) {
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+    }
+}
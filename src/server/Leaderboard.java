@@ -0,0 +1,121 @@
+package server;
+
+import model.LeaderboardEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+// 한 난이도/모드의 랭킹 (플레이어별 최고 점수)
+// 점수 칸마다 인원 수를 펜윅 트리로 들고 있어서 "내 순위"와 "k 번째 점수" 를 O(log 점수 범위) 로 구함
+// 같은 점수끼리는 먼저 달성한 순서
+public class Leaderboard {
+
+    static final int MAX_SCORE = 65535;   // 이 이상은 같은 칸
+    private static final int SIZE = MAX_SCORE + 1;
+    private static final int TOP_BIT = Integer.highestOneBit(SIZE);
+
+    // 펜윅 트리 인덱스 i(1부터) 는 점수 (MAX_SCORE - (i - 1)) -> 높은 점수가 앞쪽
+    private final int[] tree = new int[SIZE + 1];
+    private final Map<String, Integer> best = new HashMap<>();
+    private final Map<Integer, LinkedHashSet<String>> buckets = new HashMap<>();
+
+    // 최고 점수를 갱신하면 true
+    public synchronized boolean submit(String nickname, int score) {
+        score = clamp(score);
+        Integer old = best.get(nickname);
+        if (old != null && old >= score) return false;
+
+        if (old != null) {
+            removeFromBucket(old, nickname);
+            add(indexOf(old), -1);
+        }
+        best.put(nickname, score);
+        buckets.computeIfAbsent(score, k -> new LinkedHashSet<>()).add(nickname);
+        add(indexOf(score), 1);
+        return true;
+    }
+
+    // 순위 (1부터, 없으면 0). 같은 점수는 같은 순위
+    public synchronized int rankOf(String nickname) {
+        Integer score = best.get(nickname);
+        if (score == null) return 0;
+        return prefix(indexOf(score) - 1) + 1;
+    }
+
+    public synchronized int scoreOf(String nickname) {
+        return best.getOrDefault(nickname, 0);
+    }
+
+    public synchronized int size() {
+        return best.size();
+    }
+
+    // 상위 k 명 (k 번째 사람이 있는 칸을 찾아 내려가며 칸 단위로 모음)
+    public synchronized List<LeaderboardEntry> top(int k) {
+        List<LeaderboardEntry> result = new ArrayList<>(Math.min(k, best.size()));
+        while (result.size() < k && result.size() < best.size()) {
+            int index = findKth(result.size() + 1);
+            int score = scoreAt(index);
+            int rank = prefix(index - 1) + 1;
+            for (String name : buckets.get(score)) {
+                if (result.size() >= k) break;
+                result.add(new LeaderboardEntry(rank, name, score));
+            }
+        }
+        return result;
+    }
+
+    // 스냅샷용: 순위 순서 그대로 (같은 점수 안의 순서 유지)
+    synchronized List<LeaderboardEntry> all() {
+        return top(best.size());
+    }
+
+    private void removeFromBucket(int score, String nickname) {
+        LinkedHashSet<String> set = buckets.get(score);
+        set.remove(nickname);
+        if (set.isEmpty()) buckets.remove(score);
+    }
+
+    private static int clamp(int score) {
+        return Math.max(0, Math.min(score, MAX_SCORE));
+    }
+
+    private static int indexOf(int score) {
+        return MAX_SCORE - score + 1;
+    }
+
+    private static int scoreAt(int index) {
+        return MAX_SCORE - index + 1;
+    }
+
+    private void add(int i, int delta) {
+        for (; i <= SIZE; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // 1..i 칸의 인원 합 (= 이 점수 이상인 사람 수)
+    private int prefix(int i) {
+        int sum = 0;
+        for (; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // 누적 인원이 k 이상이 되는 가장 앞 칸
+    private int findKth(int k) {
+        int pos = 0;
+        for (int step = TOP_BIT; step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next <= SIZE && tree[next] < k) {
+                pos = next;
+                k -= tree[next];
+            }
+        }
+        return pos + 1;
+    }
+}
@@ -0,0 +1,140 @@
+package server;
+
+import model.LeaderboardEntry;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 난이도/모드별 전체 랭킹. GAME_OVER 결과로 갱신하고, 바뀐 게 있으면 주기적으로 스냅샷 저장
+public class LeaderboardService {
+
+    private static final int MAGIC = 0x52414E4B;   // "RANK"
+    private static final int VERSION = 1;
+    private static final long SNAPSHOT_INTERVAL_MS = 30000;
+    public static final int TOP_LIMIT = 100;
+
+    private final File file;
+    private final Map<String, Leaderboard> boards = new ConcurrentHashMap<>();
+    private volatile boolean dirty = false;
+    private Timer snapshotTimer;
+
+    public LeaderboardService(File dir) {
+        dir.mkdirs();
+        this.file = new File(dir, "leaderboards.snap");
+        load();
+    }
+
+    public static String key(String difficulty, String gameMode) {
+        return difficulty + "|" + gameMode;
+    }
+
+    public void submit(String difficulty, String gameMode, String nickname, int score) {
+        if (board(key(difficulty, gameMode)).submit(nickname, score)) {
+            dirty = true;
+        }
+    }
+
+    public List<LeaderboardEntry> top(String difficulty, String gameMode, int k) {
+        Leaderboard b = boards.get(key(difficulty, gameMode));
+        return b == null ? new ArrayList<>() : b.top(Math.min(k, TOP_LIMIT));
+    }
+
+    public int rankOf(String difficulty, String gameMode, String nickname) {
+        Leaderboard b = boards.get(key(difficulty, gameMode));
+        return b == null ? 0 : b.rankOf(nickname);
+    }
+
+    public int scoreOf(String difficulty, String gameMode, String nickname) {
+        Leaderboard b = boards.get(key(difficulty, gameMode));
+        return b == null ? 0 : b.scoreOf(nickname);
+    }
+
+    private Leaderboard board(String key) {
+        return boards.computeIfAbsent(key, k -> new Leaderboard());
+    }
+
+    public synchronized void start() {
+        if (snapshotTimer != null) return;
+        snapshotTimer = new Timer("leaderboard-snapshot", true);
+        snapshotTimer.schedule(new TimerTask() {
+            @Override
+            public void run() {
+                if (dirty) save();
+            }
+        }, SNAPSHOT_INTERVAL_MS, SNAPSHOT_INTERVAL_MS);
+    }
+
+    // 서버 종료 전에 호출
+    public synchronized void stop() {
+        if (snapshotTimer != null) {
+            snapshotTimer.cancel();
+            snapshotTimer = null;
+        }
+        if (dirty) save();
+    }
+
+    // 임시 파일에 쓰고 이름을 바꿔서, 저장 도중 종료돼도 이전 스냅샷이 남음
+    public synchronized void save() {
+        dirty = false;
+        File tmp = new File(file.getPath() + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(tmp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(boards.size());
+            for (Map.Entry<String, Leaderboard> e : boards.entrySet()) {
+                List<LeaderboardEntry> entries = e.getValue().all();
+                out.writeUTF(e.getKey());
+                out.writeInt(entries.size());
+                for (LeaderboardEntry entry : entries) {
+                    out.writeUTF(entry.getNickname());
+                    out.writeInt(entry.getScore());
+                }
+            }
+            out.flush();
+            fos.getFD().sync();
+        } catch (IOException e) {
+            dirty = true;
+            System.out.println("[랭킹] 스냅샷 저장 실패: " + e.getMessage());
+            return;
+        }
+        try {
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            System.out.println("[랭킹] 스냅샷 교체 실패: " + e.getMessage());
+        }
+    }
+
+    // 순위 순서대로 다시 넣어서 같은 점수 안의 순서도 그대로 복원
+    private void load() {
+        if (!file.isFile()) return;
+
+        int total = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("랭킹 스냅샷 형식 아님");
+            int version = in.readInt();
+            if (version != VERSION) throw new IOException("지원하지 않는 랭킹 스냅샷 버전: " + version);
+            int boardCount = in.readInt();
+            for (int i = 0; i < boardCount; i++) {
+                Leaderboard b = board(in.readUTF());
+                int n = in.readInt();
+                for (int j = 0; j < n; j++) {
+                    b.submit(in.readUTF(), in.readInt());
+                }
+                total += n;
+            }
+            System.out.println("[랭킹] " + boards.size() + "개 랭킹, " + total + "개 기록 로드 완료.");
+        } catch (IOException e) {
+            System.out.println("[랭킹] 스냅샷 읽기 실패, 빈 랭킹으로 시작: " + e.getMessage());
+            boards.clear();
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package server;
 
+import model.AccountStore;
 import model.GamePacket;
+import model.RoomInfo;
 
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.net.ServerSocket;
@@ -16,19 +23,34 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class LobbyServer {
 
-    private static final int PORT = 9999;
+    private static final int DEFAULT_PORT = 9999;
+    private static final long DRAIN_POLL_MS = 500;
+    private static final long DRAIN_TIMEOUT_MS = 180000;   // 이 시간 안에 라운드가 안 끝나면 진행 중인 방도 강제 저장
+    // 이만큼 보낼 때마다 스트림 참조 테이블을 비움 (커서 스냅샷처럼 자주 오는 패킷이 양쪽 힙에 쌓이지 않도록)
+    private static final int STREAM_RESET_PACKETS = Integer.getInteger("stream.reset.packets", 64);
+    private final int port;
     private ServerSocket listener = null;
 
+    private final RoomSnapshotStore snapshotStore;
+    private final ImageStore imageStore = new ImageStore();
+    private AccountService accountService;   // 계정 노드만 (다른 노드는 accountLink)
+    private AccountLink accountLink;
+    private LeaderboardService leaderboards;   // 계정 노드만 (다른 노드는 accountLink 로 보냄)
+    private MatchLog matchLog;
+    private volatile boolean draining = false;
+
     private final Map<String, ClientHandler> clients = new ConcurrentHashMap<>();
     private final Map<String, Boolean> playerReadyStatus = new ConcurrentHashMap<>();
     private final Map<String, Integer> singlePlayScores = new ConcurrentHashMap<>();
-    private final Map<String, RoomManager> activeRooms = new ConcurrentHashMap<>();
     
     private GameLogic gameLogic;
+    private RoomDirectory roomDirectory;
+    private MatchmakingService matchmaking;
     private int currentRound = 0;
     private String hostName = null;
 
@@ -38,10 +60,22 @@ public class LobbyServer {
     
     private final List<String> joinList = new ArrayList<>();
 
+    // 세션 토큰 -> 방에 들어간 연결 (재접속 시 같은 자리로 복귀)
+    private final Map<String, ClientHandler> sessions = new ConcurrentHashMap<>();
+
     public LobbyServer() {
+        this(DEFAULT_PORT);
+    }
+
+    public LobbyServer(int port) {
+        this.port = port;
+        this.snapshotStore = new RoomSnapshotStore(new File("snapshots", String.valueOf(port)));
         System.out.println("[서버] 로비 서버가 시작 준비 중입니다...");
         try {
             this.gameLogic = new GameLogic();
+            imageStore.preload(gameLogic.getAllImagePaths());
+            this.roomDirectory = new RoomDirectory(gameLogic, this);
+            this.matchmaking = new MatchmakingService(roomDirectory, String.valueOf(port));
             System.out.println("[서버] 게임 로직 초기화 완료.");
             
         } catch (IOException e) {
@@ -49,12 +83,53 @@ public class LobbyServer {
             e.printStackTrace();
             System.exit(1);
         }
+
+        try {
+            // 게이트웨이 뒤에서는 노드 하나(account.node 가 없는 노드)만 계정을 가지고, 모든 노드가 같은 토큰 키(account.key)를 씀
+            File dataDir = new File("data", String.valueOf(port));
+            File keyFile = new File(System.getProperty("account.key", new File(dataDir, "token.key").getPath()));
+            String accountNode = System.getProperty("account.node");
+            if (accountNode == null) {
+                this.accountService = new AccountService(dataDir, keyFile);
+            } else {
+                if (!keyFile.isFile()) throw new IOException("계정 노드와 같은 토큰 키 파일이 필요합니다: " + keyFile);
+                this.accountLink = new AccountLink(accountNode, TokenSigner.loadOrCreate(keyFile), "node-" + port);
+                System.out.println("[서버] 계정 노드: " + accountLink);
+            }
+            if (accountService != null) this.leaderboards = new LeaderboardService(dataDir);
+            this.matchLog = new MatchLog(new File(new File("data", String.valueOf(port)), "matches"));
+        } catch (IOException e) {
+            System.out.println("[서버] 치명적 오류: 계정 저장소를 열 수 없습니다.");
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    // 기록 재생용: 소켓/계정/랭킹/기록 없이 방 로직에 필요한 것만 갖춘 서버
+    private LobbyServer(GameLogic gameLogic) {
+        this.port = 0;
+        this.snapshotStore = null;
+        this.gameLogic = gameLogic;
+        this.roomDirectory = new RoomDirectory(gameLogic, this);
+    }
+
+    static LobbyServer forReplay(GameLogic gameLogic) {
+        return new LobbyServer(gameLogic);
     }
 
     public void run() {
         try {
-            listener = new ServerSocket(PORT);
-            System.out.println("[서버] 대기방 서버가 " + PORT + " 포트에서 대기 중입니다...");
+            listener = new ServerSocket(port);
+            restoreRooms();
+            matchmaking.start();
+            if (leaderboards != null) {
+                leaderboards.start();
+                // 드레인 종료(System.exit)나 Ctrl+C 때 아직 저장 안 된 랭킹 기록
+                Runtime.getRuntime().addShutdownHook(new Thread(leaderboards::stop, "leaderboard-save"));
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(matchLog::close, "match-log-close"));
+            startConsole();
+            System.out.println("[서버] 대기방 서버가 " + port + " 포트에서 대기 중입니다...");
 
             while (true) {
                 Socket socket = listener.accept();
@@ -77,6 +152,161 @@ public class LobbyServer {
         }
     }
     
+    public RoomDirectory getRoomDirectory() {
+        return roomDirectory;
+    }
+
+    public ImageStore getImageStore() {
+        return imageStore;
+    }
+
+    public MatchLog getMatchLog() {
+        return matchLog;
+    }
+
+    // 게임 종료 시 서버가 가진 점수로 경험치 지급 (로그인 인증된 연결만)
+    public void grantReward(ClientHandler handler, int score) {
+        if (handler == null || handler.accountName == null) return;
+
+        int exp = AccountService.expForScore(score);
+        if (accountLink != null) {
+            accountLink.grantReward(handler, handler.accountName, exp);
+            return;
+        }
+        try {
+            AccountStore.Record r = accountService.grantExperience(handler.accountName, exp);
+            if (r != null) {
+                handler.sendPacket(AccountService.rewardPacket(r, exp));
+            }
+        } catch (IOException e) {
+            System.out.println("[서버] 경험치 저장 실패 (" + handler.accountName + "): " + e.getMessage());
+        }
+    }
+
+    // 게임 결과를 전체 랭킹에 반영 (로그인 인증된 연결만)
+    public void submitScore(ClientHandler handler, String difficulty, String gameMode, int score) {
+        if (handler == null || handler.accountName == null) return;
+        if (accountLink != null) {
+            accountLink.submitScore(difficulty, gameMode, handler.accountName, score);
+            return;
+        }
+        leaderboards.submit(difficulty, gameMode, handler.accountName, score);
+    }
+
+    private GamePacket leaderboardPacket(GamePacket request) {
+        String difficulty = request.getDifficulty();
+        String gameMode = request.getGameMode();
+        String nickname = request.getSender();
+
+        GamePacket p = new GamePacket(GamePacket.Type.LEADERBOARD, "SERVER", (String) null);
+        p.setDifficulty(difficulty);
+        p.setGameMode(gameMode);
+        p.setLeaderboard(leaderboards.top(difficulty, gameMode, LeaderboardService.TOP_LIMIT));
+        p.setMyRank(leaderboards.rankOf(difficulty, gameMode, nickname));
+        p.setMyBestScore(leaderboards.scoreOf(difficulty, gameMode, nickname));
+        return p;
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    // 이전 드레인에서 저장된 방 복원 (원래 플레이어들이 같은 방 번호로 다시 접속하면 이어서 진행)
+    private void restoreRooms() {
+        List<RoomManager> restored = snapshotStore.restoreAll(gameLogic, this);
+        for (RoomManager room : restored) {
+            roomDirectory.restore(room);
+            System.out.println("[서버] 방 복원: " + room.roomName);
+        }
+        if (!restored.isEmpty()) {
+            System.out.println("[서버] 스냅샷에서 방 " + restored.size() + "개를 복원했습니다.");
+        }
+    }
+
+    // 콘솔 명령: drain (새 방/매칭을 막고 방을 저장한 뒤 종료)
+    private void startConsole() {
+        Thread console = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(System.in))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if ("drain".equalsIgnoreCase(line.trim())) {
+                        startDrain();
+                    } else if ("accounts".equalsIgnoreCase(line.trim())) {
+                        System.out.println("[계정] " + (accountService != null ? accountService.stats() : "계정 노드 " + accountLink));
+                    } else if ("matchlog".equalsIgnoreCase(line.trim())) {
+                        System.out.println("[대전 기록] " + matchLog.stats());
+                    } else if ("spectators".equalsIgnoreCase(line.trim())) {
+                        System.out.println("[관전] " + SpectatorFeed.stats());
+                    }
+                }
+            } catch (IOException e) {
+                // 콘솔 없음
+            }
+        }, "console");
+        console.setDaemon(true);
+        console.start();
+    }
+
+    public synchronized void startDrain() {
+        if (draining) return;
+        draining = true;
+        System.out.println("[서버] 드레인 시작: 새 방/매칭을 받지 않고 진행 중인 방을 저장합니다.");
+
+        Thread drainThread = new Thread(this::drain, "drain");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    private void drain() {
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MS;
+
+        while (true) {
+            boolean force = System.currentTimeMillis() >= deadline;
+            int remaining = 0;
+
+            for (RoomManager room : roomDirectory.all()) {
+                if (room.isEmpty()) continue;
+                try {
+                    if (room.snapshotAndFreeze(snapshotStore, force)) {
+                        System.out.println("[서버] [" + room.roomName + "] 방 저장 완료" + (force ? " (강제)" : ""));
+                    } else {
+                        remaining++;
+                    }
+                } catch (IOException e) {
+                    System.out.println("[서버] [" + room.roomName + "] 방 저장 실패: " + e.getMessage());
+                    remaining++;
+                }
+            }
+
+            if (remaining == 0) break;
+            try {
+                Thread.sleep(DRAIN_POLL_MS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+
+        System.out.println("[서버] 드레인 완료. 서버를 종료합니다.");
+        System.exit(0);
+    }
+    
+    // 방 입장에 성공한 연결에 재접속용 토큰 발급
+    private void issueSession(ClientHandler handler) {
+        String token = UUID.randomUUID().toString().replace("-", "");
+        handler.sessionToken = token;
+        sessions.put(token, handler);
+        handler.sendPacket(new GamePacket(GamePacket.Type.SESSION, token));
+    }
+
+    // 재접속 대기 시간이 지나 자리가 정리된 경우 (RoomManager 타이머에서 호출)
+    void onSessionExpired(ClientHandler handler) {
+        if (handler.sessionToken != null) sessions.remove(handler.sessionToken, handler);
+        clients.remove(handler.playerName, handler);
+        synchronized (joinList) {
+            joinList.remove(handler.playerName);
+        }
+    }
+
     public int getJoinOrderIndex(String playerName) {
         synchronized (joinList) {
             return joinList.indexOf(playerName);
@@ -89,9 +319,24 @@ public class LobbyServer {
         private ObjectInputStream in;
         private String playerName;
         private boolean isSinglePlayer = false;
+        private boolean isBrowser = false;
+        private String sessionToken = null;
+        private volatile boolean leaving = false;   // LEAVE 를 보내고 나간 경우 재접속 대기 없이 정리
+        private volatile boolean replaced = false;  // 재접속한 새 연결이 자리를 이어받음
+        private String browseGameType = "NORMAL";
+        private boolean isAccount = false;
+        private boolean isLeaderboard = false;
+        private boolean isNode = false;
+        private RoomManager spectating = null;
+        volatile SpectatorFeed.Viewer watching = null;
+        private String accountName = null;   // 토큰 검증을 통과한 계정 (경험치 지급 대상)
         private boolean[] singlePlayFoundStatus;
         
-        private RoomManager room = null;
+        private volatile RoomManager room = null;
+        
+        // 여러 스레드(방 타이머, 방 목록 알림)에서 동시에 보내는 경우 대비
+        private final Object sendLock = new Object();
+        private int sentSinceReset = 0;   // sendLock 안에서만
         
         // 1인 전용
         private String playerDifficulty = "쉬움";
@@ -102,10 +347,18 @@ public class LobbyServer {
             this.socket = socket;
         }
 
+        // 기록 재생용 가상 플레이어 (연결 없음, 보내는 패킷은 버려짐)
+        ClientHandler(String playerName) {
+            this.socket = null;
+            this.playerName = playerName;
+        }
+
         public void run() {
             try {
-                in = new ObjectInputStream(socket.getInputStream());
-                out = new ObjectOutputStream(socket.getOutputStream());
+                // 버퍼 없이 읽으면 패킷 하나에 작은 소켓 읽기가 수십 번 (큰 방에서 커서 이동이 몰릴 때 병목)
+                in = new ObjectInputStream(new BufferedInputStream(socket.getInputStream()));
+                out = new ObjectOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                out.flush();   // 스트림 헤더를 바로 보내야 클라이언트가 입력 스트림을 열 수 있음
 
                 GamePacket joinPacket = (GamePacket) in.readObject();
                 if (joinPacket.getType() == GamePacket.Type.JOIN) {
@@ -113,6 +366,115 @@ public class LobbyServer {
                     String message = joinPacket.getMessage();
                     
                     isSinglePlayer = joinPacket.getMessage().startsWith("SINGLE_");
+                    isBrowser = joinPacket.getMessage().startsWith("BROWSE_");
+                    isAccount = joinPacket.getMessage().equals("ACCOUNT");
+                    isLeaderboard = joinPacket.getMessage().equals("LEADERBOARD");
+                    isNode = joinPacket.getMessage().equals("NODE");
+
+                    if (isNode) {
+                        // 다른 노드의 계정 요청 (경험치 지급, 랭킹 반영), 같은 토큰 키를 가진 노드만
+                        if (accountService == null || !accountService.verifyNodeToken(playerName, joinPacket.getAccountToken())) {
+                            System.out.println("[서버] 노드 연결 거부: " + playerName);
+                            socket.close();
+                            return;
+                        }
+                        System.out.println("[서버] 노드 연결: " + playerName);
+                        while (true) {
+                            GamePacket packet = (GamePacket) in.readObject();
+                            if (packet.getType() == GamePacket.Type.ACCOUNT
+                                    && AccountService.OP_REWARD.equals(packet.getAccountOp())) {
+                                sendPacket(accountService.handleReward(packet));
+                            } else if (packet.getType() == GamePacket.Type.LEADERBOARD
+                                    && AccountLink.SUBMIT.equals(packet.getMessage())) {
+                                leaderboards.submit(packet.getDifficulty(), packet.getGameMode(),
+                                        packet.getSender(), packet.getMyBestScore());
+                            }
+                        }
+                    }
+                    
+                    if (isLeaderboard) {
+                        // 랭킹 조회 전용 연결 (닉네임 점유 없음)
+                        if (leaderboards == null) {
+                            System.out.println("[서버] 랭킹 조회는 계정 노드(" + accountLink + ")에서 처리합니다.");
+                            socket.close();
+                            return;
+                        }
+                        while (true) {
+                            GamePacket packet = (GamePacket) in.readObject();
+                            if (packet.getType() == GamePacket.Type.LEADERBOARD) {
+                                sendPacket(leaderboardPacket(packet));
+                            }
+                        }
+                    }
+                    
+                    if (isAccount) {
+                        // 계정 요청 전용 연결 (닉네임 점유 없음)
+                        if (accountService == null) {
+                            System.out.println("[서버] 계정 요청은 계정 노드(" + accountLink + ")에서 처리합니다.");
+                            socket.close();
+                            return;
+                        }
+                        while (true) {
+                            GamePacket packet = (GamePacket) in.readObject();
+                            if (packet.getType() == GamePacket.Type.ACCOUNT) {
+                                sendPacket(accountService.handle(packet));
+                            }
+                        }
+                    }
+                    
+                    if (accountService != null ? accountService.verifyToken(playerName, joinPacket.getAccountToken())
+                            : accountLink.verifyToken(playerName, joinPacket.getAccountToken())) {
+                        accountName = playerName;
+                    }
+                    
+                    if (isBrowser) {
+                        // 방 목록 조회 전용 연결 (닉네임 점유 없음)
+                        browseGameType = joinPacket.getGameType() != null ? joinPacket.getGameType() : "NORMAL";
+                        roomDirectory.subscribe(browseGameType, this);
+                        sendRoomListPage(null);
+
+                        while (true) {
+                            GamePacket packet = (GamePacket) in.readObject();
+                            if (packet.getType() == GamePacket.Type.ROOM_LIST_REQUEST) {
+                                sendRoomListPage(packet.getMessage());
+                            }
+                        }
+                    }
+                    
+                    if (message.startsWith("WATCH_")) {
+                        // 관전: WATCH_<방 번호>, 닉네임 점유 없이 방 방송만 받음
+                        String requestGameType = joinPacket.getGameType() != null ? joinPacket.getGameType() : "NORMAL";
+                        RoomManager targetRoom = roomDirectory.get(requestGameType + "_" + message.substring("WATCH_".length()));
+                        if (targetRoom == null || !targetRoom.addSpectator(this)) {
+                            sendPacket(new GamePacket(GamePacket.Type.MESSAGE, "SERVER", "오류: 관전할 수 없는 방입니다."));
+                            playerName = null;
+                            socket.close();
+                            return;
+                        }
+                        spectating = targetRoom;
+                        readSpectatorPackets();
+                        return;
+                    }
+                    
+                    if (message.startsWith("RESUME_")) {
+                        // 재접속: RESUME_<토큰>_<마지막 순번>_<방 번호>
+                        if (!resumeSession(message)) {
+                            sendPacket(new GamePacket(GamePacket.Type.MESSAGE, "SERVER",
+                                    "오류: 세션이 만료되었습니다."));
+                            playerName = null;
+                            socket.close();
+                            return;
+                        }
+                        readPackets();
+                        return;
+                    }
+                    
+                    if (draining && (isSinglePlayer || message.startsWith("MATCH_"))) {
+                        sendPacket(new GamePacket(GamePacket.Type.MESSAGE, "SERVER",
+                                "오류: 서버 점검 중입니다. 잠시 후 다시 접속하세요."));
+                        socket.close();
+                        return;
+                    }
                     
                     if (clients.containsKey(this.playerName)) {
                         sendPacket(new GamePacket(GamePacket.Type.MESSAGE, "SERVER", 
@@ -140,6 +502,20 @@ public class LobbyServer {
                         
                         startRoundForPlayer(1);
                         
+                    } else if (message.startsWith("MATCH_")) {
+                        // 빠른 매칭: MATCH_<난이도>_<모드>
+                        String[] parts = message.split("_");
+                        String difficulty = parts.length > 1 ? parts[1] : "쉬움";
+                        String gameMode = parts.length > 2 ? parts[2] : "협동";
+                        String requestGameType = joinPacket.getGameType();
+                        if (requestGameType == null) requestGameType = "NORMAL";
+
+                        int waiting = matchmaking.enqueue(this, requestGameType, difficulty, gameMode);
+                        System.out.println("[서버] " + this.playerName + " 님 빠른 매칭 대기 (" 
+                                + MatchmakingService.queueKey(requestGameType, difficulty, gameMode) + ")");
+                        sendPacket(new GamePacket(GamePacket.Type.MESSAGE, "SERVER",
+                                "[매칭] 대기열에 등록되었습니다. (대기 " + waiting + "명)"));
+                        
                     } else {
                         String roomNumber = message;
                         String requestGameType = joinPacket.getGameType();
@@ -148,15 +524,14 @@ public class LobbyServer {
 
                         System.out.println("[서버] " + this.playerName + " 님이 " + uniqueRoomKey + " 방에 접속 시도.");
                         
-                        RoomManager targetRoom;
-                        synchronized(activeRooms){
-                            targetRoom = activeRooms.get(uniqueRoomKey);
-                            
-                            if(targetRoom == null) {
-                                targetRoom = new RoomManager(uniqueRoomKey, gameLogic, LobbyServer.this);
-                                targetRoom.setFixedGameType(requestGameType); 
-                                activeRooms.put(uniqueRoomKey, targetRoom);
-                            }
+                        RoomManager targetRoom = roomDirectory.getOrCreate(uniqueRoomKey, requestGameType);
+                        
+                        if (targetRoom == null) {
+                            sendPacket(new GamePacket(GamePacket.Type.MESSAGE, "SERVER",
+                                "오류: 서버 점검 중입니다. 잠시 후 다시 접속하세요."));
+                            clients.remove(this.playerName);
+                            socket.close();
+                            return;
                         }
                         
                         if (!targetRoom.getFixedGameType().equals(requestGameType)) {
@@ -174,10 +549,12 @@ public class LobbyServer {
                         
                         if(success) {
                             this.room = targetRoom;
+                            issueSession(this);
                         }
                         else {
                             System.out.println("[서버] " + this.playerName + "님 입장 거부");
                             clients.remove(this.playerName);
+                            roomDirectory.removeIfEmpty(targetRoom);
                             socket.close();
                             return;
                         }
@@ -188,13 +565,16 @@ public class LobbyServer {
                     return;
                 }
 
-                while (true) {
-                    GamePacket packet = (GamePacket) in.readObject();
-                    handlePacket(this, packet);
-                }
+                readPackets();
 
             } catch (Exception e) {
-                if (isSinglePlayer) {
+                if (isNode) {
+                    System.out.println("[서버] 노드 연결 종료: " + playerName);
+                } else if (isAccount || isLeaderboard) {
+                    // 요청 처리 후 클라이언트가 닫음
+                } else if (isBrowser) {
+                    System.out.println("[서버] 방 목록 조회 연결 종료.");
+                } else if (isSinglePlayer) {
                     System.out.println("[서버] [1인 플레이] " + playerName + " 연결 끊김.");
                 } else {
                     System.out.println("[서버] " + playerName + " 연결 끊김.");
@@ -205,6 +585,77 @@ public class LobbyServer {
         }
         
   
+        private void readPackets() throws IOException, ClassNotFoundException {
+            while (true) {
+                GamePacket packet = (GamePacket) in.readObject();
+                if (packet.getType() == GamePacket.Type.LEAVE) {
+                    leaving = true;
+                    return;
+                }
+                if (packet.getType() == GamePacket.Type.IMAGE_REQUEST) {
+                    // 전역 잠금 없이 이 연결의 스레드에서 바로 전송
+                    sendImage(packet.getMessage());
+                    continue;
+                }
+                handlePacket(this, packet);
+            }
+        }
+
+        // 관전자는 이미지 요청과 나가기만 처리 (게임 입력은 무시)
+        private void readSpectatorPackets() throws IOException, ClassNotFoundException {
+            while (true) {
+                GamePacket packet = (GamePacket) in.readObject();
+                if (packet.getType() == GamePacket.Type.LEAVE) return;
+                if (packet.getType() == GamePacket.Type.IMAGE_REQUEST) sendImage(packet.getMessage());
+            }
+        }
+
+        private void sendImage(String hash) {
+            if (!imageStore.contains(hash)) {
+                System.out.println("[서버] " + playerName + " 알 수 없는 이미지 요청: " + hash);
+                return;
+            }
+            for (GamePacket chunk : imageStore.chunksOf(hash)) {
+                sendPacket(chunk);
+            }
+        }
+
+        // 토큰으로 이전 연결의 자리를 이어받음
+        private boolean resumeSession(String message) {
+            String[] parts = message.substring("RESUME_".length()).split("_", 3);
+            if (parts.length < 2) return false;
+
+            String token = parts[0];
+            long lastSeq;
+            try {
+                lastSeq = Long.parseLong(parts[1]);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+
+            ClientHandler previous = sessions.get(token);
+            if (previous == null || !previous.playerName.equals(playerName) || previous.room == null) return false;
+
+            RoomManager targetRoom = previous.room;
+            synchronized (targetRoom) {
+                // 서버가 아직 이전 연결의 끊김을 감지하지 못한 경우
+                if (targetRoom.suspendPlayer(previous)) {
+                    previous.closeSocket();
+                }
+                if (!targetRoom.resumePlayer(this, token, lastSeq)) return false;
+                previous.replaced = true;
+                sessionToken = token;
+                sessions.put(token, this);
+                clients.put(playerName, this);
+                this.room = targetRoom;
+            }
+            synchronized (joinList) {
+                if (!joinList.contains(playerName)) joinList.add(playerName);
+            }
+            System.out.println("[서버] " + playerName + " 님 세션 재개 (" + targetRoom.roomName + ")");
+            return true;
+        }
+
         private void startRoundForPlayer(int round) {
             playerCurrentRound = round;
             playerHintCount = 3; 
@@ -218,29 +669,77 @@ public class LobbyServer {
             Map<String, Integer> singleIndexMap = new HashMap<>();
             singleIndexMap.put(playerName, 0);
             
-            sendPacket(new GamePacket(GamePacket.Type.ROUND_START, 
+            String imagePath = gameLogic.getImagePath(playerDifficulty, round);
+            GamePacket roundStart = new GamePacket(GamePacket.Type.ROUND_START, 
                 round, 
-                gameLogic.getImagePath(playerDifficulty, round),
+                imagePath,
                 answers,
                 gameLogic.getOriginalDimension(playerDifficulty, round),
                 singleIndexMap,
                 "협동"
-            ));
+            );
+            roundStart.setImageHash(imageStore.hashOf(imagePath));
+            sendPacket(roundStart);
             System.out.println("[서버] [1인 플레이] " + playerName + " - 라운드 " + round + " 시작 (힌트: 3/3)");
         }
         
+        private void sendRoomListPage(String afterKey) {
+            List<RoomInfo> page = roomDirectory.list(browseGameType, afterKey);
+            String nextCursor = (page.size() == RoomDirectory.PAGE_SIZE)
+                    ? page.get(page.size() - 1).getRoomKey()
+                    : null;
+            sendPacket(new GamePacket(GamePacket.Type.ROOM_LIST, page, nextCursor));
+        }
+        
         public void sendPacket(GamePacket packet) {
             try {
-                if (out != null) {
-                    out.writeObject(packet);
-                    out.flush();
+                synchronized (sendLock) {
+                    if (out != null) {
+                        out.writeObject(packet);
+                        out.flush();
+                        // 이미지 조각은 다시 보낼 일이 없으므로 스트림 참조 테이블에 남기지 않음
+                        // 나머지도 STREAM_RESET_PACKETS 개마다 비움 (매번 비우면 클래스 정보를 매번 다시 보냄)
+                        if (packet.getType() == GamePacket.Type.IMAGE_CHUNK || ++sentSinceReset >= STREAM_RESET_PACKETS) {
+                            out.reset();
+                            sentSinceReset = 0;
+                        }
+                    }
                 }
             } catch (IOException e) {
                 System.out.println("[서버] " + playerName + " 패킷 전송 실패: " + e.getMessage());
             }
         }
         
+        // 관전 방송: 미리 직렬화된 패킷을 그대로 씀 (참조 테이블에 남기지 않음)
+        boolean sendFrame(byte[] frame) {
+            try {
+                synchronized (sendLock) {
+                    if (out == null) return false;
+                    out.writeUnshared(frame);
+                    out.flush();
+                }
+                return true;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        
+        // 매칭 서비스가 방을 배정할 때 호출 (매칭 스레드)
+        boolean joinMatchedRoom(RoomManager targetRoom, String roomNumber) {
+            if (socket.isClosed()) return false;
+            synchronized (targetRoom) {
+                if (!targetRoom.canAccept(playerName)) return false;
+                if (!targetRoom.addPlayer(this)) return false;
+                // 자리를 잡은 뒤에만 알림 (클라이언트는 먼저 온 대기방 정보를 들고 대기방으로 넘어감)
+                sendPacket(new GamePacket(GamePacket.Type.MATCH_FOUND, roomNumber));
+                this.room = targetRoom;
+                issueSession(this);
+            }
+            return true;
+        }
+        
         public String getPlayerName() { return playerName; }
+        boolean isConnected() { return socket != null && !socket.isClosed(); }
         public boolean isSinglePlayer() { return isSinglePlayer; }
         public RoomManager getRoom() { return room; }
         
@@ -258,23 +757,45 @@ public class LobbyServer {
             this.playerHintCount = 3; 
         }
 
+        public void setPlayerHintCount(int count) {
+            this.playerHintCount = count;
+        }
+
   
         private void handleDisconnect() {
-            if (playerName != null) {
-                clients.remove(playerName);
+            if (replaced || isAccount || isLeaderboard || isNode) {
+                closeSocket();
+                return;
+            }
+            if (spectating != null) {
+                spectating.removeSpectator(this);
+                System.out.println("[서버] " + playerName + " 관전 종료 (" + spectating.roomName + ")");
+                closeSocket();
+                return;
+            }
+            if (isBrowser) {
+                roomDirectory.unsubscribe(this);
+            } else if (playerName != null) {
+                if (!isSinglePlayer && room != null && !leaving && sessionToken != null && room.suspendPlayer(this)) {
+                    // 재접속 대기: 닉네임과 세션은 RoomManager 가 만료시킬 때까지 유지
+                    closeSocket();
+                    return;
+                }
+                clients.remove(playerName, this);
                 
                 if (isSinglePlayer) {
                     singlePlayScores.remove(playerName);
                     playerReadyStatus.remove(playerName);
                     System.out.println("[서버] [1인 플레이] " + playerName + " 세션 종료.");
                 } else {
+                    matchmaking.cancel(this);
+                    if (sessionToken != null) sessions.remove(sessionToken, this);
                     if(room != null) {
                         
                         boolean isRoomEmpty = room.removePlayer(this);
                         
-                        if(isRoomEmpty) {
+                        if(isRoomEmpty && roomDirectory.removeIfEmpty(room)) {
                             System.out.println("[서버] [" + room.roomName + "] 번 방이 비어 닫습니다.");
-                            activeRooms.remove(room.roomName);
                         }
                     }
                 }
@@ -283,6 +804,10 @@ public class LobbyServer {
                     joinList.remove(playerName);
                 }
             }
+            closeSocket();
+        }
+
+        void closeSocket() {
             try {
                 if (socket != null) socket.close();
             } catch (IOException e) {
@@ -318,6 +843,8 @@ public class LobbyServer {
         RoomManager targetRoom = handler.getRoom();
         if (targetRoom != null) {
             targetRoom.handlePacket(handler, packet);
+        } else if (matchmaking.isQueued(handler)) {
+            // 매칭 대기 중에는 무시
         } else {
             System.out.println("[서버] 오류: " + handler.getPlayerName() + " 님이 속한 방이 없습니다.");
         }
@@ -450,6 +977,7 @@ public class LobbyServer {
                       "라운드 " + completedRound + " 완료! 3초 후 다음 라운드 시작..."));
             
             System.out.println("[서버] [1인 플레이] " + handler.playerName + " 다음 라운드 준비 중...");
+            handler.sendPacket(imageStore.roundPrepare(gameLogic.getImagePath(difficulty, completedRound + 1)));
             
             Timer timer = new Timer();
             timer.schedule(new TimerTask() {
@@ -467,6 +995,9 @@ public class LobbyServer {
             }, 3000);
         } else {
             System.out.println("[서버] [1인 플레이] " + handler.playerName + " 모든 라운드 완료!");
+            int finalScore = singlePlayScores.getOrDefault(handler.playerName, 0);
+            grantReward(handler, finalScore);
+            submitScore(handler, handler.playerDifficulty, "1인", finalScore);
             handler.sendPacket(new GamePacket(GamePacket.Type.GAME_OVER, 
                       "모든 라운드 클리어! 게임 종료!"));
         }
@@ -484,7 +1015,9 @@ public class LobbyServer {
         return sb.toString();
     }
 
+    // 사용법: LobbyServer [포트]  (게이트웨이 뒤의 노드로 띄울 때 포트 지정)
     public static void main(String[] args) {
-        new LobbyServer().run();
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        new LobbyServer(port).run();
     }
 }
\ No newline at end of file
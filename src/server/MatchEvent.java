@@ -0,0 +1,111 @@
+package server;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+// 대전 기록 한 건. 모든 종류가 같은 필드를 쓰고, 종류마다 의미만 다름
+//   JOIN / LEAVE       player, text = 방 이름
+//   GAME_START         text = 방 이름|난이도|모드|게임 종류|시드|플레이어1,플레이어2,...
+//   ROUND_START        round, value = 정답 개수
+//   CLICK              player, round, value = 정답 번호(-1 = 빈 곳), x, y, text = HIT / MISS / DUP
+//   HINT               player, round, value = 알려준 정답 번호, text = ITEM (아이템으로 얻은 힌트)
+//   ITEM_SPAWN         value = 아이템 번호, x, y, text = 아이템 종류
+//   ITEM_PICKUP        player, value = 아이템 번호, x, y (누른 위치), text = 아이템 종류
+//   ITEM_EXPIRE        value = 아이템 번호, text = 아이템 종류 (수명이 지나거나 개수가 넘쳐서 없어짐)
+//   TIMER_END          player(보낸 사람), round
+//   SCORE              text = 플레이어:점수:찾은 개수,...
+//   GAME_OVER          text = 순위 문자열
+public class MatchEvent {
+
+    public static final byte JOIN = 1;
+    public static final byte LEAVE = 2;
+    public static final byte GAME_START = 3;
+    public static final byte ROUND_START = 4;
+    public static final byte CLICK = 5;
+    public static final byte HINT = 6;
+    public static final byte ITEM_SPAWN = 7;
+    public static final byte ITEM_PICKUP = 8;
+    public static final byte TIMER_END = 9;
+    public static final byte SCORE = 10;
+    public static final byte GAME_OVER = 11;
+    public static final byte ITEM_EXPIRE = 12;
+
+    // 기록의 종류 바이트에 이 비트가 있으면 x, y 가 double (없으면 예전 기록, float)
+    // 서버가 판정에 쓰는 좌표 그대로 남겨야 정답 경계 근처 클릭도 재생 결과가 같음
+    private static final int DOUBLE_COORDS = 0x80;
+
+    public final byte type;
+    public final long matchId;     // 게임 밖 이벤트(입장/퇴장)는 0
+    public final long time;        // 서버 시각 (ms)
+    public final String player;
+    public final int round;
+    public final int value;
+    public final double x;
+    public final double y;
+    public final String text;
+
+    public MatchEvent(byte type, long matchId, long time, String player, int round, int value,
+                      double x, double y, String text) {
+        this.type = type;
+        this.matchId = matchId;
+        this.time = time;
+        this.player = player != null ? player : "";
+        this.round = round;
+        this.value = value;
+        this.x = x;
+        this.y = y;
+        this.text = text != null ? text : "";
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeByte(type | DOUBLE_COORDS);
+        out.writeLong(matchId);
+        out.writeLong(time);
+        out.writeUTF(player);
+        out.writeShort(round);
+        out.writeInt(value);
+        out.writeDouble(x);
+        out.writeDouble(y);
+        out.writeUTF(text);
+    }
+
+    static MatchEvent read(DataInputStream in) throws IOException {
+        int head = in.readUnsignedByte();
+        byte type = (byte) (head & ~DOUBLE_COORDS);
+        boolean doubles = (head & DOUBLE_COORDS) != 0;
+        long matchId = in.readLong();
+        long time = in.readLong();
+        String player = in.readUTF();
+        int round = in.readShort();
+        int value = in.readInt();
+        double x = doubles ? in.readDouble() : in.readFloat();
+        double y = doubles ? in.readDouble() : in.readFloat();
+        String text = in.readUTF();
+        return new MatchEvent(type, matchId, time, player, round, value, x, y, text);
+    }
+
+    public static String typeName(byte type) {
+        switch (type) {
+            case JOIN: return "JOIN";
+            case LEAVE: return "LEAVE";
+            case GAME_START: return "GAME_START";
+            case ROUND_START: return "ROUND_START";
+            case CLICK: return "CLICK";
+            case HINT: return "HINT";
+            case ITEM_SPAWN: return "ITEM_SPAWN";
+            case ITEM_PICKUP: return "ITEM_PICKUP";
+            case TIMER_END: return "TIMER_END";
+            case SCORE: return "SCORE";
+            case GAME_OVER: return "GAME_OVER";
+            case ITEM_EXPIRE: return "ITEM_EXPIRE";
+            default: return "UNKNOWN(" + type + ")";
+        }
+    }
+
+    @Override
+    public String toString() {
+        return time + " " + typeName(type) + " " + player + " r" + round + " v" + value
+                + (x != 0 || y != 0 ? " (" + x + "," + y + ")" : "") + (text.isEmpty() ? "" : " " + text);
+    }
+}
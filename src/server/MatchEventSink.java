@@ -0,0 +1,9 @@
+package server;
+
+// 방이 대전 기록 이벤트를 넘기는 곳 (실서버는 MatchLog, 기록 재생은 메모리에 모음)
+interface MatchEventSink {
+
+    long newMatchId();
+
+    void append(MatchEvent event);
+}
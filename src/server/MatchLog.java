@@ -0,0 +1,159 @@
+package server;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 대전 기록 로그: 방 스레드는 이벤트를 큐에 넣기만 하고, 전용 스레드가 모아서 파일에 씀
+//   dir/seg-000001.log ...  이벤트를 이어 붙이는 세그먼트 (일정 크기가 넘으면 다음 파일)
+//   dir/matches.idx          게임마다 (게임 번호, 방, 플레이어, 시작 세그먼트/위치) 한 건
+// 큐가 가득 차면 기다리지 않고 버림 (게임 진행 지연 방지, 버린 수는 통계에 남김)
+public class MatchLog implements MatchEventSink {
+
+    private static final long SEGMENT_BYTES = 8L * 1024 * 1024;
+    private static final int QUEUE_SIZE = 65536;
+    static final String SEGMENT_PREFIX = "seg-";
+    static final String SEGMENT_SUFFIX = ".log";
+    static final String INDEX_FILE = "matches.idx";
+
+    private final File dir;
+    private final BlockingQueue<MatchEvent> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+    private final AtomicLong matchSeq = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // 기록 스레드에서만 사용
+    private int segmentNo;
+    private DataOutputStream segment;   // size() = 이 세그먼트 안의 위치
+    private DataOutputStream index;
+    private long written;
+
+    public MatchLog(File dir) throws IOException {
+        this.dir = dir;
+        dir.mkdirs();
+        // 이전 실행의 마지막 세그먼트는 끝이 잘렸을 수 있으니 항상 새 파일부터
+        this.segmentNo = lastSegmentNo(dir) + 1;
+        openSegment();
+        index = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(new File(dir, INDEX_FILE), true)));
+
+        writer = new Thread(this::writeLoop, "match-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public long newMatchId() {
+        return matchSeq.incrementAndGet();
+    }
+
+    // 방 스레드에서 호출 (막히지 않음)
+    @Override
+    public void append(MatchEvent event) {
+        if (!running || !queue.offer(event)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public String stats() {
+        return "기록 " + written + "건, 대기 " + queue.size() + "건, 버림 " + dropped.get() + "건, 세그먼트 " + segmentNo;
+    }
+
+    // 남은 이벤트를 모두 쓰고 종료
+    public void close() {
+        running = false;
+        try {
+            writer.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        List<MatchEvent> batch = new ArrayList<>(1024);
+        try {
+            while (running || !queue.isEmpty()) {
+                MatchEvent first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, 1023);
+
+                for (int i = 0; i < batch.size(); i++) {
+                    write(batch.get(i));
+                }
+                batch.clear();
+
+                // 더 쌓인 게 없을 때만 디스크로 (몰릴 때는 버퍼에 모아서 한 번에)
+                if (queue.isEmpty()) {
+                    segment.flush();
+                    index.flush();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            running = false;
+            System.out.println("[대전 기록] 쓰기 실패, 기록 중단: " + e.getMessage());
+        } finally {
+            try {
+                segment.close();
+                index.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void write(MatchEvent e) throws IOException {
+        if (segment.size() >= SEGMENT_BYTES) {
+            segment.close();
+            segmentNo++;
+            openSegment();
+        }
+        if (e.type == MatchEvent.GAME_START) {
+            writeIndex(e, segmentNo, segment.size());
+        }
+        e.write(segment);
+        written++;
+    }
+
+    // 게임 시작 이벤트 위치를 색인에 기록
+    private void writeIndex(MatchEvent start, int segNo, long offset) throws IOException {
+        String[] settings = start.text.split("\\|", -1);
+        String room = settings[0];
+        String players = settings.length > 5 ? settings[5] : "";
+        index.writeLong(start.matchId);
+        index.writeLong(start.time);
+        index.writeUTF(room);
+        index.writeUTF(players);
+        index.writeInt(segNo);
+        index.writeLong(offset);
+    }
+
+    private void openSegment() throws IOException {
+        segment = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(segmentFile(dir, segmentNo)), 64 * 1024));
+    }
+
+    static File segmentFile(File dir, int no) {
+        return new File(dir, String.format("%s%06d%s", SEGMENT_PREFIX, no, SEGMENT_SUFFIX));
+    }
+
+    static int lastSegmentNo(File dir) {
+        int max = 0;
+        String[] names = dir.list();
+        if (names == null) return 0;
+        for (String name : names) {
+            if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) continue;
+            try {
+                max = Math.max(max, Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+            } catch (NumberFormatException e) {
+                // 다른 파일
+            }
+        }
+        return max;
+    }
+}
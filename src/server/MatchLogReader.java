@@ -0,0 +1,121 @@
+package server;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+// 대전 기록 조회: 색인에서 방/플레이어로 게임을 찾고, 시작 위치부터 그 게임의 이벤트만 읽음
+// 사용법: java server.MatchLogReader <기록 폴더> [방 이름|-] [플레이어]
+//         java server.MatchLogReader <기록 폴더> --dump <게임 번호>
+public class MatchLogReader {
+
+    private final File dir;
+
+    public MatchLogReader(File dir) {
+        this.dir = dir;
+    }
+
+    // room / player 가 null 이면 조건 없음
+    public List<MatchRef> findMatches(String room, String player) throws IOException {
+        List<MatchRef> result = new ArrayList<>();
+        File indexFile = new File(dir, MatchLog.INDEX_FILE);
+        if (!indexFile.isFile()) return result;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            while (true) {
+                MatchRef ref = new MatchRef(in.readLong(), in.readLong(), in.readUTF(),
+                        Arrays.asList(in.readUTF().split(",")), in.readInt(), in.readLong());
+                if (room != null && !room.equals(ref.room)) continue;
+                if (player != null && !ref.players.contains(player)) continue;
+                result.add(ref);
+            }
+        } catch (EOFException e) {
+            // 끝 (마지막 항목이 쓰다 만 것이면 버림)
+        }
+        return result;
+    }
+
+    public MatchRef findMatch(long matchId) throws IOException {
+        for (MatchRef ref : findMatches(null, null)) {
+            if (ref.matchId == matchId) return ref;
+        }
+        return null;
+    }
+
+    // GAME_OVER 까지 (없으면 기록 끝까지) 이 게임의 이벤트
+    public List<MatchEvent> readMatch(MatchRef ref) throws IOException {
+        List<MatchEvent> events = new ArrayList<>();
+        int last = MatchLog.lastSegmentNo(dir);
+        long offset = ref.offset;
+
+        for (int seg = ref.segment; seg <= last; seg++) {
+            File f = MatchLog.segmentFile(dir, seg);
+            if (!f.isFile()) continue;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(f)))) {
+                in.skipNBytes(offset);
+                while (true) {
+                    MatchEvent e = MatchEvent.read(in);
+                    if (e.matchId != ref.matchId) continue;
+                    events.add(e);
+                    if (e.type == MatchEvent.GAME_OVER) return events;
+                }
+            } catch (EOFException | UTFDataFormatException e) {
+                // 이 세그먼트 끝 (잘린 마지막 레코드 포함)
+            }
+            offset = 0;
+        }
+        return events;
+    }
+
+    public static class MatchRef {
+        public final long matchId;
+        public final long startTime;
+        public final String room;
+        public final List<String> players;
+        final int segment;
+        final long offset;
+
+        MatchRef(long matchId, long startTime, String room, List<String> players, int segment, long offset) {
+            this.matchId = matchId;
+            this.startTime = startTime;
+            this.room = room;
+            this.players = players;
+            this.segment = segment;
+            this.offset = offset;
+        }
+
+        @Override
+        public String toString() {
+            return matchId + " [" + room + "] " + new Date(startTime) + " " + players;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("사용법: MatchLogReader <기록 폴더> [방 이름|-] [플레이어] | --dump <게임 번호>");
+            return;
+        }
+        MatchLogReader reader = new MatchLogReader(new File(args[0]));
+
+        if (args.length >= 3 && "--dump".equals(args[1])) {
+            MatchRef ref = reader.findMatch(Long.parseLong(args[2]));
+            if (ref == null) {
+                System.out.println("게임을 찾을 수 없습니다: " + args[2]);
+                return;
+            }
+            System.out.println(ref);
+            for (MatchEvent e : reader.readMatch(ref)) {
+                System.out.println("  " + e);
+            }
+            return;
+        }
+
+        String room = args.length >= 2 && !"-".equals(args[1]) ? args[1] : null;
+        String player = args.length >= 3 ? args[2] : null;
+        for (MatchRef ref : reader.findMatches(room, player)) {
+            System.out.println(ref);
+        }
+    }
+}
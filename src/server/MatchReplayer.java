@@ -0,0 +1,281 @@
+package server;
+
+import model.GamePacket;
+import server.LobbyServer.ClientHandler;
+import server.MatchLogReader.MatchRef;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 대전 기록 재생: 기록된 입력(클릭/힌트 요청/아이템 획득/시간 종료/퇴장)을 가상 시계로 RoomManager 에 다시 넣고
+// 나오는 이벤트(점수, 라운드 전환, 아이템 생성, 순위)가 기록과 같은지 확인
+// 라운드 전환(3초)과 아이템 생성 주기(만료 정리 포함), 방 주기 전송은 가상 시계로 돌고, 기록된 시드로 random 을 맞춤
+// 사용법: java server.MatchReplayer <기록 폴더>                  모든 게임 검증
+//         java server.MatchReplayer <기록 폴더> <게임 번호>      한 게임 재생 (다른 지점 출력)
+//         java server.MatchReplayer <기록 폴더> --bench [반복]   모든 게임을 반복 재생해 처리량 측정
+public class MatchReplayer {
+
+    private static final PrintStream NULL_OUT = new PrintStream(OutputStream.nullOutputStream());
+
+    private final GameLogic gameLogic;
+    private final LobbyServer lobby;
+
+    public MatchReplayer(GameLogic gameLogic) {
+        this.gameLogic = gameLogic;
+        this.lobby = LobbyServer.forReplay(gameLogic);
+    }
+
+    // recorded: MatchLogReader.readMatch 결과 (GAME_START 부터)
+    public Result replay(List<MatchEvent> recorded) throws IOException {
+        if (recorded.isEmpty() || recorded.get(0).type != MatchEvent.GAME_START) {
+            return new Result(0, recorded.size(), 0, "GAME_START 기록이 없습니다.", null, 0);
+        }
+        MatchEvent start = recorded.get(0);
+        String[] settings = start.text.split("\\|", -1);
+        if (settings.length < 6) {
+            return new Result(start.matchId, recorded.size(), 0, "게임 설정 형식 오류: " + start.text, null, 0);
+        }
+
+        VirtualClock clock = new VirtualClock(start.time);
+        List<MatchEvent> replayed = new ArrayList<>();
+        MatchEventSink sink = new MatchEventSink() {
+            @Override
+            public long newMatchId() {
+                return start.matchId;
+            }
+
+            @Override
+            public void append(MatchEvent event) {
+                // 대기실 입장/퇴장(게임 번호 0)은 비교 대상 아님
+                if (event.matchId == start.matchId) replayed.add(event);
+            }
+        };
+
+        RoomManager room = new RoomManager(settings[0], gameLogic, lobby, clock, sink);
+        room.setFixedGameType(settings[3]);
+
+        // 기록된 순서대로 넣어야 방의 플레이어 순서(점수 기록 순서)가 같음, 방장은 따로 지정
+        Map<String, ClientHandler> players = new LinkedHashMap<>();
+        for (String name : settings[5].split(",")) {
+            if (!name.isEmpty() && !players.containsKey(name)) players.put(name, lobby.new ClientHandler(name));
+        }
+        players.computeIfAbsent(start.player, name -> lobby.new ClientHandler(name));
+        room.setMaxPlayers(Math.max(RoomManager.DEFAULT_MAX_PLAYERS, players.size()));
+        for (ClientHandler h : players.values()) {
+            room.addPlayer(h);
+        }
+        room.replayHost(start.player);
+        for (ClientHandler h : players.values()) {
+            if (!h.getPlayerName().equals(start.player)) {
+                room.handlePacket(h, new GamePacket(GamePacket.Type.READY_STATUS, h.getPlayerName(), true));
+            }
+        }
+
+        room.replayNextMatch(start.matchId, Long.parseLong(settings[4]));
+        room.handlePacket(players.get(start.player),
+                new GamePacket(GamePacket.Type.START_GAME_REQUEST, start.player, settings[1], settings[2]));
+
+        int checked = 0;
+        long maxDrift = 0;
+        for (int i = 0; i < recorded.size(); i++) {
+            MatchEvent e = recorded.get(i);
+
+            // 앞선 입력/예약 작업의 결과로 이미 나온 이벤트면 비교만
+            if (i >= replayed.size()) {
+                if (isInput(e)) {
+                    // 기록상 이 입력 뒤에 일어난 예약 작업은 아직 실행하지 않음
+                    clock.advanceTo(Math.min(e.time, clock.nextDueTime() - 1));
+                    ClientHandler h = players.get(e.player);
+                    if (h == null) {
+                        return new Result(start.matchId, recorded.size(), replayed.size(),
+                                "#" + i + " 알 수 없는 플레이어: " + e, null, maxDrift);
+                    }
+                    apply(room, h, e);
+                } else if (e.type == MatchEvent.ROUND_START || e.type == MatchEvent.ITEM_SPAWN
+                        || e.type == MatchEvent.ITEM_EXPIRE) {
+                    if (!clock.runNext()) {
+                        return new Result(start.matchId, recorded.size(), replayed.size(),
+                                "#" + i + " 예약된 작업이 없음, 기록: " + e, null, maxDrift);
+                    }
+                    maxDrift = Math.max(maxDrift, Math.abs(e.time - clock.now()));
+                }
+            }
+
+            for (; checked < replayed.size(); checked++) {
+                if (checked >= recorded.size() || !sameEvent(recorded.get(checked), replayed.get(checked))) {
+                    return new Result(start.matchId, recorded.size(), replayed.size(),
+                            describe(checked, recorded, replayed), null, maxDrift);
+                }
+            }
+            if (i >= replayed.size()) {
+                return new Result(start.matchId, recorded.size(), replayed.size(),
+                        describe(i, recorded, replayed), null, maxDrift);
+            }
+        }
+
+        MatchEvent last = replayed.get(replayed.size() - 1);
+        String ranking = last.type == MatchEvent.GAME_OVER ? last.text : null;
+        return new Result(start.matchId, recorded.size(), replayed.size(), null, ranking, maxDrift);
+    }
+
+    // 클라이언트가 보낸 것 (아이템으로 얻은 힌트는 ITEM_PICKUP 의 결과)
+    private static boolean isInput(MatchEvent e) {
+        switch (e.type) {
+            case MatchEvent.CLICK:
+            case MatchEvent.ITEM_PICKUP:
+            case MatchEvent.TIMER_END:
+            case MatchEvent.LEAVE:
+                return true;
+            case MatchEvent.HINT:
+                return !"ITEM".equals(e.text);
+            default:
+                return false;
+        }
+    }
+
+    private static void apply(RoomManager room, ClientHandler h, MatchEvent e) throws IOException {
+        switch (e.type) {
+            case MatchEvent.CLICK:
+                GamePacket click = new GamePacket(GamePacket.Type.CLICK, e.player, e.value);
+                click.setX(e.x);
+                click.setY(e.y);
+                room.handlePacket(h, click);
+                break;
+            case MatchEvent.HINT:
+                room.handlePacket(h, new GamePacket(GamePacket.Type.HINT_REQUEST, e.player, "HINT"));
+                break;
+            case MatchEvent.ITEM_PICKUP:
+                GamePacket pickup = new GamePacket(GamePacket.Type.ITEM_PICKUP, e.player, e.value, null);
+                pickup.setX(e.x);
+                pickup.setY(e.y);
+                room.handlePacket(h, pickup);
+                break;
+            case MatchEvent.TIMER_END:
+                room.handlePacket(h, new GamePacket(GamePacket.Type.TIMER_END, "TIME_OVER"));
+                break;
+            case MatchEvent.LEAVE:
+                room.removePlayer(h);
+                break;
+        }
+    }
+
+    // 시각과 게임 번호는 제외하고 비교
+    private static boolean sameEvent(MatchEvent a, MatchEvent b) {
+        return a.type == b.type && a.round == b.round && a.value == b.value
+                && Double.compare(a.x, b.x) == 0 && Double.compare(a.y, b.y) == 0
+                && a.player.equals(b.player) && a.text.equals(b.text);
+    }
+
+    private static String describe(int i, List<MatchEvent> recorded, List<MatchEvent> replayed) {
+        return "#" + i + " 기록: " + (i < recorded.size() ? recorded.get(i) : "(없음)")
+                + " / 재생: " + (i < replayed.size() ? replayed.get(i) : "(없음)");
+    }
+
+    public static class Result {
+        public final long matchId;
+        public final int recordedEvents;
+        public final int replayedEvents;
+        public final String divergence;   // null 이면 기록과 일치
+        public final String ranking;      // 재생한 GAME_OVER 순위 (끝까지 안 간 게임은 null)
+        public final long maxTimerDrift;  // 라운드 전환/아이템 생성의 기록 시각과 예약 시각 차이 최대값 (ms)
+
+        Result(long matchId, int recordedEvents, int replayedEvents, String divergence, String ranking, long maxTimerDrift) {
+            this.matchId = matchId;
+            this.recordedEvents = recordedEvents;
+            this.replayedEvents = replayedEvents;
+            this.divergence = divergence;
+            this.ranking = ranking;
+            this.maxTimerDrift = maxTimerDrift;
+        }
+
+        public boolean matches() {
+            return divergence == null;
+        }
+
+        @Override
+        public String toString() {
+            return matchId + (matches() ? " 일치" : " 불일치 " + divergence)
+                    + " (이벤트 " + recordedEvents + "건, 타이머 오차 최대 " + maxTimerDrift + "ms)";
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("사용법: MatchReplayer <기록 폴더> [게임 번호 | --bench [반복]]");
+            return;
+        }
+        MatchLogReader reader = new MatchLogReader(new File(args[0]));
+        MatchReplayer replayer = new MatchReplayer(new GameLogic());
+        PrintStream console = System.out;
+
+        if (args.length >= 2 && !"--bench".equals(args[1])) {
+            MatchRef ref = reader.findMatch(Long.parseLong(args[1]));
+            if (ref == null) {
+                console.println("게임을 찾을 수 없습니다: " + args[1]);
+                return;
+            }
+            Result result;
+            System.setOut(NULL_OUT);
+            try {
+                result = replayer.replay(reader.readMatch(ref));
+            } finally {
+                System.setOut(console);
+            }
+            console.println(ref);
+            console.println(result);
+            if (result.ranking != null) console.println(result.ranking);
+            return;
+        }
+
+        // 파일 읽기는 측정에서 빼도록 먼저 모두 메모리로
+        List<List<MatchEvent>> matches = new ArrayList<>();
+        long events = 0;
+        long recordedMs = 0;
+        for (MatchRef ref : reader.findMatches(null, null)) {
+            List<MatchEvent> match = reader.readMatch(ref);
+            if (match.isEmpty()) continue;
+            matches.add(match);
+            events += match.size();
+            recordedMs += match.get(match.size() - 1).time - match.get(0).time;
+        }
+
+        boolean bench = args.length >= 2;
+        int repeat = bench && args.length >= 3 ? Integer.parseInt(args[2]) : 1;
+        int mismatches = 0;
+        List<Result> failed = new ArrayList<>();
+
+        // 방/로직 로그 출력이 처리량을 가리지 않도록 재생 중에는 끔
+        long begin = System.nanoTime();
+        System.setOut(NULL_OUT);
+        try {
+            for (int r = 0; r < repeat; r++) {
+                for (List<MatchEvent> match : matches) {
+                    Result result = replayer.replay(match);
+                    if (!result.matches()) {
+                        mismatches++;
+                        if (r == 0) failed.add(result);
+                    }
+                }
+            }
+        } finally {
+            System.setOut(console);
+        }
+        double sec = Math.max(1, System.nanoTime() - begin) / 1e9;
+
+        for (Result result : failed) {
+            console.println(result);
+        }
+        console.printf("게임 %d개 x %d회, 불일치 %d건%n", matches.size(), repeat, mismatches);
+        if (bench) {
+            long totalMatches = (long) matches.size() * repeat;
+            console.printf("%.2f초, 게임 %.0f개/초, 이벤트 %.0f건/초, 실제 시간 대비 %.0f배%n",
+                    sec, totalMatches / sec, events * repeat / sec, recordedMs * repeat / 1000.0 / sec);
+        }
+    }
+}
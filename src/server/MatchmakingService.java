@@ -0,0 +1,240 @@
+package server;
+
+import server.LobbyServer.ClientHandler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 빠른 매칭 대기열 (게임 타입/난이도/모드별), 주기적으로 대기자를 방으로 묶음
+public class MatchmakingService {
+
+    private static final long TICK_MS = 1000;
+    private static final long FILL_WAIT_MS = 5000;   // 인원이 덜 찼어도 이 시간 이상 기다리면 방 생성
+    private static final long REPORT_MS = 30000;
+
+    private final RoomDirectory roomDirectory;
+    private final String nodeTag;   // 매칭 방 번호에 붙는 노드 구분자 (게이트웨이 라우팅용)
+
+    // 큐 키 -> 대기열 (등록 순서 정렬, 추가/삭제/꺼내기 O(log n), 인원 O(1))
+    private final Map<String, TicketQueue> queues = new ConcurrentHashMap<>();
+    private final Map<ClientHandler, Ticket> ticketsByHandler = new ConcurrentHashMap<>();
+
+    // 큐 키 -> 매칭으로 만들어졌고 아직 대기 중인 방
+    private final Map<String, List<RoomManager>> openRooms = new ConcurrentHashMap<>();
+
+    private final Map<String, LatencyStats> waitStats = new ConcurrentHashMap<>();
+
+    private final AtomicLong ticketSeq = new AtomicLong();
+    private final AtomicInteger roomSeq = new AtomicInteger();
+
+    private Timer tickTimer;
+    private long lastReport = System.currentTimeMillis();
+
+    public MatchmakingService(RoomDirectory roomDirectory, String nodeTag) {
+        this.roomDirectory = roomDirectory;
+        this.nodeTag = nodeTag;
+    }
+
+    public void start() {
+        tickTimer = new Timer("matchmaking", true);
+        tickTimer.scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                try {
+                    tick();
+                } catch (Exception e) {
+                    System.out.println("[매칭] 처리 오류: " + e.getMessage());
+                    e.printStackTrace();
+                }
+            }
+        }, TICK_MS, TICK_MS);
+    }
+
+    public static String queueKey(String gameType, String difficulty, String gameMode) {
+        return gameType + "|" + difficulty + "|" + gameMode;
+    }
+
+    public int enqueue(ClientHandler handler, String gameType, String difficulty, String gameMode) {
+        Ticket ticket = new Ticket(handler, gameType, difficulty, gameMode,
+                System.currentTimeMillis(), ticketSeq.incrementAndGet());
+        ticketsByHandler.put(handler, ticket);
+
+        TicketQueue queue = queues.computeIfAbsent(ticket.queueKey, k -> new TicketQueue());
+        queue.add(ticket);
+        return queue.size();
+    }
+
+    // 연결이 끊긴 대기자 제거
+    public void cancel(ClientHandler handler) {
+        Ticket ticket = ticketsByHandler.remove(handler);
+        if (ticket == null) return;
+        TicketQueue queue = queues.get(ticket.queueKey);
+        if (queue != null) queue.remove(ticket);
+    }
+
+    public boolean isQueued(ClientHandler handler) {
+        return ticketsByHandler.containsKey(handler);
+    }
+
+    void tick() {
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<String, TicketQueue> entry : queues.entrySet()) {
+            String key = entry.getKey();
+            TicketQueue queue = entry.getValue();
+            if (queue.isEmpty()) continue;
+
+            // 1. 이미 만들어진 매칭 방의 빈자리부터 채움
+            fillOpenRooms(key, queue, now);
+
+            // 2. 남은 대기자로 새 방 생성
+            while (!queue.isEmpty()) {
+                Ticket oldest = queue.first();
+                if (oldest == null) break;
+                int waiting = queue.size();
+                boolean full = waiting >= RoomManager.DEFAULT_MAX_PLAYERS;
+                boolean waitedEnough = waiting >= 2 && now - oldest.enqueuedAt >= FILL_WAIT_MS;
+                if (!full && !waitedEnough) break;
+
+                String roomNumber = "M" + nodeTag + "-" + roomSeq.incrementAndGet();
+                String roomKey = oldest.gameType + "_" + roomNumber;
+                RoomManager room = roomDirectory.getOrCreate(roomKey, oldest.gameType);
+                if (room == null) break;   // 서버 점검(드레인) 중
+                room.applyMatchSettings(oldest.difficulty, oldest.gameMode);
+
+                int placed = placeInto(room, roomNumber, queue, RoomManager.DEFAULT_MAX_PLAYERS, now);
+                if (placed == 0) {
+                    roomDirectory.removeIfEmpty(room);
+                    break;
+                }
+                openRooms.computeIfAbsent(key, k -> new ArrayList<>()).add(room);
+                System.out.println("[매칭] " + key + " -> " + roomKey + " (" + placed + "명)");
+            }
+        }
+
+        if (now - lastReport >= REPORT_MS) {
+            lastReport = now;
+            report();
+        }
+    }
+
+    private void fillOpenRooms(String key, TicketQueue queue, long now) {
+        List<RoomManager> rooms = openRooms.get(key);
+        if (rooms == null) return;
+
+        Iterator<RoomManager> it = rooms.iterator();
+        while (it.hasNext() && !queue.isEmpty()) {
+            RoomManager room = it.next();
+            if (!room.isOpenForMatch()) {
+                it.remove();
+                continue;
+            }
+            String roomNumber = room.toRoomInfo().getRoomNumber();
+            placeInto(room, roomNumber, queue, room.toRoomInfo().getFreeSlots(), now);
+        }
+    }
+
+    // 대기열 앞에서부터 최대 count 명을 방에 넣음, 실제로 들어간 인원 반환
+    // 들어가지 못하면 (그 사이 방이 차거나 게임이 시작됨) 연결이 살아 있는 한 원래 순서로 대기열에 되돌리고 이 방은 그만 채움
+    private int placeInto(RoomManager room, String roomNumber, TicketQueue queue, int count, long now) {
+        int placed = 0;
+        while (placed < count) {
+            Ticket ticket = queue.pollFirst();
+            if (ticket == null) break;
+
+            if (ticket.handler.joinMatchedRoom(room, roomNumber)) {
+                ticketsByHandler.remove(ticket.handler, ticket);
+                placed++;
+                waitStats.computeIfAbsent(ticket.queueKey, k -> new LatencyStats(1024))
+                         .record(now - ticket.enqueuedAt);
+                continue;
+            }
+
+            // 대기 중 연결이 끊겼으면 cancel 에서 이미 빠졌거나 곧 빠짐
+            if (ticket.handler.isConnected() && ticketsByHandler.get(ticket.handler) == ticket) {
+                queue.add(ticket);
+            } else {
+                ticketsByHandler.remove(ticket.handler, ticket);
+            }
+            break;
+        }
+        return placed;
+    }
+
+    private void report() {
+        for (Map.Entry<String, LatencyStats> entry : waitStats.entrySet()) {
+            TicketQueue queue = queues.get(entry.getKey());
+            int waiting = (queue != null) ? queue.size() : 0;
+            System.out.println("[매칭] 대기시간 " + entry.getKey() + " 대기 " + waiting + "명, "
+                    + entry.getValue().summary("ms"));
+        }
+    }
+
+    // ConcurrentSkipListSet.size() 는 전체를 세므로 인원은 따로 셈
+    private static class TicketQueue {
+        private final ConcurrentSkipListSet<Ticket> tickets = new ConcurrentSkipListSet<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        void add(Ticket ticket) {
+            if (tickets.add(ticket)) size.incrementAndGet();
+        }
+
+        void remove(Ticket ticket) {
+            if (tickets.remove(ticket)) size.decrementAndGet();
+        }
+
+        Ticket pollFirst() {
+            Ticket ticket = tickets.pollFirst();
+            if (ticket != null) size.decrementAndGet();
+            return ticket;
+        }
+
+        Ticket first() {
+            Iterator<Ticket> it = tickets.iterator();
+            return it.hasNext() ? it.next() : null;
+        }
+
+        boolean isEmpty() {
+            return tickets.isEmpty();
+        }
+
+        int size() {
+            return size.get();
+        }
+    }
+
+    private static class Ticket implements Comparable<Ticket> {
+        final ClientHandler handler;
+        final String gameType;
+        final String difficulty;
+        final String gameMode;
+        final String queueKey;
+        final long enqueuedAt;
+        final long seq;
+
+        Ticket(ClientHandler handler, String gameType, String difficulty, String gameMode,
+               long enqueuedAt, long seq) {
+            this.handler = handler;
+            this.gameType = gameType;
+            this.difficulty = difficulty;
+            this.gameMode = gameMode;
+            this.queueKey = queueKey(gameType, difficulty, gameMode);
+            this.enqueuedAt = enqueuedAt;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(Ticket o) {
+            if (enqueuedAt != o.enqueuedAt) return Long.compare(enqueuedAt, o.enqueuedAt);
+            return Long.compare(seq, o.seq);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package server;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 비밀번호 해시 (솔트 + PBKDF2) 를 전용 작업 스레드에서 실행
+// 스레드 수와 대기열 크기를 제한해서 로그인이 몰려도 게임 패킷 처리 스레드가 CPU 를 뺏기지 않음
+// 대기열이 차면 바로 거절 (RejectedExecutionException)
+public class PasswordHasher {
+
+    private static final String PREFIX = "pbkdf2";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+    private static final long WAIT_TIMEOUT_MS = 10000;
+
+    private final int iterations;
+    private final ThreadPoolExecutor pool;
+    private final SecureRandom random = new SecureRandom();
+
+    // 통계
+    private final AtomicLong hashCount = new AtomicLong();
+    private final AtomicLong hashTotalNs = new AtomicLong();
+    private final AtomicLong hashMaxNs = new AtomicLong();
+    private final AtomicLong waitTotalNs = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicInteger peakQueue = new AtomicInteger();
+
+    public PasswordHasher(int iterations, int threads, int queueSize) {
+        this.iterations = iterations;
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread t = new Thread(r, "password-hasher-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.NORM_PRIORITY - 1);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 새 해시: pbkdf2$<반복 횟수>$<솔트>$<해시>
+    public String hash(String password) {
+        return run(() -> {
+            byte[] salt = new byte[SALT_BYTES];
+            random.nextBytes(salt);
+            byte[] dk = pbkdf2(password, salt, iterations);
+            Base64.Encoder b64 = Base64.getEncoder();
+            return PREFIX + "$" + iterations + "$" + b64.encodeToString(salt) + "$" + b64.encodeToString(dk);
+        });
+    }
+
+    // 저장된 해시와 비교 (이전 형식인 솔트 없는 SHA-256 도 확인)
+    public boolean verify(String password, String stored) {
+        if (stored == null || stored.isEmpty()) return false;
+        return run(() -> {
+            if (!stored.startsWith(PREFIX + "$")) {
+                byte[] legacy = sha256Hex(password).getBytes(StandardCharsets.US_ASCII);
+                return MessageDigest.isEqual(legacy, stored.getBytes(StandardCharsets.US_ASCII));
+            }
+            String[] parts = stored.split("\\$");
+            if (parts.length != 4) return false;
+            Base64.Decoder b64 = Base64.getDecoder();
+            byte[] salt = b64.decode(parts[2]);
+            byte[] expected = b64.decode(parts[3]);
+            return MessageDigest.isEqual(expected, pbkdf2(password, salt, Integer.parseInt(parts[1])));
+        });
+    }
+
+    // 이전 형식이거나 반복 횟수가 현재 설정보다 적으면 로그인 성공 시 다시 해시
+    public boolean needsRehash(String stored) {
+        if (stored == null || !stored.startsWith(PREFIX + "$")) return true;
+        String[] parts = stored.split("\\$");
+        try {
+            return parts.length != 4 || Integer.parseInt(parts[1]) < iterations;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    public String stats() {
+        long n = hashCount.get();
+        return String.format("해시 %d건, 평균 %.1fms, 최대 %.1fms, 평균 대기 %.1fms, 대기열 %d (최대 %d), 거절 %d건",
+                n, n == 0 ? 0 : hashTotalNs.get() / 1e6 / n, hashMaxNs.get() / 1e6,
+                n == 0 ? 0 : waitTotalNs.get() / 1e6 / n,
+                pool.getQueue().size(), peakQueue.get(), rejected.get());
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // 작업 스레드에서 실행하고 결과를 기다림
+    private <T> T run(Callable<T> task) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = pool.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    record(start - submitted, System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw e;
+        }
+        peakQueue.accumulateAndGet(pool.getQueue().size(), Math::max);
+
+        try {
+            return future.get(WAIT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("비밀번호 확인 중단", e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new IllegalStateException("비밀번호 확인 시간 초과", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 확인 실패", e.getCause());
+        }
+    }
+
+    private void record(long waitNs, long hashNs) {
+        hashCount.incrementAndGet();
+        hashTotalNs.addAndGet(hashNs);
+        hashMaxNs.accumulateAndGet(hashNs, Math::max);
+        waitTotalNs.addAndGet(waitNs);
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations) throws Exception {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static String sha256Hex(String password) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(password.getBytes(StandardCharsets.UTF_8));
+        StringBuilder sb = new StringBuilder();
+        for (byte b : hash) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package server;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 방 진행에 쓰는 시각과 예약 작업 (라운드 전환 대기, 아이템 생성 주기, 방 주기 전송, 재접속 대기)
+// 실서버는 SYSTEM(공유 예약 스레드), 기록 재생은 VirtualClock
+interface RoomClock {
+
+    long now();
+
+    Cancellable schedule(Runnable task, long delayMs);
+
+    Cancellable scheduleAtFixedRate(Runnable task, long delayMs, long periodMs);
+
+    // 게임 진행(대전 기록)에 영향 없는 주기 작업 (커서/점수판 묶음 전송)
+    // 실서버에서는 scheduleAtFixedRate 와 같고, 기록 재생은 기록된 이벤트 순서를 맞출 때 이 작업을 세지 않음
+    default Cancellable scheduleBackground(Runnable task, long delayMs, long periodMs) {
+        return scheduleAtFixedRate(task, delayMs, periodMs);
+    }
+
+    interface Cancellable {
+        void cancel();
+    }
+
+    RoomClock SYSTEM = new RoomClock() {
+        // 모든 방이 함께 쓰는 예약 스레드 (예약마다 Timer 스레드를 새로 만들지 않음)
+        private final AtomicInteger threadSeq = new AtomicInteger();
+        private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+                    Thread t = new Thread(r, "room-clock-" + threadSeq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        @Override
+        public long now() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public Cancellable schedule(Runnable task, long delayMs) {
+            ScheduledFuture<?> f = scheduler.schedule(guarded(task), delayMs, TimeUnit.MILLISECONDS);
+            return () -> f.cancel(false);
+        }
+
+        @Override
+        public Cancellable scheduleAtFixedRate(Runnable task, long delayMs, long periodMs) {
+            ScheduledFuture<?> f = scheduler.scheduleAtFixedRate(guarded(task), delayMs, periodMs, TimeUnit.MILLISECONDS);
+            return () -> f.cancel(false);
+        }
+
+        // 예외가 나도 로그를 남기고 반복 예약은 계속 (실행기는 예외를 조용히 삼키고 반복을 멈추므로)
+        private Runnable guarded(Runnable task) {
+            return () -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    System.out.println("[RoomClock] 예약 작업 오류: " + e);
+                    e.printStackTrace();
+                }
+            };
+        }
+    };
+}
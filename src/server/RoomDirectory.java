@@ -0,0 +1,216 @@
+package server;
+
+import model.GamePacket;
+import model.RoomInfo;
+import server.LobbyServer.ClientHandler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 전체 방 목록을 관리하는 디렉터리 (방 키 조회, 페이지 목록, 빠른 매칭, 변경 알림)
+public class RoomDirectory {
+
+    public static final int PAGE_SIZE = 10;
+
+    private final GameLogic gameLogic;
+    private final LobbyServer lobbyServer;
+
+    // 방 키 -> 방 (O(1) 조회)
+    private final Map<String, RoomManager> rooms = new ConcurrentHashMap<>();
+
+    // 방 키 -> 마지막으로 색인된 요약 정보
+    private final Map<String, RoomInfo> indexed = new ConcurrentHashMap<>();
+
+    // 게임 타입 -> (방 키 정렬) 요약 정보, 페이지 목록용
+    private final Map<String, ConcurrentSkipListMap<String, RoomInfo>> byType = new ConcurrentHashMap<>();
+
+    // "타입|상태|빈자리" -> 방 키 집합, 빠른 매칭용
+    private final Map<String, ConcurrentSkipListSet<String>> buckets = new ConcurrentHashMap<>();
+
+    // 게임 타입 -> 방 목록 변경을 구독 중인 클라이언트
+    private final Map<String, Set<ClientHandler>> subscribers = new ConcurrentHashMap<>();
+
+    // 방 키 -> 아직 보내지 않은 최신 변경 (같은 방의 변경이 쌓이면 마지막 것만 보냄)
+    private final Map<String, RoomInfo> pendingPublish = new ConcurrentHashMap<>();
+
+    // 구독자 전송은 이 스레드에서만 (방 잠금을 쥔 채 느린 브라우저를 기다리지 않도록)
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "room-directory");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public RoomDirectory(GameLogic gameLogic, LobbyServer lobbyServer) {
+        this.gameLogic = gameLogic;
+        this.lobbyServer = lobbyServer;
+    }
+
+    // 방이 없으면 새로 만들어 등록 (드레인 중에는 새 방을 만들지 않고 null)
+    public RoomManager getOrCreate(String roomKey, String gameType) {
+        RoomManager existing = rooms.get(roomKey);
+        if (existing != null) return existing;
+        if (lobbyServer.isDraining()) return null;
+
+        RoomManager room = rooms.computeIfAbsent(roomKey, k -> {
+            RoomManager created = new RoomManager(k, gameLogic, lobbyServer);
+            created.setFixedGameType(gameType);
+            return created;
+        });
+        update(room);
+        return room;
+    }
+
+    // 스냅샷에서 복원한 방 등록
+    public void restore(RoomManager room) {
+        rooms.put(room.roomName, room);
+        update(room);
+    }
+
+    public List<RoomManager> all() {
+        return new ArrayList<>(rooms.values());
+    }
+
+    public RoomManager get(String roomKey) {
+        return rooms.get(roomKey);
+    }
+
+    public int size() {
+        return rooms.size();
+    }
+
+    // 방 상태(인원/진행 상태)가 바뀔 때 RoomManager 가 호출
+    // 방 잠금 안에서 요약을 만들고 색인은 방 키 단위 compute 로 바꿈 (오래된 요약이 새 요약을 덮지 않도록)
+    public void update(RoomManager room) {
+        if (rooms.get(room.roomName) != room) return;
+
+        synchronized (room) {
+            RoomInfo info = room.toRoomInfo();
+            indexed.compute(room.roomName, (key, previous) -> {
+                // 그 사이 removeIfEmpty 로 빠진 방은 다시 넣지 않음
+                if (rooms.get(key) != room) return previous;
+
+                if (previous != null) {
+                    if (bucketKey(previous).equals(bucketKey(info))
+                            && previous.getPlayerCount() == info.getPlayerCount()
+                            && previous.getMaxPlayers() == info.getMaxPlayers()) {
+                        return info;
+                    }
+                    removeFromBucket(previous);
+                }
+
+                byType.computeIfAbsent(info.getGameType(), t -> new ConcurrentSkipListMap<>())
+                      .put(key, info);
+                buckets.computeIfAbsent(bucketKey(info), b -> new ConcurrentSkipListSet<>())
+                       .add(key);
+
+                publish(info);
+                return info;
+            });
+        }
+    }
+
+    // 방이 비었을 때만 제거 (제거 직전 다른 플레이어가 들어온 경우 유지)
+    public boolean removeIfEmpty(RoomManager room) {
+        boolean[] removed = new boolean[1];
+        rooms.computeIfPresent(room.roomName, (k, r) -> {
+            if (r == room && r.isEmpty()) {
+                removed[0] = true;
+                return null;
+            }
+            return r;
+        });
+
+        if (!removed[0]) return false;
+
+        indexed.computeIfPresent(room.roomName, (key, previous) -> {
+            removeFromBucket(previous);
+            ConcurrentSkipListMap<String, RoomInfo> typeIndex = byType.get(previous.getGameType());
+            if (typeIndex != null) typeIndex.remove(key);
+
+            publish(new RoomInfo(previous.getRoomKey(), previous.getGameType(),
+                    previous.getRoomNumber(), "CLOSED", 0, previous.getMaxPlayers()));
+            return null;
+        });
+        return true;
+    }
+
+    // afterKey 다음부터 PAGE_SIZE 개 (afterKey 가 null 이면 처음부터)
+    public List<RoomInfo> list(String gameType, String afterKey) {
+        List<RoomInfo> page = new ArrayList<>();
+        ConcurrentSkipListMap<String, RoomInfo> typeIndex = byType.get(gameType);
+        if (typeIndex == null) return page;
+
+        Map<String, RoomInfo> view = (afterKey == null || afterKey.isEmpty())
+                ? typeIndex
+                : typeIndex.tailMap(afterKey, false);
+
+        Iterator<RoomInfo> it = view.values().iterator();
+        while (it.hasNext() && page.size() < PAGE_SIZE) {
+            page.add(it.next());
+        }
+        return page;
+    }
+
+    // 대기 중이면서 빈자리가 가장 적은 방 (가득 차 가는 방부터 채움)
+    public RoomManager findQuickMatch(String gameType) {
+        for (int free = 1; free <= RoomManager.MAX_ROOM_CAPACITY; free++) {
+            ConcurrentSkipListSet<String> bucket = buckets.get(gameType + "|LOBBY|" + free);
+            if (bucket == null) continue;
+
+            for (String key : bucket) {
+                RoomManager room = rooms.get(key);
+                if (room != null) return room;
+            }
+        }
+        return null;
+    }
+
+    public void subscribe(String gameType, ClientHandler handler) {
+        subscribers.computeIfAbsent(gameType, t -> ConcurrentHashMap.newKeySet()).add(handler);
+    }
+
+    public void unsubscribe(ClientHandler handler) {
+        for (Set<ClientHandler> set : subscribers.values()) {
+            set.remove(handler);
+        }
+    }
+
+    // 색인을 바꾸는 compute 안에서 불림: 보낼 것만 남기고 전송은 publisher 스레드로
+    private void publish(RoomInfo info) {
+        Set<ClientHandler> set = subscribers.get(info.getGameType());
+        if (set == null || set.isEmpty()) return;
+
+        if (pendingPublish.put(info.getRoomKey(), info) == null) {
+            publisher.execute(() -> flush(info.getRoomKey()));
+        }
+    }
+
+    private void flush(String roomKey) {
+        RoomInfo info = pendingPublish.remove(roomKey);
+        if (info == null) return;
+        Set<ClientHandler> set = subscribers.get(info.getGameType());
+        if (set == null) return;
+
+        GamePacket packet = new GamePacket(GamePacket.Type.ROOM_UPDATE, info);
+        for (ClientHandler h : set) {
+            h.sendPacket(packet);
+        }
+    }
+
+    private void removeFromBucket(RoomInfo info) {
+        ConcurrentSkipListSet<String> bucket = buckets.get(bucketKey(info));
+        if (bucket != null) bucket.remove(info.getRoomKey());
+    }
+
+    private static String bucketKey(RoomInfo info) {
+        return info.getGameType() + "|" + info.getState() + "|" + info.getFreeSlots();
+    }
+}
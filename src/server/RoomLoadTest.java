@@ -0,0 +1,305 @@
+package server;
+
+import model.GamePacket;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 큰 방 부하 시험: 실제 소켓으로 한 방에 N명을 넣고 게임을 시작한 뒤
+// 모두가 초당 30번 커서를 움직이고 가끔 클릭하면서, 한 사람이 받는 패킷/바이트와 클릭 -> 결과 지연을 잼
+// 사용법: java server.RoomLoadTest [인원=50] [측정 초=20] [서버=127.0.0.1] [포트=9999] [방 번호=LOAD] [게임 종류=NORMAL|FLASH]
+public class RoomLoadTest {
+
+    private static final long MOVE_INTERVAL_MS = 33;
+    private static final long CLICK_INTERVAL_MS = 2000;
+    private static final long WARMUP_MS = 2000;
+
+    public static void main(String[] args) throws Exception {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        String host = args.length > 2 ? args[2] : "127.0.0.1";
+        int port = args.length > 3 ? Integer.parseInt(args[3]) : 9999;
+        String roomNumber = args.length > 4 ? args[4] : "LOAD";
+        String gameType = args.length > 5 ? args[5] : "NORMAL";
+
+        List<Bot> bots = new ArrayList<>();
+        Bot hostBot = new Bot(roomNumber + "-0", host, port, roomNumber, gameType);
+        bots.add(hostBot);
+
+        // 방장이 먼저 최대 인원을 늘려야 나머지가 들어올 수 있음
+        GamePacket settings = new GamePacket(GamePacket.Type.SETTINGS_UPDATE, hostBot.name, "쉬움", "협동");
+        settings.setMaxPlayers(players);
+        hostBot.send(settings);
+        if (!hostBot.awaitMaxPlayers(players, 5000)) {
+            System.out.println("최대 인원을 " + players + "명으로 바꾸지 못했습니다. (서버 최대 " + RoomManager.MAX_ROOM_CAPACITY + "명)");
+            close(bots);
+            return;
+        }
+
+        for (int i = 1; i < players; i++) {
+            bots.add(new Bot(roomNumber + "-" + i, host, port, roomNumber, gameType));
+        }
+        for (Bot b : bots) {
+            if (b != hostBot) b.send(new GamePacket(GamePacket.Type.READY_STATUS, b.name, true));
+        }
+        // 모두 들어와 준비될 때까지 (방장은 준비 표시 없음)
+        long readyDeadline = System.currentTimeMillis() + 20000;
+        while (hostBot.readyPlayers < players - 1 && System.currentTimeMillis() < readyDeadline) Thread.sleep(20);
+        hostBot.send(new GamePacket(GamePacket.Type.START_GAME_REQUEST, hostBot.name, "쉬움", "협동"));
+
+        long deadline = System.currentTimeMillis() + 20000;
+        for (Bot b : bots) {
+            while (!b.started && System.currentTimeMillis() < deadline) Thread.sleep(20);
+            if (!b.started) {
+                System.out.println(b.name + " 게임 시작을 받지 못했습니다.");
+                close(bots);
+                return;
+            }
+        }
+        System.out.println("[부하] " + gameType + " " + players + "명 입장, 게임 시작");
+
+        ScheduledExecutorService senders = Executors.newScheduledThreadPool(4);
+        for (Bot b : bots) {
+            senders.scheduleAtFixedRate(b::move, b.random.nextInt((int) MOVE_INTERVAL_MS), MOVE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            senders.scheduleAtFixedRate(b::click, b.random.nextInt((int) CLICK_INTERVAL_MS), CLICK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+
+        Thread.sleep(WARMUP_MS);
+        for (Bot b : bots) b.resetStats();
+        long begin = System.nanoTime();
+        Thread.sleep(seconds * 1000L);
+        double sec = (System.nanoTime() - begin) / 1e9;
+        senders.shutdownNow();
+
+        long packets = 0, bytes = 0, sent = 0, cursors = 0;
+        Map<String, Long> types = new TreeMap<>();
+        List<Long> latencies = new ArrayList<>();
+        int errors = 0;
+        for (Bot b : bots) {
+            packets += b.packets.get();
+            bytes += b.counter.count.get();
+            sent += b.sent.get();
+            cursors += b.cursorEntries.get();
+            b.types.forEach((k, v) -> types.merge(k, v.get(), Long::sum));
+            synchronized (b.latencies) {
+                latencies.addAll(b.latencies);
+            }
+            if (b.error != null) errors++;
+        }
+        Collections.sort(latencies);
+
+        System.out.printf("[부하] %d명, %.1f초, 끊긴 연결 %d%n", players, sec, errors);
+        System.out.printf("  1인당 보냄 %.0f개/초, 받음 %.0f개/초, %.1fKB/초%n",
+                sent / sec / players, packets / sec / players, bytes / sec / players / 1024);
+        for (Map.Entry<String, Long> e : types.entrySet()) {
+            System.out.printf("    %-16s %.1f개/초%n", e.getKey(), e.getValue() / sec / players);
+        }
+        long snapshots = types.getOrDefault(GamePacket.Type.CURSOR_SNAPSHOT.name(), 0L);
+        if (snapshots > 0) {
+            System.out.printf("  커서 스냅샷 1건당 평균 커서 %.1f개%n", (double) cursors / snapshots);
+        }
+        if (latencies.isEmpty()) {
+            System.out.println("  클릭 결과를 받지 못했습니다.");
+        } else {
+            System.out.printf("  클릭 -> 결과 %d건, p50 %.1fms, p99 %.1fms, 최대 %.1fms%n", latencies.size(),
+                    percentile(latencies, 50) / 1e6, percentile(latencies, 99) / 1e6,
+                    latencies.get(latencies.size() - 1) / 1e6);
+        }
+        close(bots);
+    }
+
+    private static long percentile(List<Long> sorted, int p) {
+        int i = (int) Math.ceil(sorted.size() * p / 100.0) - 1;
+        return sorted.get(Math.max(0, Math.min(i, sorted.size() - 1)));
+    }
+
+    // 나가기를 보내고 닫음 (그냥 끊으면 재접속 대기로 닉네임이 잠시 묶임)
+    private static void close(List<Bot> bots) {
+        for (Bot b : bots) {
+            b.send(new GamePacket(GamePacket.Type.LEAVE, b.name, "LEAVE"));
+            try {
+                b.socket.close();
+            } catch (IOException e) {
+            }
+        }
+    }
+
+    private static class Bot implements Runnable {
+        final String name;
+        final Socket socket;
+        final ObjectOutputStream out;
+        final ObjectInputStream in;
+        final CountingInputStream counter;
+        final Random random;
+
+        final AtomicLong packets = new AtomicLong();
+        final AtomicLong sent = new AtomicLong();
+        final AtomicLong cursorEntries = new AtomicLong();
+        final Map<String, AtomicLong> types = new ConcurrentHashMap<>();
+        final List<Long> latencies = new ArrayList<>();
+
+        volatile boolean started = false;
+        volatile int maxPlayers = 0;
+        volatile int readyPlayers = 0;
+        volatile long clickSentAt = 0;   // 결과를 기다리는 클릭 (0 이면 없음)
+        volatile Exception error;
+        volatile double width = 800, height = 1100;
+        double x = 400, y = 500;
+
+        Bot(String name, String host, int port, String roomNumber, String gameType) throws IOException {
+            this.name = name;
+            this.random = new Random(name.hashCode());
+            this.socket = new Socket(host, port);
+            socket.setTcpNoDelay(true);
+            this.out = new ObjectOutputStream(socket.getOutputStream());
+            this.counter = new CountingInputStream(socket.getInputStream());
+            this.in = new ObjectInputStream(new BufferedInputStream(counter));
+
+            GamePacket join = new GamePacket(GamePacket.Type.JOIN, name, roomNumber, true);
+            join.setGameType(gameType);
+            send(join);
+
+            Thread reader = new Thread(this, "load-" + name);
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        void send(GamePacket p) {
+            try {
+                synchronized (out) {
+                    out.writeObject(p);
+                    out.flush();
+                    out.reset();
+                }
+                sent.incrementAndGet();
+            } catch (IOException e) {
+                error = e;
+            }
+        }
+
+        boolean awaitMaxPlayers(int n, long timeoutMs) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            while (maxPlayers < n && System.currentTimeMillis() < deadline) Thread.sleep(20);
+            return maxPlayers >= n;
+        }
+
+        // 이전 위치에서 조금씩 움직임 (가까운 커서만 받는지 보려고 전체 판에 흩어짐)
+        synchronized void move() {
+            x = Math.max(0, Math.min(width, x + random.nextGaussian() * 15));
+            y = Math.max(0, Math.min(height, y + random.nextGaussian() * 15));
+            send(new GamePacket(GamePacket.Type.MOUSE_MOVE, name, 0, x, y));
+        }
+
+        // 없는 정답 번호로 클릭해서 라운드가 끝나지 않게 함 (오답 처리도 정답과 같은 경로로 방송)
+        synchronized void click() {
+            if (clickSentAt != 0) return;
+            GamePacket click = new GamePacket(GamePacket.Type.CLICK, name, -1);
+            click.setX(x);
+            click.setY(y);
+            clickSentAt = System.nanoTime();
+            send(click);
+        }
+
+        void resetStats() {
+            packets.set(0);
+            sent.set(0);
+            cursorEntries.set(0);
+            counter.count.set(0);
+            types.clear();
+            synchronized (latencies) {
+                latencies.clear();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Object obj = in.readObject();
+                    if (obj instanceof byte[]) obj = GamePacket.fromFrame((byte[]) obj);
+                    if (!(obj instanceof GamePacket)) continue;
+                    GamePacket p = (GamePacket) obj;
+                    packets.incrementAndGet();
+                    types.computeIfAbsent(p.getType().name(), k -> new AtomicLong()).incrementAndGet();
+
+                    switch (p.getType()) {
+                        case LOBBY_UPDATE:
+                            maxPlayers = p.getMaxPlayers();
+                            int ready = 0;
+                            for (boolean r : p.getPlayerReadyStatus().values()) {
+                                if (r) ready++;
+                            }
+                            readyPlayers = ready;
+                            break;
+                        case ROUND_START:
+                            // 게임판 안 아무 곳에서 시작 (손전등 모드에서 주변 커서만 받는지 보려고)
+                            if (p.getOriginalDimension() != null) {
+                                width = p.getOriginalDimension().width;
+                                height = p.getOriginalDimension().height;
+                            }
+                            synchronized (this) {
+                                x = random.nextDouble() * width;
+                                y = random.nextDouble() * height;
+                            }
+                            started = true;
+                            break;
+                        case CURSOR_SNAPSHOT:
+                            if (p.getCursors() != null) cursorEntries.addAndGet(p.getCursors().size());
+                            break;
+                        case RESULT:
+                            long at = clickSentAt;
+                            if (at != 0 && name.equals(p.getSender())) {
+                                synchronized (latencies) {
+                                    latencies.add(System.nanoTime() - at);
+                                }
+                                clickSentAt = 0;
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            } catch (Exception e) {
+                if (!socket.isClosed()) error = e;
+            }
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        final AtomicLong count = new AtomicLong();
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count.incrementAndGet();
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count.addAndGet(n);
+            return n;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package server;
 
+import model.CursorPosition;
 import model.GamePacket;
+import model.RoomInfo;
 import server.LobbyServer.ClientHandler;
 
+import java.awt.Dimension;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -14,13 +19,21 @@ public class RoomManager {
     public final String roomName;
     private final GameLogic gameLogic;
     private final LobbyServer lobbyServer;
+    private final RoomClock clock;
+    private final MatchEventSink matchLog;
 
-    private static final int MAX_PLAYERS = 5;
+    // 기본은 5명 (매칭 방도 5명), 방장이 대기실에서 이벤트용으로 최대 50명까지 늘릴 수 있음
+    static final int DEFAULT_MAX_PLAYERS = 5;
+    static final int MAX_ROOM_CAPACITY = 50;
+    private int maxPlayers = DEFAULT_MAX_PLAYERS;
 
     private final Map<String, ClientHandler> clients = new ConcurrentHashMap<>();
+    // 관전자 (게임에 참여하지 않고 방송만 받음)
+    private final SpectatorFeed spectators = new SpectatorFeed();
     private final Map<String, Boolean> playerReadyStatus = new ConcurrentHashMap<>();
-    private final Map<String, Integer> scores = new ConcurrentHashMap<>();
-    private final Map<String, Integer> totalFoundCounts = new ConcurrentHashMap<>();
+    // 방 잠금 안에서만 사용, 게임 시작 때 자리(커서 번호) 순서로 채움 (기록 재생 때도 같은 순서가 되도록)
+    private final Map<String, Integer> scores = new LinkedHashMap<>();
+    private final Map<String, Integer> totalFoundCounts = new LinkedHashMap<>();
 
     private int currentRound = 0;
     private String hostName = null;
@@ -39,16 +52,76 @@ public class RoomManager {
     private boolean isRoundChanging = false;
 
     // 아이템 관련
-    private Timer itemSpawnTimer;
+    // 획득은 서버가 누른 위치로 판정: 아이템을 격자에 넣어 두고 누른 곳 주변 칸만 검사
+    // 반경은 게임 좌표 (클라이언트 FlashlightGame.ITEM_SIZE 와 같은 값)
+    // 오래된 아이템은 생성 주기마다 정리하고, 너무 많으면 가장 오래된 것부터 없앰
+    static final int ITEM_PICKUP_RADIUS = 30;
+    private static final long ITEM_SPAWN_INTERVAL_MS = Long.getLong("room.item.interval.ms", 15000);
+    private static final long ITEM_LIFETIME_MS = Long.getLong("room.item.lifetime.ms", 60000);
+    private static final int MAX_ACTIVE_ITEMS = Integer.getInteger("room.item.max", 64);
+    private RoomClock.Cancellable itemSpawnTimer;
     private int nextItemId = 0;
-    private final Map<Integer, Point> activeItems = new ConcurrentHashMap<>();
-    private final Map<Integer, String> itemTypes = new ConcurrentHashMap<>();
+    private final Map<Integer, ActiveItem> activeItems = new LinkedHashMap<>();   // 생긴 순서, 방 잠금 안에서만
+    private final SpatialHash<ActiveItem> itemGrid = new SpatialHash<>(ITEM_PICKUP_RADIUS * 2);
     private final Random random = new Random();
 
+    // 대전 기록 (게임마다 번호를 새로 받고, 랜덤 시드도 기록해서 나중에 재현 가능하게)
+    private long matchId = 0;
+    // 기록 재생 때만: 다음 게임에 쓸 게임 번호/시드
+    private long replayMatchId = 0;
+    private Long replaySeed = null;
+
+    // 드레인/복원 관련
+    private static final int SNAPSHOT_MAGIC = 0x524D534E; // "RMSN"
+    private static final int SNAPSHOT_VERSION = 2;   // 2: 최대 인원 추가
+    private static final long RESTORE_WAIT_MS = 60000;
+    private boolean frozen = false;
+    private final Map<String, PlayerSnapshot> awaitingPlayers = new LinkedHashMap<>();
+    private RoomClock.Cancellable restoreTimer;
+
+    // 세션 재개 관련: 끊긴 플레이어 자리 유지 + 놓친 이벤트 재전송용 로그
+    private static final long RESUME_GRACE_MS = 20000;
+    private static final int EVENT_LOG_SIZE = 256;
+    private final Map<String, SuspendedPlayer> suspendedPlayers = new LinkedHashMap<>();
+    private final ArrayDeque<GamePacket> eventLog = new ArrayDeque<>();
+    private long eventSeq = 0;
+    private long roundStartSeq = 0;
+
+    // 큰 방 (DIRECT_RELAY_LIMIT 명 초과): 커서 이동을 매번 모두에게 중계하지 않고
+    // 주기마다 받는 사람 주변 커서만 묶어서 보냄, 점수판도 클릭마다가 아니라 주기마다 한 번
+    // 방 시계의 배경 작업으로 돎 (기록 재생 때도 가상 시계로 같은 순서, 기록되는 이벤트는 만들지 않음)
+    private static final int DIRECT_RELAY_LIMIT = 5;
+    private static final long ROOM_TICK_MS = 50;
+    private static final int CURSOR_INTEREST = Integer.getInteger("room.cursor.interest", 8);   // 0 이면 전부
+    private final Map<String, CursorState> cursors = new LinkedHashMap<>();
+    private final Map<String, List<String>> cursorViews = new HashMap<>();   // 받는 사람별 마지막으로 보낸 커서 목록
+    private RoomClock.Cancellable roomTick;
+    private long roomTickSeq = 0;
+    private boolean cursorsMoved = false;
+    private boolean scoreDirty = false;
+
+    // 손전등 모드: 어둠 때문에 내 불빛 안의 커서만 보이므로, 인원과 상관없이 주기마다
+    // 불빛 반경 안(또는 곧 들어올) 커서만 보냄. 커서는 격자에 넣어 두고 주변 칸만 검사
+    // 반경은 클라이언트 FlashlightGame 과 같은 값 (화면 px, 게임판 폭 500px 기준)을 게임 좌표로 바꿔서 씀
+    private static final int BOARD_WIDTH_PX = 500;
+    private static final int LIGHT_RADIUS_PX = 150;
+    private static final int INTEREST_MARGIN_PX = 60;    // 커서 그림 크기(40) + 다음 주기까지 다가오는 거리
+    private static final int INTEREST_EXIT_PX = 30;      // 경계에서 보였다 안 보였다 하지 않도록 나갈 때는 조금 더 멀리서
+    private final SpatialHash<CursorState> cursorGrid = new SpatialHash<>(LIGHT_RADIUS_PX + INTEREST_MARGIN_PX);
+    private double interestRadius = LIGHT_RADIUS_PX + INTEREST_MARGIN_PX;
+    private double interestExitRadius = interestRadius + INTEREST_EXIT_PX;
+
     public RoomManager(String roomName, GameLogic gameLogic, LobbyServer lobbyServer) {
+        this(roomName, gameLogic, lobbyServer, RoomClock.SYSTEM, lobbyServer.getMatchLog());
+    }
+
+    // 기록 재생용: 가상 시계와 메모리 기록으로 같은 진행 로직을 돌림
+    RoomManager(String roomName, GameLogic gameLogic, LobbyServer lobbyServer, RoomClock clock, MatchEventSink matchLog) {
         this.roomName = roomName;
         this.gameLogic = gameLogic;
         this.lobbyServer = lobbyServer;
+        this.clock = clock;
+        this.matchLog = matchLog;
         System.out.println("[RoomManager] [" + roomName + "] 생성됨.");
     }
 
@@ -56,43 +129,50 @@ public class RoomManager {
     public synchronized boolean addPlayer(ClientHandler handler) {
         String playerName = handler.getPlayerName();
 
+        if (frozen) {
+            handler.sendPacket(new GamePacket(GamePacket.Type.MESSAGE, "SERVER", "오류: 서버 점검 중입니다."));
+            return false;
+        }
+
+        if (awaitingPlayers.containsKey(playerName)) {
+            rejoinRestoredPlayer(handler);
+            return true;
+        }
+
         if (!gameState.equals("LOBBY")) {
             handler.sendPacket(new GamePacket(GamePacket.Type.MESSAGE, "SERVER", "오류: 이미 게임 시작됨"));
             return false;
         }
 
-        if (clients.containsKey(playerName)) {
+        if (clients.containsKey(playerName) || suspendedPlayers.containsKey(playerName)) {
             handler.sendPacket(new GamePacket(GamePacket.Type.MESSAGE, "SERVER", "오류: 닉네임 중복"));
             return false;
         }
 
-        if (clients.size() >= MAX_PLAYERS) {
+        if (occupiedSeats() >= maxPlayers) {
             handler.sendPacket(new GamePacket(GamePacket.Type.MESSAGE, "SERVER", "오류: 방 인원 초과"));
             return false;
         }
 
-        // 비사용 커서 인덱스 배정
-        boolean[] used = new boolean[5];
+        // 비어 있는 가장 작은 커서 번호 배정 (재접속 대기 중인 자리 포함)
+        BitSet used = new BitSet(maxPlayers);
         for (int idx : cursorIndexMap.values()) {
-            if (idx >= 0 && idx < 5) used[idx] = true;
+            if (idx >= 0) used.set(idx);
         }
-
-        int assignedCursorIndex = 0;
-        for (int i = 0; i < 5; i++) {
-            if (!used[i]) {
-                assignedCursorIndex = i;
-                break;
-            }
+        for (PlayerSnapshot saved : awaitingPlayers.values()) {
+            if (saved.cursorIndex >= 0) used.set(saved.cursorIndex);
         }
 
-        cursorIndexMap.put(playerName, assignedCursorIndex);
+        cursorIndexMap.put(playerName, used.nextClearBit(0));
 
         clients.put(playerName, handler);
         playerReadyStatus.put(playerName, false);
 
         if (clients.size() == 1) hostName = playerName;
 
+        logEvent(MatchEvent.JOIN, playerName, 0, 0, 0, roomName);
         broadcastLobbyUpdate();
+        publishDirectory();
         
         broadcast(new GamePacket(
                 GamePacket.Type.MESSAGE,
@@ -107,11 +187,23 @@ public class RoomManager {
     public synchronized boolean removePlayer(ClientHandler handler) {
         String playerName = handler.getPlayerName();
 
-        if (!clients.containsKey(playerName)) return false;
+        if (clients.get(playerName) != handler) return false;
 
         clients.remove(playerName);
+        return finishLeave(playerName);
+    }
+
+    // 방에서 완전히 빠질 때의 정리 (직접 나감 / 재접속 대기 시간 초과)
+    private boolean finishLeave(String playerName) {
         playerReadyStatus.remove(playerName);
         cursorIndexMap.remove(playerName);
+        removeCursor(playerName);
+        cursorViews.remove(playerName);
+
+        // 스냅샷 후 드레인으로 끊기는 경우 상태를 건드리지 않음
+        if (frozen) return clients.isEmpty();
+
+        logEvent(MatchEvent.LEAVE, playerName, 0, 0, 0, roomName);
 
         if (!clients.isEmpty()) {
             broadcast(new GamePacket(
@@ -122,16 +214,22 @@ public class RoomManager {
         }
 
         if (clients.isEmpty()) {
-            stopItemSpawner();
+            if (suspendedPlayers.isEmpty()) {
+                stopItemSpawner();
+                if (gameState.equals("IN_GAME")) logEvent(MatchEvent.GAME_OVER, null, 0, 0, 0, "ABANDONED");
+            }
             return true;
         }
         
-        if (gameState.equals("IN_GAME") && clients.size() == 1) {
+        if (gameState.equals("IN_GAME") && clients.size() == 1 && suspendedPlayers.isEmpty()) {
             String survivorName = clients.keySet().iterator().next();
             ClientHandler survivor = clients.get(survivorName);
             
             String rankingMsg = getRankingString();
 
+            logEvent(MatchEvent.GAME_OVER, survivorName, 0, 0, 0, rankingMsg);
+            lobbyServer.grantReward(survivor, rewardScore(survivorName));
+            lobbyServer.submitScore(survivor, currentDifficulty, currentGameMode, scores.getOrDefault(survivorName, 0));
             survivor.sendPacket(new GamePacket(
                 GamePacket.Type.GAME_OVER,
                 rankingMsg + "\n\n(다른 플레이어가 모두 나가 게임이 종료되었습니다.)"
@@ -144,6 +242,7 @@ public class RoomManager {
             
             playerReadyStatus.put(survivorName, false);
             broadcastLobbyUpdate();
+            publishDirectory();
             
             return false; 
         }
@@ -160,12 +259,15 @@ public class RoomManager {
         }
 
         broadcastLobbyUpdate();
+        publishDirectory();
         return false;
     }
 
     // 패킷 처리
     public synchronized void handlePacket(ClientHandler handler, GamePacket packet) throws IOException {
 
+        if (frozen) return;
+
         if (packet.getType() == GamePacket.Type.START_GAME_REQUEST) {
 
             if (!handler.getPlayerName().equals(hostName)) return;
@@ -195,16 +297,21 @@ public class RoomManager {
 
             gameState = "IN_GAME";
             isRoundChanging = false; 
+            publishDirectory();
 
             scores.clear();
             totalFoundCounts.clear();
-            clients.keySet().forEach(p -> {
+            List<String> seats = new ArrayList<>(clients.keySet());
+            seats.sort(Comparator.comparingInt(p -> cursorIndexMap.getOrDefault(p, 0)));
+            for (String p : seats) {
                 scores.put(p, 0);
                 totalFoundCounts.put(p, 0);
-            });
+            }
 
             roundHintCount = 3;
 
+            startMatchLog();
+
             proceedToNextRoundDataSend(); 
             
             if ("FLASH".equalsIgnoreCase(gameType)) startItemSpawner();
@@ -215,18 +322,41 @@ public class RoomManager {
         // IN GAME
         if (gameState.equals("IN_GAME")) {
 
+            // 복원된 방: 먼저 돌아온 플레이어는 나머지를 기다리는 동안 라운드 화면(ROUND_START)을 아직 못 받음
+            // 재개 전까지는 채팅만 받고 클릭/힌트/아이템/타이머 종료는 무시
+            if (!awaitingPlayers.isEmpty()) {
+                if (packet.getType() == GamePacket.Type.MESSAGE && !"/Q".equalsIgnoreCase(packet.getMessage().trim())) {
+                    broadcast(packet);
+                }
+                return;
+            }
+
             switch (packet.getType()) {
 
                 case MOUSE_MOVE:
+                    // 숫자가 아닌 좌표는 버리고, 게임판 밖 좌표는 가장자리로 (격자 검색/중계에 그대로 넣지 않음)
+                    if (!Double.isFinite(packet.getX()) || !Double.isFinite(packet.getY())) break;
+                    double moveX = packet.getX();
+                    double moveY = packet.getY();
+                    Dimension board = gameLogic.getOriginalDimension(currentDifficulty, currentRound);
+                    if (board != null) {
+                        moveX = Math.max(0, Math.min(moveX, board.width));
+                        moveY = Math.max(0, Math.min(moveY, board.height));
+                    }
+
                     String sender = handler.getPlayerName();
                     int cursorIdx = cursorIndexMap.getOrDefault(sender, 1);
 
+                    if (isLargeRoom() || isFlashRoom()) {
+                        updateCursor(sender, cursorIdx, moveX, moveY);
+                        break;
+                    }
                     broadcast(new GamePacket(
                         GamePacket.Type.MOUSE_MOVE,
                         sender,
                         0,
-                        packet.getX(),
-                        packet.getY(),
+                        moveX,
+                        moveY,
                         cursorIdx
                     ));
                     break;
@@ -239,16 +369,17 @@ public class RoomManager {
 
                 case ITEM_PICKUP:
                     if (isRoundChanging) return;
-                    handleItemPickup(handler, packet.getItemId());
+                    handleItemPickup(handler, packet);
                     break;
 
                 case TIMER_END:
+                    logEvent(MatchEvent.TIMER_END, handler.getPlayerName(), 0, 0, 0, null);
                     handleRoundComplete();
                     break;
 
                 case MESSAGE:
                     if ("/Q".equalsIgnoreCase(packet.getMessage().trim())) {
-                        handleHintRequest(handler);
+                        handleHintRequest(handler, false);
                     } else {
                         broadcast(packet);
                     }
@@ -256,7 +387,7 @@ public class RoomManager {
 
                 case HINT_REQUEST:
                     if (isRoundChanging) return;
-                    handleHintRequest(handler);
+                    handleHintRequest(handler, false);
                     break;
             }
 
@@ -289,6 +420,7 @@ public class RoomManager {
                     if (handler.getPlayerName().equals(hostName)) {
                         currentDifficulty = packet.getDifficulty();
                         currentGameMode = packet.getGameMode();
+                        if (packet.getMaxPlayers() > 0) changeMaxPlayers(handler, packet.getMaxPlayers());
                         broadcastLobbyUpdate();
                     }
                     break;
@@ -305,7 +437,417 @@ public class RoomManager {
         return fixedGameType;
     }
 
-    private void handleHintRequest(ClientHandler handler) {
+    public synchronized boolean isEmpty() {
+        return clients.isEmpty() && awaitingPlayers.isEmpty() && suspendedPlayers.isEmpty();
+    }
+
+    // 매칭 방 생성 시 대기열의 난이도/모드로 초기 설정
+    public synchronized void applyMatchSettings(String difficulty, String gameMode) {
+        this.currentDifficulty = difficulty;
+        this.currentGameMode = gameMode;
+    }
+
+    // 매칭으로 빈자리를 채울 수 있는 방인지
+    // 빈자리는 addPlayer 와 같은 기준 (재접속 대기 중인 자리도 찬 자리)
+    public synchronized boolean isOpenForMatch() {
+        return !frozen && gameState.equals("LOBBY") && !clients.isEmpty() && occupiedSeats() < maxPlayers;
+    }
+
+    // 같은 잠금 안에서 이어서 부르는 addPlayer 가 실패하지 않는 경우에만 true
+    public synchronized boolean canAccept(String playerName) {
+        return !frozen && gameState.equals("LOBBY")
+                && !clients.containsKey(playerName) && !suspendedPlayers.containsKey(playerName)
+                && !awaitingPlayers.containsKey(playerName)
+                && occupiedSeats() < maxPlayers;
+    }
+
+    public synchronized int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    private int occupiedSeats() {
+        return clients.size() + awaitingPlayers.size() + suspendedPlayers.size();
+    }
+
+    // 방장이 최대 인원 변경 (2명 ~ MAX_ROOM_CAPACITY, 지금 인원보다 적게는 못 줄임)
+    private void changeMaxPlayers(ClientHandler host, int requested) {
+        int capacity = Math.max(2, Math.min(requested, MAX_ROOM_CAPACITY));
+        if (capacity == maxPlayers) return;
+        if (capacity < occupiedSeats()) {
+            host.sendPacket(new GamePacket(GamePacket.Type.MESSAGE, "SERVER",
+                "[알림] 최대 인원은 현재 인원(" + occupiedSeats() + "명)보다 적게 정할 수 없습니다."));
+            return;
+        }
+        maxPlayers = capacity;
+        System.out.println("[RoomManager] [" + roomName + "] 최대 인원 " + maxPlayers + "명으로 변경");
+        publishDirectory();
+    }
+
+    // 방 목록용 요약 정보
+    public synchronized RoomInfo toRoomInfo() {
+        int sep = roomName.indexOf('_');
+        String roomNumber = (sep >= 0) ? roomName.substring(sep + 1) : roomName;
+        return new RoomInfo(roomName, fixedGameType, roomNumber, gameState, clients.size(), maxPlayers);
+    }
+
+    // ===== 드레인 / 복원 =====
+
+    // 대기 중이거나 라운드 사이(3초 대기)일 때만 스냅샷 안전
+    public synchronized boolean isSnapshotSafe() {
+        return gameState.equals("LOBBY") || isRoundChanging;
+    }
+
+    // 스냅샷 저장 후 방을 멈춤, force 면 라운드 진행 중이어도 저장 (복원 시 같은 라운드 이어서)
+    public synchronized boolean snapshotAndFreeze(RoomSnapshotStore store, boolean force) throws IOException {
+        if (frozen) return true;
+        if (!force && !isSnapshotSafe()) return false;
+
+        store.save(this);
+        frozen = true;
+        stopItemSpawner();
+        if (restoreTimer != null) restoreTimer.cancel();
+
+        broadcast(new GamePacket(GamePacket.Type.MESSAGE, "SERVER",
+            "[알림] 서버 점검으로 잠시 연결이 끊어집니다. 재시작 후 같은 방 번호(" + toRoomInfo().getRoomNumber() + ")로 다시 접속하세요."));
+        return true;
+    }
+
+    synchronized void writeSnapshot(DataOutputStream out) throws IOException {
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeShort(SNAPSHOT_VERSION);
+        out.writeUTF(roomName);
+        out.writeUTF(fixedGameType);
+        out.writeUTF(gameState);
+        out.writeUTF(currentDifficulty);
+        out.writeUTF(currentGameMode);
+        out.writeUTF(hostName != null ? hostName : "");
+        out.writeInt(currentRound);
+        out.writeBoolean(isRoundChanging);
+        out.writeInt(roundHintCount);
+        out.writeShort(maxPlayers);
+
+        int found = (foundStatus != null) ? foundStatus.length : 0;
+        out.writeShort(found);
+        byte[] bits = new byte[(found + 7) / 8];
+        for (int i = 0; i < found; i++) {
+            if (foundStatus[i]) bits[i >> 3] |= (byte) (1 << (i & 7));
+        }
+        out.write(bits);
+
+        List<String> names = new ArrayList<>(clients.keySet());
+        for (String name : awaitingPlayers.keySet()) {
+            if (!names.contains(name)) names.add(name);
+        }
+        for (String name : suspendedPlayers.keySet()) {
+            if (!names.contains(name)) names.add(name);
+        }
+        out.writeShort(names.size());
+        for (String name : names) {
+            PlayerSnapshot saved = awaitingPlayers.get(name);
+            ClientHandler h = clients.get(name);
+            out.writeUTF(name);
+            out.writeInt(scores.getOrDefault(name, 0));
+            out.writeInt(totalFoundCounts.getOrDefault(name, 0));
+            out.writeByte(cursorIndexMap.getOrDefault(name, saved != null ? saved.cursorIndex : 0));
+            SuspendedPlayer suspended = suspendedPlayers.get(name);
+            int hints = (h != null) ? h.getPlayerHintCount()
+                    : (suspended != null) ? suspended.hintCount
+                    : (saved != null) ? saved.hintCount : 3;
+            out.writeByte(hints);
+            out.writeBoolean(playerReadyStatus.getOrDefault(name, false));
+        }
+    }
+
+    static RoomManager readSnapshot(DataInputStream in, GameLogic gameLogic, LobbyServer lobbyServer) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC) throw new IOException("스냅샷 형식 오류");
+        int version = in.readShort();
+        if (version != 1 && version != SNAPSHOT_VERSION) throw new IOException("지원하지 않는 스냅샷 버전: " + version);
+
+        RoomManager room = new RoomManager(in.readUTF(), gameLogic, lobbyServer);
+        room.setFixedGameType(in.readUTF());
+        room.gameType = room.fixedGameType;
+        room.gameState = in.readUTF();
+        room.currentDifficulty = in.readUTF();
+        room.currentGameMode = in.readUTF();
+        String host = in.readUTF();
+        room.hostName = host.isEmpty() ? null : host;
+        room.currentRound = in.readInt();
+        room.isRoundChanging = in.readBoolean();
+        room.roundHintCount = in.readInt();
+        if (version >= 2) room.maxPlayers = in.readShort();
+
+        int found = in.readShort();
+        byte[] bits = new byte[(found + 7) / 8];
+        in.readFully(bits);
+        if (found > 0) {
+            room.foundStatus = new boolean[found];
+            for (int i = 0; i < found; i++) {
+                room.foundStatus[i] = (bits[i >> 3] & (1 << (i & 7))) != 0;
+            }
+        }
+
+        int players = in.readShort();
+        for (int i = 0; i < players; i++) {
+            String name = in.readUTF();
+            int score = in.readInt();
+            int totalFound = in.readInt();
+            int cursorIndex = in.readByte();
+            int hintCount = in.readByte();
+            boolean ready = in.readBoolean();
+
+            if (room.gameState.equals("IN_GAME")) {
+                room.scores.put(name, score);
+                room.totalFoundCounts.put(name, totalFound);
+            }
+            room.awaitingPlayers.put(name, new PlayerSnapshot(cursorIndex, hintCount, ready));
+        }
+
+        if (!room.awaitingPlayers.isEmpty()) room.startRestoreTimer();
+        return room;
+    }
+
+    // 복원된 방에 원래 플레이어가 다시 접속
+    private void rejoinRestoredPlayer(ClientHandler handler) {
+        String playerName = handler.getPlayerName();
+        PlayerSnapshot saved = awaitingPlayers.remove(playerName);
+
+        cursorIndexMap.put(playerName, saved.cursorIndex);
+        clients.put(playerName, handler);
+        playerReadyStatus.put(playerName, saved.ready);
+        handler.setPlayerHintCount(saved.hintCount);
+        if (hostName == null || (!clients.containsKey(hostName) && !awaitingPlayers.containsKey(hostName))) {
+            hostName = playerName;
+        }
+
+        int total = clients.size() + awaitingPlayers.size();
+        broadcastLobbyUpdate();
+        broadcast(new GamePacket(GamePacket.Type.MESSAGE, "SERVER",
+            "[알림] " + playerName + "님 재접속 (" + clients.size() + "/" + total + ")"));
+        System.out.println("[RoomManager] [" + roomName + "] " + playerName + " 재접속, 남은 대기 " + awaitingPlayers.size() + "명");
+
+        if (awaitingPlayers.isEmpty()) {
+            resumeAfterRestore();
+        }
+        publishDirectory();
+    }
+
+    private void startRestoreTimer() {
+        restoreTimer = clock.schedule(this::onRestoreTimeout, RESTORE_WAIT_MS);
+    }
+
+    // 일부가 끝내 돌아오지 않으면 있는 인원으로 재개, 아무도 없으면 방 정리
+    // 방 정리는 잠금을 놓은 뒤에 (removeIfEmpty 는 디렉터리 잠금 안에서 방 잠금을 잡음, expireSuspended 와 같은 순서)
+    private void onRestoreTimeout() {
+        synchronized (this) {
+            if (awaitingPlayers.isEmpty()) return;
+            System.out.println("[RoomManager] [" + roomName + "] 재접속 대기 시간 초과 (미접속 " + awaitingPlayers.size() + "명)");
+            awaitingPlayers.clear();
+            restoreTimer = null;
+
+            if (!clients.isEmpty()) {
+                if (!clients.containsKey(hostName)) {
+                    hostName = clients.keySet().iterator().next();
+                }
+                resumeAfterRestore();
+                publishDirectory();
+                return;
+            }
+            gameState = "LOBBY";
+        }
+        lobbyServer.getRoomDirectory().removeIfEmpty(this);
+    }
+
+    private void resumeAfterRestore() {
+        if (restoreTimer != null) {
+            restoreTimer.cancel();
+            restoreTimer = null;
+        }
+        if (!gameState.equals("IN_GAME")) {
+            broadcastLobbyUpdate();
+            return;
+        }
+
+        if (isRoundChanging) {
+            // 라운드 사이에서 저장된 방: 다음 라운드부터
+            broadcast(new GamePacket(GamePacket.Type.MESSAGE, "SERVER", "[서버] 게임을 이어서 진행합니다. 다음 라운드 시작!"));
+            proceedToNextRound();
+            return;
+        }
+
+        // 라운드 중 강제 저장된 방: 같은 라운드를 이어서, 이미 찾은 정답은 다시 표시
+        gameLogic.loadRound(currentDifficulty, currentRound);
+        proceedToNextRoundDataSend();
+        for (ClientHandler h : clients.values()) {
+            sendFoundAnswers(h);
+        }
+        if ("FLASH".equalsIgnoreCase(gameType)) startItemSpawner();
+    }
+
+    private void sendFoundAnswers(ClientHandler target) {
+        for (GamePacket p : foundAnswerPackets()) {
+            target.sendPacket(p);
+        }
+    }
+
+    private List<GamePacket> foundAnswerPackets() {
+        List<GamePacket> packets = new ArrayList<>();
+        if (foundStatus == null) return packets;
+        for (int i = 0; i < foundStatus.length; i++) {
+            if (foundStatus[i]) {
+                packets.add(new GamePacket(GamePacket.Type.RESULT, "SERVER", i, true, null));
+            }
+        }
+        return packets;
+    }
+
+    // ===== 관전 =====
+
+    // 관전자 추가: 지금 방 상태를 먼저 받고 이후 방송을 이어서 받음 (게임 진행에는 참여하지 않음)
+    public synchronized boolean addSpectator(ClientHandler handler) {
+        if (frozen) return false;
+
+        List<GamePacket> catchUp = new ArrayList<>();
+        catchUp.add(buildLobbyUpdate());
+        if (gameState.equals("IN_GAME")) {
+            catchUp.add(buildRoundStart(null, roundStartSeq));
+            catchUp.addAll(foundAnswerPackets());
+            catchUp.add(buildScorePacket());
+            for (ActiveItem item : activeItems.values()) {
+                catchUp.add(item.spawnPacket());
+            }
+        }
+
+        if (!spectators.add(handler, catchUp)) return false;
+        System.out.println("[RoomManager] [" + roomName + "] " + handler.getPlayerName() + " 관전 시작 (관전자 " + spectators.size() + "명)");
+        return true;
+    }
+
+    public void removeSpectator(ClientHandler handler) {
+        spectators.remove(handler);
+    }
+
+    public int getSpectatorCount() {
+        return spectators.size();
+    }
+
+    // ===== 세션 재개 =====
+
+    // 연결이 끊긴 플레이어를 바로 내보내지 않고 자리/점수/커서를 잠시 유지
+    public synchronized boolean suspendPlayer(ClientHandler handler) {
+        String playerName = handler.getPlayerName();
+        if (frozen || clients.get(playerName) != handler) return false;
+
+        clients.remove(playerName);
+        removeCursor(playerName);
+
+        // 만료는 방 시계의 공유 예약 스레드에서 (끊긴 사람마다 스레드를 만들지 않음)
+        RoomClock.Cancellable expireTimer = clock.schedule(() -> expireSuspended(playerName, handler), RESUME_GRACE_MS);
+        suspendedPlayers.put(playerName, new SuspendedPlayer(handler, handler.getPlayerHintCount(), expireTimer));
+
+        broadcast(new GamePacket(GamePacket.Type.MESSAGE, "SERVER",
+            "[알림] " + playerName + "님 연결이 불안정합니다. 재접속을 기다립니다. (" + (RESUME_GRACE_MS / 1000) + "초)"));
+        System.out.println("[RoomManager] [" + roomName + "] " + playerName + " 연결 끊김, 재접속 대기");
+        return true;
+    }
+
+    private void expireSuspended(String playerName, ClientHandler handler) {
+        synchronized (this) {
+            SuspendedPlayer suspended = suspendedPlayers.get(playerName);
+            if (suspended == null || suspended.handler != handler) return;
+            suspendedPlayers.remove(playerName);
+
+            System.out.println("[RoomManager] [" + roomName + "] " + playerName + " 재접속 시간 초과, 퇴장 처리");
+            finishLeave(playerName);
+        }
+        lobbyServer.onSessionExpired(handler);
+        if (lobbyServer.getRoomDirectory().removeIfEmpty(this)) {
+            System.out.println("[서버] [" + roomName + "] 번 방이 비어 닫습니다.");
+        }
+    }
+
+    // 같은 플레이어가 토큰으로 재접속: 자리 복구 후 놓친 이벤트만 다시 보냄
+    public synchronized boolean resumePlayer(ClientHandler handler, String token, long lastSeq) {
+        String playerName = handler.getPlayerName();
+        // 드레인 중이면 자리를 그대로 두고 거절 (만료 타이머가 나중에 정리)
+        if (frozen) return false;
+        SuspendedPlayer suspended = suspendedPlayers.get(playerName);
+        if (suspended == null) return false;
+        suspendedPlayers.remove(playerName);
+        suspended.expireTimer.cancel();
+
+        clients.put(playerName, handler);
+        handler.setPlayerHintCount(suspended.hintCount);
+        if (gameState.equals("IN_GAME")) {
+            scores.putIfAbsent(playerName, 0);
+            totalFoundCounts.putIfAbsent(playerName, 0);
+        }
+
+        handler.sendPacket(new GamePacket(GamePacket.Type.SESSION, token));
+
+        List<GamePacket> missed = new ArrayList<>();
+        boolean gap;
+        synchronized (eventLog) {
+            long oldest = eventLog.isEmpty() ? eventSeq + 1 : eventLog.peekFirst().getSeq();
+            gap = lastSeq + 1 < oldest;
+            long from = lastSeq;
+            if (!gap && gameState.equals("IN_GAME") && lastSeq < roundStartSeq) from = roundStartSeq;
+            for (GamePacket p : eventLog) {
+                if (p.getSeq() > from) missed.add(p);
+            }
+        }
+
+        if (gameState.equals("IN_GAME") && (gap || lastSeq < roundStartSeq)) {
+            // 라운드가 바뀌었거나 로그 범위를 벗어남: 현재 라운드만 새로 보냄
+            handler.sendPacket(buildRoundStart(playerName, roundStartSeq));
+            if (gap) {
+                sendFoundAnswers(handler);
+                handler.sendPacket(buildScorePacket());
+                missed.clear();
+            }
+        } else if (gap) {
+            handler.sendPacket(buildLobbyUpdate());
+            missed.clear();
+        }
+
+        for (GamePacket p : missed) {
+            handler.sendPacket(p);
+        }
+
+        broadcast(new GamePacket(GamePacket.Type.MESSAGE, "SERVER", "[알림] " + playerName + "님이 다시 연결되었습니다."));
+        System.out.println("[RoomManager] [" + roomName + "] " + playerName + " 세션 재개 (놓친 이벤트 "
+                + missed.size() + "개" + (gap ? ", 전체 동기화" : "") + ")");
+        return true;
+    }
+
+    private static class SuspendedPlayer {
+        final ClientHandler handler;
+        final int hintCount;
+        final RoomClock.Cancellable expireTimer;
+
+        SuspendedPlayer(ClientHandler handler, int hintCount, RoomClock.Cancellable expireTimer) {
+            this.handler = handler;
+            this.hintCount = hintCount;
+            this.expireTimer = expireTimer;
+        }
+    }
+
+    private static class PlayerSnapshot {
+        final int cursorIndex;
+        final int hintCount;
+        final boolean ready;
+
+        PlayerSnapshot(int cursorIndex, int hintCount, boolean ready) {
+            this.cursorIndex = cursorIndex;
+            this.hintCount = hintCount;
+            this.ready = ready;
+        }
+    }
+
+    private void publishDirectory() {
+        lobbyServer.getRoomDirectory().update(this);
+    }
+
+    private void handleHintRequest(ClientHandler handler, boolean fromItem) {
         String playerName = handler.getPlayerName();
         boolean isCompetitive = "경쟁".equals(currentGameMode);
 
@@ -341,6 +883,7 @@ public class RoomManager {
             roundHintCount--;
             currentHints = roundHintCount;
         }
+        logEvent(MatchEvent.HINT, playerName, idx, 0, 0, fromItem ? "ITEM" : null);
        
         GamePacket hintPacket = new GamePacket(
             GamePacket.Type.HINT_RESPONSE,
@@ -397,17 +940,17 @@ public class RoomManager {
             }
         }
 
-        StringBuilder sb = new StringBuilder();
-        if ("협동".equals(currentGameMode)) {
-            int teamScore = scores.isEmpty() ? 0 : scores.values().iterator().next();
-            sb.append("SCORE_COOP:").append(teamScore);
+        logEvent(MatchEvent.CLICK, name, index, packet.getX(), packet.getY(),
+                correct ? "HIT" : alreadyFound ? "DUP" : "MISS");
+        logEvent(MatchEvent.SCORE, null, 0, 0, 0, scoreSummary());
+
+        if (isLargeRoom()) {
+            // 큰 방은 클릭마다 점수판 전체를 보내지 않고 다음 주기에 한 번
+            scoreDirty = true;
+            startRoomTick();
         } else {
-            sb.append("[점수]\n");
-            for (String pName : scores.keySet()) {
-                sb.append(pName).append(" : ").append(scores.get(pName)).append("점\n");
-            }
+            broadcast(buildScorePacket());
         }
-        broadcast(new GamePacket(GamePacket.Type.SCORE, "SERVER", sb.toString()));
 
         String msg = null;
         if (correct) {
@@ -434,6 +977,14 @@ public class RoomManager {
         }
     }
     
+    // 경험치 기준 점수: 협동은 내가 찾은 개수 기여도, 경쟁은 내 점수
+    private int rewardScore(String playerName) {
+        if ("협동".equals(currentGameMode)) {
+            return totalFoundCounts.getOrDefault(playerName, 0) * 10;
+        }
+        return scores.getOrDefault(playerName, 0);
+    }
+
     private boolean areAllFound() {
         if (foundStatus == null) return false;
         for (boolean f : foundStatus) {
@@ -456,17 +1007,18 @@ public class RoomManager {
             ));
             
             System.out.println("[RoomManager] 라운드 " + currentRound + " 종료. 3초 대기 시작.");
+            broadcast(lobbyServer.getImageStore().roundPrepare(
+                gameLogic.getImagePath(currentDifficulty, currentRound + 1)));
 
-            Timer nextRoundTimer = new Timer();
-            nextRoundTimer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    proceedToNextRound();
-                }
-            }, 3000); 
+            clock.schedule(this::proceedToNextRound, 3000);
 
         } else {
             String rankingMsg = getRankingString();
+            logEvent(MatchEvent.GAME_OVER, null, 0, 0, 0, rankingMsg);
+            for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
+                lobbyServer.grantReward(e.getValue(), rewardScore(e.getKey()));
+                lobbyServer.submitScore(e.getValue(), currentDifficulty, currentGameMode, scores.getOrDefault(e.getKey(), 0));
+            }
             broadcast(new GamePacket(GamePacket.Type.GAME_OVER, rankingMsg));
             
             currentRound = 0;
@@ -480,10 +1032,12 @@ public class RoomManager {
                 playerReadyStatus.put(pName, false);
             }
             broadcastLobbyUpdate();
+            publishDirectory();
         }
     }
 
     private synchronized void proceedToNextRound() {
+        if (frozen) return;
         currentRound++;
         System.out.println("[RoomManager] 라운드 " + currentRound + " 로드 및 전송.");
         
@@ -510,28 +1064,45 @@ public class RoomManager {
     
     // 실제 클라이언트에 패킷을 보내는 부분
     private void proceedToNextRoundDataSend() {
+        synchronized (eventLog) {
+            roundStartSeq = ++eventSeq;
+        }
+        logEvent(MatchEvent.ROUND_START, null, foundStatus != null ? foundStatus.length : 0, 0, 0, null);
+        updateInterestRadius();
         for (String p : clients.keySet()) {
-            GamePacket next = new GamePacket(
-                GamePacket.Type.ROUND_START,
-                currentRound,
-                gameLogic.getImagePath(currentDifficulty, currentRound),
-                gameLogic.getOriginalAnswers(currentDifficulty, currentRound),
-                gameLogic.getOriginalDimension(currentDifficulty, currentRound),
-                new HashMap<>(cursorIndexMap),
-                currentGameMode,
-                gameType
-            );
-
-            next.setCursorIndex(cursorIndexMap.getOrDefault(p, 1));
-            next.setRemainingHints(roundHintCount);
-
             ClientHandler ch = clients.get(p);
             if (ch != null) {
-                ch.sendPacket(next);
+                ch.sendPacket(buildRoundStart(p, roundStartSeq));
             }
         }
+        if (!spectators.isEmpty()) spectators.publish(buildRoundStart(null, roundStartSeq));
         
         // 점수판 한번 더 동기화
+        broadcast(buildScorePacket());
+    }
+
+    // p 가 null 이면 관전자용 (내 커서 없음)
+    private GamePacket buildRoundStart(String p, long seq) {
+        String imagePath = gameLogic.getImagePath(currentDifficulty, currentRound);
+        GamePacket next = new GamePacket(
+            GamePacket.Type.ROUND_START,
+            currentRound,
+            imagePath,
+            gameLogic.getOriginalAnswers(currentDifficulty, currentRound),
+            gameLogic.getOriginalDimension(currentDifficulty, currentRound),
+            new HashMap<>(cursorIndexMap),
+            currentGameMode,
+            gameType
+        );
+
+        next.setCursorIndex(p != null ? cursorIndexMap.getOrDefault(p, 1) : -1);
+        next.setRemainingHints(roundHintCount);
+        next.setSeq(seq);
+        next.setImageHash(lobbyServer.getImageStore().hashOf(imagePath));
+        return next;
+    }
+
+    private GamePacket buildScorePacket() {
         StringBuilder sb = new StringBuilder();
         if ("협동".equals(currentGameMode)) {
             int teamScore = scores.isEmpty() ? 0 : scores.values().iterator().next();
@@ -542,7 +1113,7 @@ public class RoomManager {
                 sb.append(pName).append(" : ").append(scores.get(pName)).append("점\n");
             }
         }
-        broadcast(new GamePacket(GamePacket.Type.SCORE, "SERVER", sb.toString()));
+        return new GamePacket(GamePacket.Type.SCORE, "SERVER", sb.toString());
     }
     
     private String getRankingString() {
@@ -580,13 +1151,7 @@ public class RoomManager {
     private void startItemSpawner() {
         if (itemSpawnTimer != null) itemSpawnTimer.cancel();
 
-        itemSpawnTimer = new Timer();
-        itemSpawnTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                spawnItem();
-            }
-        }, 8000, 15000);
+        itemSpawnTimer = clock.scheduleAtFixedRate(this::spawnItem, 8000, ITEM_SPAWN_INTERVAL_MS);
     }
 
     private void stopItemSpawner() {
@@ -594,17 +1159,19 @@ public class RoomManager {
         itemSpawnTimer = null;
 
         activeItems.clear();
-        itemTypes.clear();
+        itemGrid.clear();
     }
     
-    private void spawnItem() {
+    // 예약 타이머 스레드에서 호출 (아이템 획득과 같은 잠금)
+    private synchronized void spawnItem() {
+        expireItems();
+
         int id = nextItemId++;
 
         int x = random.nextInt(800) + 20;
         int y = random.nextInt(1100) + 20;
 
         Point pos = new Point(x, y);
-        activeItems.put(id, pos);
 
         String type;
         int r = random.nextInt(100);
@@ -615,25 +1182,80 @@ public class RoomManager {
             type = (r < 15) ? "HINT" : "FREEZE";
         }
 
-        itemTypes.put(id, type);
+        ActiveItem item = new ActiveItem(id, pos, type, clock.now() + ITEM_LIFETIME_MS);
+        activeItems.put(id, item);
+        itemGrid.put(item, x, y);
+        logEvent(MatchEvent.ITEM_SPAWN, null, id, x, y, type);
+
+        broadcast(item.spawnPacket());
+    }
+
+    // 수명이 지난 것과 최대 개수를 넘는 것을 오래된 순으로 없앰 (생긴 순서 = 만료 순서)
+    private void expireItems() {
+        long now = clock.now();
+        Iterator<ActiveItem> it = activeItems.values().iterator();
+        while (it.hasNext()) {
+            ActiveItem item = it.next();
+            if (item.expiresAt > now && activeItems.size() < MAX_ACTIVE_ITEMS) break;
+            it.remove();
+            itemGrid.remove(item);
+            logEvent(MatchEvent.ITEM_EXPIRE, null, item.id, 0, 0, item.type);
+            broadcast(new GamePacket(GamePacket.Type.ITEM_REMOVED, item.id));
+        }
+    }
+
+    // 누른 위치에서 가장 가까운 아이템 (같은 거리면 먼저 생긴 것)
+    // 같은 아이템을 여러 명이 누르면 먼저 받은 쪽이 가져가고, 나머지는 그 자리에 아무것도 없게 됨
+    private ActiveItem itemAt(double x, double y) {
+        ActiveItem best = null;
+        double bestDist = 0;
+        for (ActiveItem item : itemGrid.query(x, y, ITEM_PICKUP_RADIUS)) {
+            double dx = item.pos.x - x;
+            double dy = item.pos.y - y;
+            double dist = dx * dx + dy * dy;
+            if (best == null || dist < bestDist || (dist == bestDist && item.id < best.id)) {
+                best = item;
+                bestDist = dist;
+            }
+        }
+        return best;
+    }
 
-        broadcast(new GamePacket(GamePacket.Type.ITEM_SPAWN, id, pos, type));
+    // 이번 라운드 게임판 안의 좌표인지 (클라이언트가 보낸 위치는 그대로 믿지 않음)
+    private boolean isOnBoard(double x, double y) {
+        if (!Double.isFinite(x) || !Double.isFinite(y)) return false;
+        Dimension dim = gameLogic.getOriginalDimension(currentDifficulty, currentRound);
+        if (dim == null) return true;
+        return x >= 0 && y >= 0 && x <= dim.width && y <= dim.height;
     }
 
-    private void handleItemPickup(ClientHandler handler, int itemId) {
-        if (!activeItems.containsKey(itemId)) return;
+    private void handleItemPickup(ClientHandler handler, GamePacket packet) {
+        // 게임판 밖 좌표는 위치가 안 맞은 것과 같이 처리
+        ActiveItem item = isOnBoard(packet.getX(), packet.getY()) ? itemAt(packet.getX(), packet.getY()) : null;
+        if (item == null) {
+            // 클라이언트가 먼저 지운 아이템이 아직 있으면 (위치가 안 맞았을 때) 다시 보여줌
+            ActiveItem claimed = activeItems.get(packet.getItemId());
+            if (claimed != null) handler.sendPacket(claimed.spawnPacket());
+            return;
+        }
 
-        String type = itemTypes.get(itemId);
+        int itemId = item.id;
+        String type = item.type;
+        if (itemId != packet.getItemId()) {
+            ActiveItem claimed = activeItems.get(packet.getItemId());
+            if (claimed != null) handler.sendPacket(claimed.spawnPacket());
+        }
 
         activeItems.remove(itemId);
-        itemTypes.remove(itemId);
+        itemGrid.remove(item);
 
         broadcast(new GamePacket(GamePacket.Type.ITEM_REMOVED, itemId));
 
         String picker = handler.getPlayerName();
+        logEvent(MatchEvent.ITEM_PICKUP, picker, itemId, packet.getX(), packet.getY(), type);
 
         if ("HINT".equals(type)) {
-            handleHintRequest(handler);
+            handleHintRequest(handler, true);
             return;
         }
 
@@ -656,19 +1278,252 @@ public class RoomManager {
         }
     }
 
+    // 새 게임 번호와 랜덤 시드를 정하고 게임 설정을 기록
+    private void startMatchLog() {
+        long seed;
+        if (replaySeed != null) {
+            matchId = replayMatchId;
+            seed = replaySeed;
+            replaySeed = null;
+        } else {
+            matchId = matchLog.newMatchId();
+            seed = new Random().nextLong();
+        }
+        random.setSeed(seed);
+        nextItemId = 0;
+
+        String players = String.join(",", scores.keySet());
+        logEvent(MatchEvent.GAME_START, hostName, 0, 0, 0,
+                roomName + "|" + currentDifficulty + "|" + currentGameMode + "|" + gameType + "|" + seed + "|" + players);
+    }
+
+    private void logEvent(byte type, String player, int value, double x, double y, String text) {
+        long id = (type == MatchEvent.JOIN || type == MatchEvent.LEAVE) && !gameState.equals("IN_GAME") ? 0 : matchId;
+        matchLog.append(new MatchEvent(type, id, clock.now(),
+                player, currentRound, value, x, y, text));
+    }
+
+    // 기록 재생: 기록된 인원이 모두 들어올 수 있게
+    synchronized void setMaxPlayers(int maxPlayers) {
+        this.maxPlayers = Math.min(maxPlayers, MAX_ROOM_CAPACITY);
+    }
+
+    // 기록 재생: 기록된 방장으로 (들어온 순서와 무관하게)
+    synchronized void replayHost(String name) {
+        this.hostName = name;
+    }
+
+    // 기록 재생: 다음 게임 시작 때 기록된 게임 번호와 시드를 그대로 사용
+    synchronized void replayNextMatch(long matchId, long seed) {
+        this.replayMatchId = matchId;
+        this.replaySeed = seed;
+    }
+
+    // 플레이어:점수:찾은 개수,...
+    private String scoreSummary() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Integer> e : scores.entrySet()) {
+            if (sb.length() > 0) sb.append(',');
+            sb.append(e.getKey()).append(':').append(e.getValue()).append(':')
+              .append(totalFoundCounts.getOrDefault(e.getKey(), 0));
+        }
+        return sb.toString();
+    }
+
     private void broadcastLobbyUpdate() {
-        broadcast(new GamePacket(
+        broadcast(buildLobbyUpdate());
+    }
+
+    private GamePacket buildLobbyUpdate() {
+        GamePacket update = new GamePacket(
             GamePacket.Type.LOBBY_UPDATE,
             hostName,
             new ConcurrentHashMap<>(playerReadyStatus),
             currentDifficulty,
             currentGameMode
-        ));
+        );
+        update.setMaxPlayers(maxPlayers);
+        return update;
+    }
+
+    // ===== 큰 방 =====
+
+    private boolean isLargeRoom() {
+        return clients.size() > DIRECT_RELAY_LIMIT;
+    }
+
+    private boolean isFlashRoom() {
+        return "FLASH".equalsIgnoreCase(gameType);
+    }
+
+    // 이번 라운드 게임판 크기 기준으로 불빛 반경을 게임 좌표로
+    private void updateInterestRadius() {
+        Dimension dim = gameLogic.getOriginalDimension(currentDifficulty, currentRound);
+        double scale = (dim != null && dim.width > 0) ? (double) dim.width / BOARD_WIDTH_PX : 1.0;
+        interestRadius = (LIGHT_RADIUS_PX + INTEREST_MARGIN_PX) * scale;
+        interestExitRadius = interestRadius + INTEREST_EXIT_PX * scale;
+        cursorGrid.setCellSize(interestExitRadius);
+    }
+
+    private void removeCursor(String name) {
+        CursorState c = cursors.remove(name);
+        if (c != null) cursorGrid.remove(c);
+    }
+
+    private void updateCursor(String name, int cursorIndex, double x, double y) {
+        CursorState c = cursors.get(name);
+        if (c == null) {
+            c = new CursorState(name, cursorIndex);
+            cursors.put(name, c);
+        }
+        c.x = x;
+        c.y = y;
+        c.movedAt = roomTickSeq + 1;
+        cursorGrid.put(c, x, y);
+        cursorsMoved = true;
+        startRoomTick();
+    }
+
+    private void startRoomTick() {
+        if (roomTick != null) return;
+        roomTick = clock.scheduleBackground(this::onRoomTick, ROOM_TICK_MS, ROOM_TICK_MS);
+    }
+
+    private void stopRoomTick() {
+        if (roomTick != null) roomTick.cancel();
+        roomTick = null;
+        cursors.clear();
+        cursorGrid.clear();
+        cursorViews.clear();
+        cursorsMoved = false;
+        scoreDirty = false;
+    }
+
+    private synchronized void onRoomTick() {
+        // 게임이 끝났거나 멈춘 방은 주기 작업도 정리 (다음 게임에서 다시 시작)
+        if (frozen || clients.isEmpty() || !gameState.equals("IN_GAME")) {
+            stopRoomTick();
+            return;
+        }
+        long tick = ++roomTickSeq;
+
+        if (scoreDirty) {
+            scoreDirty = false;
+            broadcast(buildScorePacket());
+        }
+        if (!cursorsMoved) return;
+        cursorsMoved = false;
+
+        // 경쟁 손전등 모드는 다른 사람 커서를 그리지 않음 (관전자만 받음)
+        boolean flash = isFlashRoom();
+        if (!flash || !"경쟁".equals(currentGameMode)) {
+            for (Map.Entry<String, ClientHandler> e : clients.entrySet()) {
+                String viewer = e.getKey();
+                List<CursorState> near = flash ? litCursors(viewer) : nearestCursors(viewer);
+
+                // 보이는 커서 목록이 바뀌었거나 그중 하나라도 움직였을 때만
+                List<String> names = new ArrayList<>(near.size());
+                boolean moved = false;
+                for (CursorState c : near) {
+                    names.add(c.name);
+                    if (c.movedAt == tick) moved = true;
+                }
+                if (!moved && names.equals(cursorViews.get(viewer))) continue;
+                cursorViews.put(viewer, names);
+                e.getValue().sendPacket(cursorSnapshot(near));
+            }
+        }
+
+        // 관전자는 전체 커서
+        if (!spectators.isEmpty()) spectators.publish(cursorSnapshot(cursors.values()));
+    }
+
+    // 손전등 모드: 내 불빛 반경 + 여유 안의 커서 (이미 보이던 커서는 조금 더 멀어질 때까지 유지), 커서 번호 순
+    private List<CursorState> litCursors(String viewer) {
+        CursorState me = cursors.get(viewer);
+        if (me == null) return Collections.emptyList();
+
+        List<String> shown = cursorViews.getOrDefault(viewer, Collections.emptyList());
+        double enter2 = interestRadius * interestRadius;
+        List<CursorState> lit = new ArrayList<>();
+        for (CursorState c : cursorGrid.query(me.x, me.y, interestExitRadius)) {
+            if (c == me) continue;
+            double dx = c.x - me.x;
+            double dy = c.y - me.y;
+            if (dx * dx + dy * dy <= enter2 || shown.contains(c.name)) lit.add(c);
+        }
+        lit.sort(Comparator.comparingInt(c -> c.cursorIndex));
+        return lit;
+    }
+
+    // 받는 사람 커서에서 가까운 순으로 CURSOR_INTEREST 개 (내 커서 위치를 아직 모르면 먼저 들어온 순)
+    private List<CursorState> nearestCursors(String viewer) {
+        CursorState me = cursors.get(viewer);
+        List<CursorState> others = new ArrayList<>(cursors.size());
+        for (CursorState c : cursors.values()) {
+            if (c != me) others.add(c);
+        }
+        if (CURSOR_INTEREST <= 0 || others.size() <= CURSOR_INTEREST) return others;
+
+        if (me != null) {
+            others.sort(Comparator.comparingDouble(c -> (c.x - me.x) * (c.x - me.x) + (c.y - me.y) * (c.y - me.y)));
+        }
+        return others.subList(0, CURSOR_INTEREST);
+    }
+
+    private static GamePacket cursorSnapshot(Collection<CursorState> list) {
+        List<CursorPosition> positions = new ArrayList<>(list.size());
+        for (CursorState c : list) {
+            positions.add(new CursorPosition(c.name, c.cursorIndex, c.x, c.y));
+        }
+        GamePacket p = new GamePacket(GamePacket.Type.CURSOR_SNAPSHOT, "SERVER", (String) null);
+        p.setCursors(positions);
+        return p;
+    }
+
+    private static class CursorState {
+        final String name;
+        final int cursorIndex;
+        double x;
+        double y;
+        long movedAt;   // 마지막으로 움직인 주기 번호
+
+        CursorState(String name, int cursorIndex) {
+            this.name = name;
+            this.cursorIndex = cursorIndex;
+        }
+    }
+
+    private static class ActiveItem {
+        final int id;
+        final Point pos;
+        final String type;
+        final long expiresAt;
+
+        ActiveItem(int id, Point pos, String type, long expiresAt) {
+            this.id = id;
+            this.pos = pos;
+            this.type = type;
+            this.expiresAt = expiresAt;
+        }
+
+        GamePacket spawnPacket() {
+            return new GamePacket(GamePacket.Type.ITEM_SPAWN, id, pos, type);
+        }
     }
 
     private void broadcast(GamePacket packet) {
+        // 마우스 이동은 재전송할 필요 없음, 나머지는 순번을 붙여 로그에 남김
+        if (packet.getType() != GamePacket.Type.MOUSE_MOVE) {
+            synchronized (eventLog) {
+                packet.setSeq(++eventSeq);
+                eventLog.addLast(packet);
+                if (eventLog.size() > EVENT_LOG_SIZE) eventLog.pollFirst();
+            }
+        }
         for (ClientHandler h : clients.values()) {
             h.sendPacket(packet);
         }
+        spectators.publish(packet);
     }
 }
\ No newline at end of file
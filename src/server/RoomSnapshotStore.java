@@ -0,0 +1,74 @@
+package server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// 드레인 시 방 상태를 파일로 저장하고, 재시작 시 다시 읽어오는 저장소 (방 하나당 파일 하나)
+public class RoomSnapshotStore {
+
+    private static final String SUFFIX = ".room";
+
+    private final File dir;
+
+    public RoomSnapshotStore(File dir) {
+        this.dir = dir;
+    }
+
+    // 임시 파일에 쓰고 이름을 바꿔서, 저장 도중 종료돼도 깨진 파일이 남지 않게 함
+    public void save(RoomManager room) throws IOException {
+        dir.mkdirs();
+        File target = new File(dir, fileName(room.roomName));
+        File tmp = new File(dir, target.getName() + ".tmp");
+
+        try (FileOutputStream fos = new FileOutputStream(tmp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+            room.writeSnapshot(out);
+            out.flush();
+            fos.getFD().sync();
+        }
+        Files.move(tmp.toPath(), target.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 저장된 방을 모두 읽고 파일은 삭제 (한 번만 복원)
+    public List<RoomManager> restoreAll(GameLogic gameLogic, LobbyServer lobbyServer) {
+        List<RoomManager> restored = new ArrayList<>();
+        File[] files = dir.listFiles((d, name) -> name.endsWith(SUFFIX));
+        if (files == null) return restored;
+
+        for (File f : files) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(f)))) {
+                restored.add(RoomManager.readSnapshot(in, gameLogic, lobbyServer));
+            } catch (IOException e) {
+                System.out.println("[스냅샷] " + f.getName() + " 복원 실패: " + e.getMessage());
+            }
+            if (!f.delete()) {
+                System.out.println("[스냅샷] " + f.getName() + " 삭제 실패");
+            }
+        }
+        return restored;
+    }
+
+    // 방 키에 한글/특수문자가 있어도 안전한 파일 이름
+    private static String fileName(String roomKey) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : roomKey.toCharArray()) {
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-') {
+                sb.append(c);
+            } else {
+                sb.append('%').append(Integer.toHexString(c));
+            }
+        }
+        return sb + SUFFIX;
+    }
+}
@@ -0,0 +1,132 @@
+package server;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 2차원 공간 해시: 점을 cellSize 크기의 칸에 나눠 두고, 반경 검색 때 그 반경이 걸치는 칸만 봄
+// 방 잠금 안에서만 사용
+class SpatialHash<T> {
+
+    private final Map<Long, List<T>> cells = new HashMap<>();
+    private final Map<T, Slot> slots = new HashMap<>();
+    private double cellSize;
+
+    SpatialHash(double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    // 칸 크기를 바꾸면 전체를 다시 나눔 (라운드마다 게임판 크기가 바뀔 때)
+    void setCellSize(double cellSize) {
+        if (cellSize <= 0 || cellSize == this.cellSize) return;
+        this.cellSize = cellSize;
+        cells.clear();
+        for (Map.Entry<T, Slot> e : slots.entrySet()) {
+            Slot s = e.getValue();
+            s.cell = cellOf(s.x, s.y);
+            cells.computeIfAbsent(s.cell, k -> new ArrayList<>()).add(e.getKey());
+        }
+    }
+
+    // 새로 넣거나 위치 갱신 (같은 칸 안에서 움직이면 좌표만 바뀜)
+    void put(T item, double x, double y) {
+        long cell = cellOf(x, y);
+        Slot s = slots.get(item);
+        if (s == null) {
+            slots.put(item, new Slot(x, y, cell));
+            cells.computeIfAbsent(cell, k -> new ArrayList<>()).add(item);
+            return;
+        }
+        s.x = x;
+        s.y = y;
+        if (s.cell != cell) {
+            removeFromCell(s.cell, item);
+            s.cell = cell;
+            cells.computeIfAbsent(cell, k -> new ArrayList<>()).add(item);
+        }
+    }
+
+    boolean remove(T item) {
+        Slot s = slots.remove(item);
+        if (s == null) return false;
+        removeFromCell(s.cell, item);
+        return true;
+    }
+
+    void clear() {
+        cells.clear();
+        slots.clear();
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    // (x, y) 에서 radius 안에 있는 것 (순서는 정해져 있지 않음)
+    List<T> query(double x, double y, double radius) {
+        List<T> found = new ArrayList<>();
+        if (!Double.isFinite(x) || !Double.isFinite(y) || !(radius >= 0)) return found;
+
+        double minX = Math.floor((x - radius) / cellSize);
+        double maxX = Math.floor((x + radius) / cellSize);
+        double minY = Math.floor((y - radius) / cellSize);
+        double maxY = Math.floor((y + radius) / cellSize);
+        double r2 = radius * radius;
+
+        // 칸 번호가 int 범위를 벗어나거나 볼 칸이 들어 있는 칸보다 많으면 전체를 한 번 훑음
+        // (이상한 좌표/반경이 들어와도 반복 횟수는 항상 size() 이하)
+        if (minX < Integer.MIN_VALUE || maxX > Integer.MAX_VALUE
+                || minY < Integer.MIN_VALUE || maxY > Integer.MAX_VALUE
+                || (maxX - minX + 1) * (maxY - minY + 1) > Math.max(1, cells.size())) {
+            for (Map.Entry<T, Slot> e : slots.entrySet()) {
+                Slot s = e.getValue();
+                double dx = s.x - x;
+                double dy = s.y - y;
+                if (dx * dx + dy * dy <= r2) found.add(e.getKey());
+            }
+            return found;
+        }
+
+        for (long cx = (long) minX; cx <= (long) maxX; cx++) {
+            for (long cy = (long) minY; cy <= (long) maxY; cy++) {
+                List<T> cell = cells.get(key(cx, cy));
+                if (cell == null) continue;
+                for (T item : cell) {
+                    Slot s = slots.get(item);
+                    double dx = s.x - x;
+                    double dy = s.y - y;
+                    if (dx * dx + dy * dy <= r2) found.add(item);
+                }
+            }
+        }
+        return found;
+    }
+
+    private void removeFromCell(long cell, T item) {
+        List<T> list = cells.get(cell);
+        if (list == null) return;
+        list.remove(item);
+        if (list.isEmpty()) cells.remove(cell);
+    }
+
+    private long cellOf(double x, double y) {
+        return key((long) Math.floor(x / cellSize), (long) Math.floor(y / cellSize));
+    }
+
+    private static long key(long cx, long cy) {
+        return (cx << 32) ^ (cy & 0xffffffffL);
+    }
+
+    private static class Slot {
+        double x;
+        double y;
+        long cell;
+
+        Slot(double x, double y, long cell) {
+            this.x = x;
+            this.y = y;
+            this.cell = cell;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package server;
+
+import model.GamePacket;
+import server.LobbyServer.ClientHandler;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 방 하나의 관전 방송. 방 스레드는 패킷을 넘기기만 하고 (관전자가 없으면 아무 일도 안 함)
+//   방송 스레드(전체 1개): 방송 순서대로 패킷을 한 번만 직렬화해서 관전자별 큐에 넣음 (지연 방송이면 그만큼 늦게)
+//   전송 스레드(풀):       관전자 큐를 비우며 소켓에 씀 (큐가 넘치는 느린 관전자는 끊음)
+// 커서 이동은 보낸 사람별 최신 값만 모아서 일정 간격으로 보냄
+class SpectatorFeed {
+
+    static final int MAX_SPECTATORS = Integer.getInteger("spectator.max", 500);
+    static final long DELAY_MS = Long.getLong("spectator.delay.ms", 0);
+    private static final int VIEWER_QUEUE = 512;
+    private static final long CURSOR_INTERVAL_MS = 50;
+
+    private static final ScheduledExecutorService FANOUT = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "spectator-fanout");
+        t.setDaemon(true);
+        return t;
+    });
+    private static final AtomicInteger writerSeq = new AtomicInteger();
+    private static final ExecutorService WRITERS = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+                Thread t = new Thread(r, "spectator-writer-" + writerSeq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+
+    private static final AtomicLong framesEncoded = new AtomicLong();
+    private static final AtomicLong framesSent = new AtomicLong();
+    private static final AtomicLong viewersDropped = new AtomicLong();
+
+    private final List<Viewer> viewers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger count = new AtomicInteger();   // 합류 대기 중인 관전자 포함
+
+    // 방송 스레드에서만 사용
+    private final Map<String, GamePacket> pendingCursors = new LinkedHashMap<>();
+    private boolean cursorFlushScheduled = false;
+
+    boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    int size() {
+        return count.get();
+    }
+
+    // catchUp: 지금 방 상태 (라운드 시작/찾은 정답/점수 등). 이후 방송과 같은 지연을 거쳐 먼저 도착
+    boolean add(ClientHandler handler, List<GamePacket> catchUp) {
+        if (count.incrementAndGet() > MAX_SPECTATORS) {
+            count.decrementAndGet();
+            return false;
+        }
+        Viewer viewer = new Viewer(handler);
+        handler.watching = viewer;
+        submit(() -> {
+            if (viewer.closed) return;
+            for (GamePacket p : catchUp) {
+                byte[] frame = encode(p);
+                if (frame != null) viewer.offer(frame);
+            }
+            viewers.add(viewer);
+        });
+        return true;
+    }
+
+    void remove(ClientHandler handler) {
+        Viewer viewer = handler.watching;
+        if (viewer != null) viewer.close(false);
+    }
+
+    // 방 스레드에서 호출
+    void publish(GamePacket packet) {
+        if (count.get() == 0) return;
+        if (packet.getType() == GamePacket.Type.MOUSE_MOVE) {
+            submit(() -> coalesceCursor(packet));
+        } else {
+            submit(() -> deliver(packet));
+        }
+    }
+
+    static String stats() {
+        return "직렬화 " + framesEncoded.get() + "건, 전송 " + framesSent.get() + "건, 끊은 관전자 " + viewersDropped.get()
+                + "명, 지연 " + DELAY_MS + "ms";
+    }
+
+    private void submit(Runnable task) {
+        if (DELAY_MS > 0) {
+            FANOUT.schedule(task, DELAY_MS, TimeUnit.MILLISECONDS);
+        } else {
+            FANOUT.execute(task);
+        }
+    }
+
+    private void deliver(GamePacket packet) {
+        if (viewers.isEmpty()) return;
+        byte[] frame = encode(packet);
+        if (frame == null) return;
+        for (Viewer v : viewers) {
+            v.offer(frame);
+        }
+    }
+
+    private void coalesceCursor(GamePacket packet) {
+        pendingCursors.put(packet.getSender(), packet);
+        if (cursorFlushScheduled) return;
+        cursorFlushScheduled = true;
+        FANOUT.schedule(this::flushCursors, CURSOR_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void flushCursors() {
+        cursorFlushScheduled = false;
+        for (GamePacket p : pendingCursors.values()) {
+            deliver(p);
+        }
+        pendingCursors.clear();
+    }
+
+    private static byte[] encode(GamePacket packet) {
+        try {
+            byte[] frame = packet.toFrame();
+            framesEncoded.incrementAndGet();
+            return frame;
+        } catch (IOException e) {
+            System.out.println("[관전] 패킷 직렬화 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    class Viewer implements Runnable {
+        private final ClientHandler handler;
+        private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(VIEWER_QUEUE);
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        private volatile boolean closed = false;
+
+        Viewer(ClientHandler handler) {
+            this.handler = handler;
+        }
+
+        void offer(byte[] frame) {
+            if (closed) return;
+            if (!queue.offer(frame)) {
+                // 못 따라오는 관전자 하나 때문에 다른 관전자가 밀리지 않도록 끊음
+                System.out.println("[관전] " + handler.getPlayerName() + " 전송이 밀려 연결을 끊습니다.");
+                close(true);
+                return;
+            }
+            if (scheduled.compareAndSet(false, true)) WRITERS.execute(this);
+        }
+
+        @Override
+        public void run() {
+            byte[] frame;
+            while (!closed && (frame = queue.poll()) != null) {
+                if (!handler.sendFrame(frame)) {
+                    close(true);
+                    return;
+                }
+                framesSent.incrementAndGet();
+            }
+            scheduled.set(false);
+            // 비우는 사이 새로 들어온 것
+            if (!closed && !queue.isEmpty() && scheduled.compareAndSet(false, true)) WRITERS.execute(this);
+        }
+
+        void close(boolean drop) {
+            closed = true;
+            queue.clear();
+            viewers.remove(this);
+            if (!released.compareAndSet(false, true)) return;
+            count.decrementAndGet();
+            if (drop) {
+                viewersDropped.incrementAndGet();
+                // 소켓을 닫으면 관전자 스레드가 끝나면서 정리됨
+                handler.closeSocket();
+            }
+        }
+    }
+}
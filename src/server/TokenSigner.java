@@ -0,0 +1,83 @@
+package server;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+// 토큰 서명: <만료 시각>.<HMAC(대상|만료 시각)>
+// 게이트웨이 뒤의 노드들이 같은 키 파일을 쓰면 어느 노드에서 발급한 토큰이든 모든 노드에서 확인 가능
+class TokenSigner {
+
+    private final byte[] key;
+
+    TokenSigner(byte[] key) {
+        this.key = key;
+    }
+
+    // 키 파일이 없으면 새로 만듦
+    static TokenSigner loadOrCreate(File file) throws IOException {
+        if (file.isFile()) return new TokenSigner(Files.readAllBytes(file.toPath()));
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) parent.mkdirs();
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        Files.write(file.toPath(), key);
+        return new TokenSigner(key);
+    }
+
+    // 용도별 키 (다른 용도로 발급한 토큰이 서로 통하지 않도록)
+    TokenSigner derive(String purpose) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return new TokenSigner(mac.doFinal(purpose.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new RuntimeException("키 생성 실패", e);
+        }
+    }
+
+    String issue(String subject, long ttlMs) {
+        long expiry = System.currentTimeMillis() + ttlMs;
+        return expiry + "." + sign(subject + "|" + expiry);
+    }
+
+    // 서명과 만료만 확인 (대상이 실제로 있는지는 부르는 쪽에서)
+    boolean verify(String subject, String token) {
+        if (subject == null || token == null) return false;
+        int dot = token.indexOf('.');
+        if (dot <= 0) return false;
+        long expiry;
+        try {
+            expiry = Long.parseLong(token.substring(0, dot));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (expiry < System.currentTimeMillis()) return false;
+        byte[] expected = sign(subject + "|" + expiry).getBytes(StandardCharsets.UTF_8);
+        byte[] actual = token.substring(dot + 1).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private String sign(String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return toHex(mac.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new RuntimeException("토큰 서명 실패", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package server;
+
+import java.util.PriorityQueue;
+
+// 기록 재생용 가상 시계: 실제로 기다리지 않고, 시각을 앞으로 옮길 때 그 사이 예약 작업을 순서대로 실행
+// 배경 작업(scheduleBackground)도 같은 순서로 실행하지만 nextDueTime/runNext 는 게임 진행 작업만 기준으로 함
+// 한 스레드에서만 사용
+class VirtualClock implements RoomClock {
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>((a, b) ->
+            a.due != b.due ? Long.compare(a.due, b.due) : Long.compare(a.seq, b.seq));
+    private long now;
+    private long seq = 0;
+
+    VirtualClock(long start) {
+        this.now = start;
+    }
+
+    @Override
+    public long now() {
+        return now;
+    }
+
+    @Override
+    public Cancellable schedule(Runnable task, long delayMs) {
+        return add(task, delayMs, 0);
+    }
+
+    @Override
+    public Cancellable scheduleAtFixedRate(Runnable task, long delayMs, long periodMs) {
+        return add(task, delayMs, periodMs);
+    }
+
+    @Override
+    public Cancellable scheduleBackground(Runnable task, long delayMs, long periodMs) {
+        Entry e = new Entry(task, now + delayMs, periodMs, seq++);
+        e.background = true;
+        queue.add(e);
+        return () -> e.cancelled = true;
+    }
+
+    // 다음 게임 진행 작업 시각 (없으면 Long.MAX_VALUE, 배경 작업은 제외)
+    long nextDueTime() {
+        long due = Long.MAX_VALUE;
+        for (Entry e : queue) {
+            if (!e.cancelled && !e.background && e.due < due) due = e.due;
+        }
+        return due;
+    }
+
+    // 가장 이른 게임 진행 작업 하나를 그 시각으로 옮겨 실행 (그 전에 예약된 배경 작업도 순서대로), 없으면 false
+    boolean runNext() {
+        while (nextDueTime() != Long.MAX_VALUE) {
+            if (!pollAndRun().background) return true;
+        }
+        return false;
+    }
+
+    // time 까지의 예약 작업을 모두 실행하고 시각을 time 으로
+    void advanceTo(long time) {
+        while (true) {
+            dropCancelled();
+            Entry head = queue.peek();
+            if (head == null || head.due > time) break;
+            pollAndRun();
+        }
+        now = Math.max(now, time);
+    }
+
+    private Entry pollAndRun() {
+        dropCancelled();
+        Entry e = queue.poll();
+        now = Math.max(now, e.due);
+        if (e.period > 0) {
+            // 작업 안에서 스스로 취소할 수 있도록 실행 전에 다음 회차 예약
+            e.due += e.period;
+            e.seq = seq++;
+            queue.add(e);
+        }
+        e.task.run();
+        return e;
+    }
+
+    private Cancellable add(Runnable task, long delayMs, long periodMs) {
+        Entry e = new Entry(task, now + delayMs, periodMs, seq++);
+        queue.add(e);
+        return () -> e.cancelled = true;
+    }
+
+    private void dropCancelled() {
+        while (!queue.isEmpty() && queue.peek().cancelled) {
+            queue.poll();
+        }
+    }
+
+    private static class Entry {
+        final Runnable task;
+        final long period;
+        long due;
+        long seq;
+        boolean cancelled = false;
+        boolean background = false;
+
+        Entry(Runnable task, long due, long period, long seq) {
+            this.task = task;
+            this.due = due;
+            this.period = period;
+            this.seq = seq;
+        }
+    }
+}